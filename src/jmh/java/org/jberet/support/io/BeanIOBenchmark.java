@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.context.JobContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link BeanIOItemReader} and {@link BeanIOItemWriter}, with a generated BeanIO mapping of
+ * csv format.
+ */
+public class BeanIOBenchmark extends ReaderWriterBenchmarkBase {
+    private static final String STREAM_NAME = "benchmark";
+
+    private final JobContext jobContext = new BenchmarkJobContext();
+
+    private String streamMapping;
+
+    private String beanIOResource;
+
+    @Override
+    protected void prepare() throws Exception {
+        streamMapping = path("mapping.xml");
+        try (Writer w = new OutputStreamWriter(new FileOutputStream(new File(streamMapping)), StandardCharsets.UTF_8)) {
+            w.write("<beanio xmlns=\"http://www.beanio.org/2012/03\">\n");
+            w.write("  <stream name=\"" + STREAM_NAME + "\" format=\"csv\">\n");
+            w.write("    <record name=\"row\" class=\"map\">\n");
+            for (int c = 0; c < columns; c++) {
+                final String type = c % 3 == 0 ? "int" : c % 3 == 1 ? "double" : "string";
+                w.write("      <field name=\"" + header[c] + "\" type=\"" + type + "\"/>\n");
+            }
+            w.write("    </record>\n  </stream>\n</beanio>\n");
+        }
+        beanIOResource = path("input.txt");
+        writeAll(newBeanIOItemWriter(beanIOResource));
+    }
+
+    @Benchmark
+    public int beanIOItemReader(final Blackhole bh) throws Exception {
+        final BeanIOItemReader reader = new BeanIOItemReader();
+        reader.resource = beanIOResource;
+        reader.streamName = STREAM_NAME;
+        reader.streamMapping = streamMapping;
+        reader.jobContext = jobContext;
+        reader.skipBeanValidation = true;
+        return readAll(reader, bh);
+    }
+
+    @Benchmark
+    public void beanIOItemWriter() throws Exception {
+        writeAll(newBeanIOItemWriter(path("beanIOItemWriter.out")));
+    }
+
+    private BeanIOItemWriter newBeanIOItemWriter(final String resource) {
+        final BeanIOItemWriter writer = new BeanIOItemWriter();
+        writer.resource = resource;
+        writer.writeMode = CsvProperties.OVERWRITE;
+        writer.streamName = STREAM_NAME;
+        writer.streamMapping = streamMapping;
+        writer.jobContext = jobContext;
+        return writer;
+    }
+
+    /**
+     * A {@code JobContext} to identify the cached BeanIO {@code StreamFactory}.
+     */
+    private static final class BenchmarkJobContext implements JobContext {
+        private Object transientUserData;
+
+        private String exitStatus;
+
+        @Override
+        public String getJobName() {
+            return BeanIOBenchmark.class.getSimpleName();
+        }
+
+        @Override
+        public Object getTransientUserData() {
+            return transientUserData;
+        }
+
+        @Override
+        public void setTransientUserData(final Object data) {
+            transientUserData = data;
+        }
+
+        @Override
+        public long getInstanceId() {
+            return 0;
+        }
+
+        @Override
+        public long getExecutionId() {
+            return 0;
+        }
+
+        @Override
+        public Properties getProperties() {
+            return new Properties();
+        }
+
+        @Override
+        public BatchStatus getBatchStatus() {
+            return BatchStatus.STARTED;
+        }
+
+        @Override
+        public String getExitStatus() {
+            return exitStatus;
+        }
+
+        @Override
+        public void setExitStatus(final String status) {
+            exitStatus = status;
+        }
+    }
+}
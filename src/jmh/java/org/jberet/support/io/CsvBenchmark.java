@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link CsvItemReader}, {@link CsvItemWriter}, {@link JacksonCsvItemReader} and
+ * {@link JacksonCsvItemWriter}.
+ */
+public class CsvBenchmark extends ReaderWriterBenchmarkBase {
+    private String csvResource;
+
+    @Override
+    protected void prepare() throws Exception {
+        csvResource = path("input.csv");
+        writeAll(newCsvItemWriter(csvResource));
+    }
+
+    @Benchmark
+    public int csvItemReader(final Blackhole bh) throws Exception {
+        final CsvItemReader reader = new CsvItemReader();
+        reader.resource = csvResource;
+        reader.beanType = Map.class;
+        reader.skipBeanValidation = true;
+        return readAll(reader, bh);
+    }
+
+    @Benchmark
+    public void csvItemWriter() throws Exception {
+        writeAll(newCsvItemWriter(path("csvItemWriter.out")));
+    }
+
+    @Benchmark
+    public int jacksonCsvItemReader(final Blackhole bh) throws Exception {
+        final JacksonCsvItemReader reader = new JacksonCsvItemReader();
+        reader.resource = csvResource;
+        reader.beanType = Map.class;
+        reader.useHeader = true;
+        reader.skipBeanValidation = true;
+        return readAll(reader, bh);
+    }
+
+    @Benchmark
+    public void jacksonCsvItemWriter() throws Exception {
+        final JacksonCsvItemWriter writer = new JacksonCsvItemWriter();
+        writer.resource = path("jacksonCsvItemWriter.out");
+        writer.writeMode = CsvProperties.OVERWRITE;
+        writer.beanType = Map.class;
+        writer.columns = String.join(",", header);
+        writer.useHeader = true;
+        writeAll(writer);
+    }
+
+    private CsvItemWriter newCsvItemWriter(final String resource) {
+        final CsvItemWriter writer = new CsvItemWriter();
+        writer.resource = resource;
+        writer.writeMode = CsvProperties.OVERWRITE;
+        writer.beanType = Map.class;
+        writer.header = header;
+        return writer;
+    }
+}
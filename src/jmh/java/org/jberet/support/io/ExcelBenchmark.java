@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link ExcelUserModelItemReader}, {@link ExcelStreamingItemReader}, {@link ExcelEventItemReader},
+ * {@link ExcelUserModelItemWriter} and {@link ExcelStreamingItemWriter}. {@link ExcelEventItemReader} reads
+ * binary Excel (.xls) files, which cannot have more than 65536 rows.
+ * <p>
+ * Readers read rows either into {@code java.util.Map}, or into {@link Item} beans, as selected by {@link #beanType}.
+ */
+public class ExcelBenchmark extends ReaderWriterBenchmarkBase {
+    /**
+     * The type of data items read by reader benchmarks: {@code map} for {@code java.util.Map}, or {@code bean} for
+     * {@link Item}.
+     */
+    @Param({"map", "bean"})
+    public String beanType;
+
+    private String xlsxResource;
+
+    private String xlsResource;
+
+    @Override
+    protected void prepare() throws Exception {
+        xlsxResource = path("input.xlsx");
+        writeAll(newExcelWriter(new ExcelStreamingItemWriter(), xlsxResource));
+        xlsResource = path("input.xls");
+        writeAll(newExcelWriter(new ExcelUserModelItemWriter(), xlsResource));
+    }
+
+    @Benchmark
+    public int excelUserModelItemReader(final Blackhole bh) throws Exception {
+        return readAll(newExcelReader(new ExcelUserModelItemReader(), xlsxResource), bh);
+    }
+
+    @Benchmark
+    public int excelStreamingItemReader(final Blackhole bh) throws Exception {
+        return readAll(newExcelReader(new ExcelStreamingItemReader(), xlsxResource), bh);
+    }
+
+    /**
+     * Reads the last 1000 rows, positioning to the start row by scanning the raw bytes of the sheet part.
+     */
+    @Benchmark
+    public int excelStreamingItemReaderStartRow(final Blackhole bh) throws Exception {
+        final int count = Math.min(1000, rows);
+        final ExcelStreamingItemReader reader = newExcelReader(new ExcelStreamingItemReader(), xlsxResource);
+        reader.start = rows - count + 1;
+        reader.open(null);
+        int n = 0;
+        try {
+            Object item;
+            while ((item = reader.readItem()) != null) {
+                bh.consume(item);
+                n++;
+            }
+        } finally {
+            reader.close();
+        }
+        if (n != count) {
+            throw new IllegalStateException("Read " + n + " items from row " + reader.start + ", expecting " + count);
+        }
+        return n;
+    }
+
+    @Benchmark
+    public int excelEventItemReader(final Blackhole bh) throws Exception {
+        return readAll(newExcelReader(new ExcelEventItemReader(), xlsResource), bh);
+    }
+
+    @Benchmark
+    public void excelUserModelItemWriter() throws Exception {
+        writeAll(newExcelWriter(new ExcelUserModelItemWriter(), path("excelUserModelItemWriter.xlsx")));
+    }
+
+    @Benchmark
+    public void excelStreamingItemWriter() throws Exception {
+        writeAll(newExcelWriter(new ExcelStreamingItemWriter(), path("excelStreamingItemWriter.xlsx")));
+    }
+
+    private <T extends ExcelUserModelItemReader> T newExcelReader(final T reader, final String resource) {
+        reader.resource = resource;
+        reader.beanType = "bean".equals(beanType) ? Item.class : Map.class;
+        reader.headerRow = 0;
+        reader.start = 1;
+        reader.skipBeanValidation = true;
+        return reader;
+    }
+
+    private <T extends ExcelUserModelItemWriter> T newExcelWriter(final T writer, final String resource) {
+        writer.resource = resource;
+        writer.writeMode = CsvProperties.OVERWRITE;
+        writer.beanType = Map.class;
+        writer.header = header;
+        return writer;
+    }
+
+    /**
+     * A bean for the first 10 columns of the data set written by {@link ReaderWriterBenchmarkBase#setUp()}. Numeric
+     * cells are read as {@code double}, since Excel stores all numbers as floating point. Any other columns are
+     * ignored.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Item {
+        public double c0;
+        public double c1;
+        public String c2;
+        public double c3;
+        public double c4;
+        public String c5;
+        public double c6;
+        public double c7;
+        public String c8;
+        public double c9;
+    }
+}
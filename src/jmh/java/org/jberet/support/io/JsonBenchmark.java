@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link JsonItemReader} and {@link JsonItemWriter}.
+ */
+public class JsonBenchmark extends ReaderWriterBenchmarkBase {
+    private String jsonResource;
+
+    @Override
+    protected void prepare() throws Exception {
+        jsonResource = path("input.json");
+        writeAll(newJsonItemWriter(jsonResource));
+    }
+
+    @Benchmark
+    public int jsonItemReader(final Blackhole bh) throws Exception {
+        final JsonItemReader reader = new JsonItemReader();
+        reader.resource = jsonResource;
+        reader.beanType = Map.class;
+        reader.skipBeanValidation = true;
+        return readAll(reader, bh);
+    }
+
+    @Benchmark
+    public void jsonItemWriter() throws Exception {
+        writeAll(newJsonItemWriter(path("jsonItemWriter.out")));
+    }
+
+    private static JsonItemWriter newJsonItemWriter(final String resource) {
+        final JsonItemWriter writer = new JsonItemWriter();
+        writer.resource = resource;
+        writer.writeMode = CsvProperties.OVERWRITE;
+        return writer;
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.batch.api.chunk.ItemReader;
+import jakarta.batch.api.chunk.ItemWriter;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Base class of JMH benchmarks for item readers and writers. Each benchmark operation reads or writes a whole
+ * data set of {@link #rows} rows and {@link #columns} columns, by calling {@code open}, {@code readItem} or
+ * {@code writeItems}, and {@code close} directly on the reader or writer, without running a job.
+ * <p>
+ * Data items are {@code java.util.Map} with keys {@code c0, c1, ...}, and values of type {@code Integer},
+ * {@code Double} and {@code String} in turn. Input files for reader benchmarks are generated in
+ * {@link #prepare()} by the corresponding writers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public abstract class ReaderWriterBenchmarkBase {
+    /**
+     * The number of rows in the data set.
+     */
+    @Param("10000")
+    public int rows;
+
+    /**
+     * The number of columns in each row.
+     */
+    @Param("10")
+    public int columns;
+
+    /**
+     * The number of items passed to each {@code writeItems} call.
+     */
+    @Param("100")
+    public int chunkSize;
+
+    protected List<Object> items;
+
+    protected String[] header;
+
+    protected File dir;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        header = new String[columns];
+        for (int c = 0; c < columns; c++) {
+            header[c] = "c" + c;
+        }
+        items = new ArrayList<Object>(rows);
+        for (int r = 0; r < rows; r++) {
+            final Map<String, Object> item = new LinkedHashMap<String, Object>();
+            for (int c = 0; c < columns; c++) {
+                switch (c % 3) {
+                    case 0:
+                        item.put(header[c], r * columns + c);
+                        break;
+                    case 1:
+                        item.put(header[c], r + c / 100.0);
+                        break;
+                    default:
+                        item.put(header[c], "value-" + r + "-" + c);
+                }
+            }
+            items.add(item);
+        }
+        dir = Files.createTempDirectory(getClass().getSimpleName()).toFile();
+        prepare();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        final File[] files = dir.listFiles();
+        if (files != null) {
+            for (final File f : files) {
+                f.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    /**
+     * Generates input files for reader benchmarks.
+     *
+     * @throws Exception if failed to generate input files
+     */
+    protected abstract void prepare() throws Exception;
+
+    /**
+     * Gets the path of a file in the temporary directory of this benchmark.
+     *
+     * @param name file name
+     * @return file path
+     */
+    protected String path(final String name) {
+        return new File(dir, name).getPath();
+    }
+
+    /**
+     * Reads all items with {@code reader}, and checks that all {@link #rows} items are read.
+     *
+     * @param reader the reader, already configured
+     * @param bh the blackhole to consume items
+     * @return the number of items read
+     * @throws Exception if failed to read
+     */
+    protected int readAll(final ItemReader reader, final Blackhole bh) throws Exception {
+        int count = 0;
+        reader.open(null);
+        try {
+            Object item;
+            while ((item = reader.readItem()) != null) {
+                bh.consume(item);
+                count++;
+            }
+        } finally {
+            reader.close();
+        }
+        if (count != rows) {
+            throw new IllegalStateException(reader.getClass().getSimpleName() + " read " + count + " items, expecting " + rows);
+        }
+        return count;
+    }
+
+    /**
+     * Writes all items with {@code writer}, {@link #chunkSize} items at a time.
+     *
+     * @param writer the writer, already configured
+     * @throws Exception if failed to write
+     */
+    protected void writeAll(final ItemWriter writer) throws Exception {
+        writer.open(null);
+        try {
+            for (int i = 0; i < rows; i += chunkSize) {
+                writer.writeItems(items.subList(i, Math.min(i + chunkSize, rows)));
+            }
+        } finally {
+            writer.close();
+        }
+    }
+}
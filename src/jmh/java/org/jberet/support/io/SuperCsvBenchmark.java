@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.io.CsvBeanReader;
+import org.supercsv.io.ICsvBeanReader;
+import org.supercsv.io.ICsvListReader;
+import org.supercsv.prefs.CsvPreference;
+
+/**
+ * Benchmarks for the supercsv readers used by {@link CsvItemReader}, reading from an in-memory string without
+ * running a job. Bean population compares supercsv {@code CsvBeanReader}, which looks up setters for every cell
+ * and invokes them with reflection, with {@link FastForwardCsvBeanReader}, which resolves the constructor and
+ * setters into method handles once, by reading {@link Person} beans with 37 columns from rows of fake-person.csv.
+ * List tokenizers compare {@link FastForwardCsvListReader}, which uses supercsv tokenizer, with
+ * {@link CharBufferCsvListReader}, which parses numeric columns from its {@code char} buffer, by reading
+ * generated stock trade rows in the same format as IBM_unadjusted.txt.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class SuperCsvBenchmark {
+    /**
+     * The number of rows in each data set.
+     */
+    @Param("100000")
+    public int rows;
+
+    private String personData;
+
+    private String[] personColumns;
+
+    private CellProcessor[] personProcessors;
+
+    private final CsvPreference personPreference = new CsvPreference.Builder('|', ',', "\n").build();
+
+    private String stockTradeData;
+
+    private CellProcessor[] stockTradeProcessors;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        final String[] personRows = CsvItemReaderWriterTest.getPersonDataRows().split("\n");
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            sb.append(personRows[i % personRows.length]).append('\n');
+        }
+        personData = sb.toString();
+        personColumns = CsvItemReaderWriterTest.nameMapping.split(",\\s*");
+        personProcessors = CellProcessorConfig.parseCellProcessors(
+                "ParseLong; null; null; null; ParseChar; null; null; null; null; null; null; null; null; null; " +
+                "null; null; null; ParseDate('MM/dd/yyyy'); null; null; null; null; null; null; null; null; " +
+                "null; null; null; null; ParseBigDecimal('en_us'); ParseBigDecimal; null; ParseInt; null; " +
+                "ParseDouble; ParseDouble");
+
+        stockTradeData = CsvItemReaderWriterTest.getStockTradeRows(rows);
+        stockTradeProcessors = CellProcessorConfig.parseCellProcessors(
+                "ParseDate('MM/dd/yyyy'); null; ParseDouble; ParseDouble; ParseDouble; ParseDouble; ParseLong");
+    }
+
+    @Benchmark
+    public int csvBeanReader(final Blackhole bh) throws Exception {
+        return readBeans(new CsvBeanReader(new StringReader(personData), personPreference), bh);
+    }
+
+    @Benchmark
+    public int fastForwardCsvBeanReader(final Blackhole bh) throws Exception {
+        final FastForwardCsvBeanReader reader =
+                new FastForwardCsvBeanReader(new StringReader(personData), personPreference, 0);
+        reader.compile(Person.class, personColumns);
+        return readBeans(reader, bh);
+    }
+
+    @Benchmark
+    public int fastForwardCsvListReader(final Blackhole bh) throws Exception {
+        return readLists(new FastForwardCsvListReader(
+                new StringReader(stockTradeData), CsvPreference.STANDARD_PREFERENCE, 0), bh);
+    }
+
+    @Benchmark
+    public int charBufferCsvListReader(final Blackhole bh) throws Exception {
+        return readLists(new CharBufferCsvListReader(
+                new StringReader(stockTradeData), CsvPreference.STANDARD_PREFERENCE, 0), bh);
+    }
+
+    private int readBeans(final ICsvBeanReader reader, final Blackhole bh) throws Exception {
+        int count = 0;
+        try {
+            Object bean;
+            while ((bean = reader.read(Person.class, personColumns, personProcessors)) != null) {
+                bh.consume(bean);
+                count++;
+            }
+        } finally {
+            reader.close();
+        }
+        if (count != rows) {
+            throw new IllegalStateException(reader.getClass().getSimpleName() + " read " + count + " beans, expecting " + rows);
+        }
+        return count;
+    }
+
+    private int readLists(final ICsvListReader reader, final Blackhole bh) throws Exception {
+        int count = 0;
+        try {
+            Object row;
+            while ((row = reader.read(stockTradeProcessors)) != null) {
+                bh.consume(row);
+                count++;
+            }
+        } finally {
+            reader.close();
+        }
+        if (count != rows) {
+            throw new IllegalStateException(reader.getClass().getSimpleName() + " read " + count + " rows, expecting " + rows);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link XmlItemReader} and {@link XmlItemWriter}.
+ */
+public class XmlBenchmark extends ReaderWriterBenchmarkBase {
+    private String xmlResource;
+
+    @Override
+    protected void prepare() throws Exception {
+        xmlResource = path("input.xml");
+        writeAll(newXmlItemWriter(xmlResource));
+    }
+
+    @Benchmark
+    public int xmlItemReader(final Blackhole bh) throws Exception {
+        final XmlItemReader reader = new XmlItemReader();
+        reader.resource = xmlResource;
+        reader.beanType = Map.class;
+        reader.skipBeanValidation = true;
+        return readAll(reader, bh);
+    }
+
+    @Benchmark
+    public void xmlItemWriter() throws Exception {
+        writeAll(newXmlItemWriter(path("xmlItemWriter.out")));
+    }
+
+    private static XmlItemWriter newXmlItemWriter(final String resource) {
+        final XmlItemWriter writer = new XmlItemWriter();
+        writer.resource = resource;
+        writer.writeMode = CsvProperties.OVERWRITE;
+        writer.rootElementName = "items";
+        return writer;
+    }
+}
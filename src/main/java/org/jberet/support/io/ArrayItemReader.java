@@ -91,4 +91,15 @@ public class ArrayItemReader extends JsonItemReader {
         SupportLogger.LOGGER.tracef("Read type %s, value %s%n", obj.getClass(), obj);
         return obj;
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * All values are read into memory in {@link #open(Serializable)}, so the checkpoint info of this reader is the
+     * index of the next value, instead of a byte offset in the resource.
+     */
+    @Override
+    public Serializable checkpointInfo() throws Exception {
+        return rowNumber;
+    }
 }
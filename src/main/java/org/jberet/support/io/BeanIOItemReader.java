@@ -57,6 +57,17 @@ public class BeanIOItemReader extends BeanIOItemReaderWriterBase implements Item
     @BatchProperty
     protected int end;
 
+    /**
+     * The number of data items to read ahead in a background thread. Optional property, and defaults to 0, i.e., no
+     * read-ahead.
+     *
+     * @see CsvItemReader#readAhead
+     * @since 3.0.1
+     */
+    @Inject
+    @BatchProperty
+    protected int readAhead;
+
     /**
      * A class implementing {@link org.beanio.BeanReaderErrorHandler} for handling exceptions thrown by a
      * {@link BeanReader}.
@@ -74,6 +85,7 @@ public class BeanIOItemReader extends BeanIOItemReaderWriterBase implements Item
 
     private BeanReader beanReader;
     protected int currentPosition;
+    private ReadAheadQueue readAheadQueue;
 
     @Override
     public void open(final Serializable checkpoint) throws Exception {
@@ -94,7 +106,7 @@ public class BeanIOItemReader extends BeanIOItemReaderWriterBase implements Item
 
         mappingFileKey = new StreamFactoryKey(jobContext, streamMapping);
         final StreamFactory streamFactory = getStreamFactory(streamFactoryLookup, mappingFileKey, mappingProperties);
-        final InputStream inputStream = getInputStream(resource, false);
+        final InputStream inputStream = openInputStream(false);
         final Reader inputReader = charset == null ? new InputStreamReader(inputStream) :
                 new InputStreamReader(inputStream, charset);
         beanReader = streamFactory.createReader(streamName, new BufferedReader(inputReader), LocaleUtil.parseLocale(locale));
@@ -110,6 +122,22 @@ public class BeanIOItemReader extends BeanIOItemReaderWriterBase implements Item
 
     @Override
     public Object readItem() throws Exception {
+        if (readAhead > 0) {
+            if (readAheadQueue == null) {
+                readAheadQueue = new ReadAheadQueue(readAhead, this::readItem0, this::checkpointInfo0,
+                        getClass().getSimpleName());
+            }
+            return readAheadQueue.next();
+        }
+        return readItem0();
+    }
+
+    @Override
+    public Serializable checkpointInfo() throws Exception {
+        return readAheadQueue == null ? checkpointInfo0() : readAheadQueue.checkpointInfo();
+    }
+
+    private Object readItem0() throws Exception {
         if (++currentPosition > end) {
             return null;
         }
@@ -120,13 +148,16 @@ public class BeanIOItemReader extends BeanIOItemReaderWriterBase implements Item
         return readValue;
     }
 
-    @Override
-    public Serializable checkpointInfo() throws Exception {
+    private Serializable checkpointInfo0() throws Exception {
         return currentPosition;
     }
 
     @Override
     public void close() throws Exception {
+        if (readAheadQueue != null) {
+            readAheadQueue.close();
+            readAheadQueue = null;
+        }
         if (beanReader != null) {
             beanReader.close();
             beanReader = null;
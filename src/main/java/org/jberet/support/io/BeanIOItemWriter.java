@@ -11,10 +11,13 @@
 package org.jberet.support.io;
 
 import java.io.BufferedWriter;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
 import java.io.Serializable;
 import java.io.Writer;
+import java.nio.channels.FileChannel;
 import java.util.List;
 
 import org.beanio.BeanWriter;
@@ -32,6 +35,12 @@ import jakarta.inject.Named;
  * dynamic BeanIO mapping properties, which are specified in job xml, injected into this class, and can be referenced
  * in BeanIO mapping file. {@link org.jberet.support.io.BeanIOItemWriter} configurations are specified as
  * reader properties in job xml, and BeanIO mapping xml file.
+ * <p>
+ * For record-oriented formats (e.g., fixed length, CSV, delimited), the checkpoint info of this writer is an
+ * {@link OffsetCheckpoint}, which contains the byte offset of data flushed to the resource at the end of each chunk.
+ * During a restart, the resource is truncated to that offset, and the remaining records are written after it.
+ * For XML format, no checkpoint info is saved, and the resource is written according to {@link #writeMode}
+ * during a restart.
  *
  * @see     BeanIOItemReaderWriterBase
  * @see     BeanIOItemReader
@@ -50,12 +59,41 @@ public class BeanIOItemWriter extends BeanIOItemReaderWriterBase implements Item
     @Inject
     @BatchProperty
     protected String writeMode;
-    
+
+    /**
+     * The file channel of the resource, used to get the byte offset for checkpoint info, or null if not available.
+     */
+    private FileChannel outputChannel;
+
+    /**
+     * The byte offset in the resource where this execution starts writing.
+     */
+    private long outputStart;
+
+    /**
+     * Whether data written in this execution is known to be in a record-oriented format, or null if not known yet.
+     */
+    private Boolean recordOriented;
+
+    /**
+     * The number of items written, including those written before the checkpoint in previous executions.
+     */
+    private int itemCount;
+
     @Override
     public void open(final Serializable checkpoint) throws Exception {
         mappingFileKey = new StreamFactoryKey(jobContext, streamMapping);
         final StreamFactory streamFactory = getStreamFactory(streamFactoryLookup, mappingFileKey, mappingProperties);
-        final OutputStream outputStream = getOutputStream(writeMode==null ? CsvProperties.OVERWRITE : writeMode);
+        final OutputStream outputStream = getOutputStream(writeMode==null ? CsvProperties.OVERWRITE : writeMode, checkpoint);
+        outputChannel = getFileChannel(outputStream);
+        if (outputChannel != null) {
+            outputStream.flush();
+            outputStart = outputChannel.position();
+        }
+        if (checkpoint instanceof OffsetCheckpoint) {
+            itemCount = ((OffsetCheckpoint) checkpoint).getRowNumber();
+            recordOriented = Boolean.TRUE;
+        }
         final Writer outputWriter = charset == null ? new OutputStreamWriter(outputStream) :
                 new OutputStreamWriter(outputStream, charset);
         beanWriter = streamFactory.createWriter(streamName, new BufferedWriter(outputWriter));
@@ -66,11 +104,21 @@ public class BeanIOItemWriter extends BeanIOItemReaderWriterBase implements Item
         for (final Object e : items) {
             beanWriter.write(e);
         }
+        beanWriter.flush();
+        itemCount += items.size();
     }
 
     @Override
     public Serializable checkpointInfo() throws Exception {
-        return null;
+        if (outputChannel == null) {
+            return null;
+        }
+        beanWriter.flush();
+        final long position = outputChannel.position();
+        if (recordOriented == null && position > outputStart) {
+            recordOriented = !startsWithMarkup();
+        }
+        return recordOriented == Boolean.FALSE ? null : new OffsetCheckpoint(itemCount, position);
     }
 
     @Override
@@ -79,6 +127,21 @@ public class BeanIOItemWriter extends BeanIOItemReaderWriterBase implements Item
             beanWriter.close();
             beanWriter = null;
             mappingFileKey = null;
+            outputChannel = null;
+        }
+    }
+
+    /**
+     * Checks if the data written in this execution starts with XML markup, which cannot be resumed in the middle
+     * of the document after a restart.
+     *
+     * @return true if the first byte written in this execution is {@code <}
+     * @throws IOException if failed to read the resource
+     */
+    private boolean startsWithMarkup() throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(resource, "r")) {
+            raf.seek(outputStart);
+            return raf.read() == '<';
         }
     }
 }
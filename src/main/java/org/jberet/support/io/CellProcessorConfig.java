@@ -13,10 +13,15 @@ package org.jberet.support.io;
 import java.lang.reflect.Constructor;
 import java.text.DecimalFormatSymbols;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import org.jberet.support._private.SupportLogger;
 import org.jberet.support._private.SupportMessages;
@@ -70,6 +75,34 @@ import org.supercsv.util.CsvContext;
 final class CellProcessorConfig {
     static final String[] EMPTY_STRING_ARRAY = new String[0];
 
+    /**
+     * The maximum number of cached templates, after which the least recently used one is evicted.
+     */
+    private static final int MAX_TEMPLATES = 128;
+
+    /**
+     * Names of built-in cell processors that are immutable, and can be shared once created. {@code Equals} is
+     * immutable only if it is configured with a constant value.
+     */
+    private static final Set<String> IMMUTABLE_PROCESSORS = new HashSet<String>(Arrays.asList(
+            "null", "notnull", "optional", "parsebool", "parsechar", "parsedate", "parsedouble", "parseint",
+            "parselong", "parsebigdecimal", "truncate", "trim", "token", "strreplace", "convertnullto", "fmtnumber",
+            "fmtdate", "fmtbool", "dminmax", "forbidsubstr", "iselementof", "isincludedin", "lminmax",
+            "requirehashcode", "requiresubstr", "strlen", "strminmax", "strnotnullorempty", "strregex", "parseenum"));
+
+    /**
+     * Cached templates, keyed by the property value for cellProcessors.
+     */
+    private static final Map<String, CellProcessorTemplate> templates = Collections.synchronizedMap(
+            new LinkedHashMap<String, CellProcessorTemplate>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<String, CellProcessorTemplate> eldest) {
+                    return size() > MAX_TEMPLATES;
+                }
+            });
+
     /**
      * Parses the property value for cellProcessors into an array of {@code CellProcessor}. The number of the
      * returned {@code CellProcessor} must equal to the number of headers.
@@ -87,9 +120,46 @@ final class CellProcessorConfig {
      * @return an array of {@code CellProcessor}, one for each line in the raw property value
      */
     static CellProcessor[] parseCellProcessors(final String val) {
+        final List<List<List<String>>> lines = parseLines(val);
+        final CellProcessor[] result = new CellProcessor[lines.size()];
+        for (int x = 0; x < result.length; x++) {
+            result[x] = createCellProcessorForOneLine(lines.get(x));
+        }
+        return result;
+    }
+
+    /**
+     * Gets an array of {@code CellProcessor} for the property value for cellProcessors, in the same way as
+     * {@link #parseCellProcessors(String)}, but from a cached template parsed earlier from the same property value.
+     * Cell processor chains that are immutable, which are the majority, are shared between all callers, including
+     * concurrent partitions. Chains that contain a stateful processor ({@code Unique}, {@code UniqueHashCode},
+     * {@code Equals} without parameter) or a custom processor, whose state is not known, are created anew for each
+     * call from the cached parsing result.
+     *
+     * @param val the raw property value
+     * @return a new array of {@code CellProcessor}, one for each line in the raw property value
+     * @since 3.0.1
+     */
+    static CellProcessor[] getCellProcessors(final String val) {
+        CellProcessorTemplate template = templates.get(val);
+        if (template == null) {
+            //concurrent callers may parse the same value, and only one of the templates is kept
+            template = new CellProcessorTemplate(parseLines(val));
+            templates.put(val, template);
+        }
+        return template.newCellProcessors();
+    }
+
+    /**
+     * Parses the property value for cellProcessors into the names and parameters of the processors in each line.
+     *
+     * @param val the raw property value
+     * @return for each line, a list of processors, each of which is a list of the processor name and parameters
+     */
+    private static List<List<List<String>>> parseLines(final String val) {
         //final String[] parts = val.split("\\r?\\n");  //new line
         final String[] parts = val.split(";");
-        final CellProcessor[] result = new CellProcessor[parts.length];
+        final List<List<List<String>>> result = new ArrayList<List<List<String>>>(parts.length);
 
         for (int x = 0; x < parts.length; x++) { // start parsing all lines
             final String line = parts[x].trim();
@@ -172,7 +242,7 @@ final class CellProcessorConfig {
             if (!oneProcessorValue.isEmpty() && !processorValuesInThisLine.contains(oneProcessorValue)) {
                 processorValuesInThisLine.add(oneProcessorValue);
             }
-            result[x] = createCellProcessorForOneLine(processorValuesInThisLine);
+            result.add(processorValuesInThisLine);
         } //end parsing all lines
 
         return result;
@@ -564,4 +634,47 @@ final class CellProcessorConfig {
             throw SupportMessages.MESSAGES.failToParseEnum(null, value, enumType, context, this);
         }
     }
+
+    /**
+     * The cell processors parsed from a property value for cellProcessors, in which immutable cell processor chains
+     * have been created.
+     */
+    private static final class CellProcessorTemplate {
+        private final List<List<List<String>>> lines;
+
+        /**
+         * The cell processor chain of each line, or null if the line is stateful and must be created for each use.
+         */
+        private final CellProcessor[] immutableProcessors;
+
+        private final boolean[] stateful;
+
+        private CellProcessorTemplate(final List<List<List<String>>> lines) {
+            this.lines = lines;
+            this.immutableProcessors = new CellProcessor[lines.size()];
+            this.stateful = new boolean[lines.size()];
+            for (int x = 0; x < stateful.length; x++) {
+                for (final List<String> oneProcessorValue : lines.get(x)) {
+                    final String name = oneProcessorValue.get(0).toLowerCase(Locale.ROOT);
+                    if (!IMMUTABLE_PROCESSORS.contains(name) && !(name.equals("equals") && oneProcessorValue.size() > 1)) {
+                        stateful[x] = true;
+                        break;
+                    }
+                }
+                //create stateful chains too, to report any configuration error when parsing
+                final CellProcessor cellProcessor = createCellProcessorForOneLine(lines.get(x));
+                if (!stateful[x]) {
+                    immutableProcessors[x] = cellProcessor;
+                }
+            }
+        }
+
+        private CellProcessor[] newCellProcessors() {
+            final CellProcessor[] result = new CellProcessor[lines.size()];
+            for (int x = 0; x < result.length; x++) {
+                result[x] = stateful[x] ? createCellProcessorForOneLine(lines.get(x)) : immutableProcessors[x];
+            }
+            return result;
+        }
+    }
 }
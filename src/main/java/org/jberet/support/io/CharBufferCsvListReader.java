@@ -0,0 +1,688 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.supercsv.cellprocessor.ParseDouble;
+import org.supercsv.cellprocessor.ParseInt;
+import org.supercsv.cellprocessor.ParseLong;
+import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.comment.CommentMatcher;
+import org.supercsv.exception.SuperCsvException;
+import org.supercsv.io.ICsvListReader;
+import org.supercsv.prefs.CsvPreference;
+import org.supercsv.util.CsvContext;
+
+/**
+ * A CSV list reader that tokenizes rows directly from a {@code char} buffer, as a lower-allocation alternative to
+ * {@link FastForwardCsvListReader}. Column values of each row are copied into a reused {@code char} array, and
+ * {@code String}s are only created when a column value is returned, or passed to a cell processor. Columns whose
+ * cell processor is {@code ParseInt}, {@code ParseLong} or {@code ParseDouble} are parsed from the {@code char}
+ * array, and the parsed number is passed to the cell processor, which hands it on to the next processor in the
+ * chain. If a column value is not in a format recognized here, its {@code String} is passed to the cell processor
+ * instead, so the result, or the exception, is the same as with supercsv.
+ * <p>
+ * Rows are tokenized the same way as supercsv {@code Tokenizer}, honoring quote character, delimiter,
+ * surrounding spaces, empty lines, comment matcher and maximum lines per row in {@code CsvPreference}. Data is
+ * only read from the underlying reader when the current row is not complete in the buffer, so that
+ * {@link OffsetTrackingReader#getPosition()} is the start of the next row after each row is read.
+ *
+ * @see CsvItemReader#fastTokenizer
+ * @since 3.0.1
+ */
+final class CharBufferCsvListReader implements ICsvListReader {
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+
+    private static final int INITIAL_COLUMNS = 16;
+
+    private static final char NEWLINE = '\n';
+
+    private static final char SPACE = ' ';
+
+    private static final byte PARSE_NONE = 0;
+
+    private static final byte PARSE_INT = 1;
+
+    private static final byte PARSE_LONG = 2;
+
+    private static final byte PARSE_DOUBLE = 3;
+
+    /**
+     * The largest mantissa that is exactly representable as a {@code double}.
+     */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    /**
+     * Powers of ten that are exactly representable as a {@code double}.
+     */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final Reader reader;
+
+    private final int quoteChar;
+
+    private final int delimiterChar;
+
+    private final boolean surroundingSpacesNeedQuotes;
+
+    private final boolean ignoreEmptyLines;
+
+    private final CommentMatcher commentMatcher;
+
+    private final int maxLinesPerRow;
+
+    private final int startRowNumber;
+
+    /**
+     * The row source of {@code CsvContext} passed to cell processors, which is a view of the current row.
+     */
+    private final List<Object> rowSource = new ColumnList();
+
+    /**
+     * Characters read from {@link #reader}. Characters before {@link #rowStart} may be discarded when more
+     * characters are read.
+     */
+    private char[] buffer = new char[INITIAL_BUFFER_SIZE];
+
+    private int position;
+
+    private int limit;
+
+    private int rowStart;
+
+    private int lineStart;
+
+    private int lineEnd;
+
+    /**
+     * Whether the last line ended with a carriage return at the end of {@link #buffer}, so a following line feed
+     * should be skipped.
+     */
+    private boolean skipLineFeed;
+
+    private boolean eof;
+
+    private int lineNumber;
+
+    private int rowNumber;
+
+    /**
+     * Values of all columns in the current row, after removing quotes and escapes.
+     */
+    private char[] cells = new char[INITIAL_BUFFER_SIZE];
+
+    private int cellsLength;
+
+    private int[] columnStarts = new int[INITIAL_COLUMNS];
+
+    /**
+     * Length of each column value in {@link #cells}, or -1 if the column value is null.
+     */
+    private int[] columnLengths = new int[INITIAL_COLUMNS];
+
+    private int columnCount;
+
+    private CellProcessor[] parseKindsProcessors;
+
+    private byte[] parseKinds;
+
+    /**
+     * The result of {@link #parseInteger(int, int, long)}.
+     */
+    private long parsedInteger;
+
+    /**
+     * Creates a new reader.
+     *
+     * @param reader the reader to read CSV content from
+     * @param preferences the CSV preferences
+     * @param startRowNumber the row number to start reading
+     */
+    CharBufferCsvListReader(final Reader reader, final CsvPreference preferences, final int startRowNumber) {
+        this.reader = reader;
+        this.quoteChar = preferences.getQuoteChar();
+        this.delimiterChar = preferences.getDelimiterChar();
+        this.surroundingSpacesNeedQuotes = preferences.isSurroundingSpacesNeedQuotes();
+        this.ignoreEmptyLines = preferences.isIgnoreEmptyLines();
+        this.commentMatcher = preferences.getCommentMatcher();
+        this.maxLinesPerRow = preferences.getMaxLinesPerRow();
+        this.startRowNumber = startRowNumber;
+    }
+
+    @Override
+    public List<String> read() throws IOException {
+        fastForwardToStartRow();
+        if (!readRow()) {
+            return null;
+        }
+        final List<String> result = new ArrayList<String>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            result.add(getColumn(i));
+        }
+        return result;
+    }
+
+    /**
+     * Reads the next row into a {@code String} array.
+     *
+     * @return the column values of the next row, or null at the end of data
+     * @throws IOException if failed to read
+     */
+    String[] readArray() throws IOException {
+        fastForwardToStartRow();
+        return readRow() ? getColumns() : null;
+    }
+
+    @Override
+    public List<Object> read(final CellProcessor... processors) throws IOException {
+        fastForwardToStartRow();
+        if (processors == null) {
+            throw new NullPointerException("processors should not be null");
+        }
+        return readRow() ? executeProcessors(processors) : null;
+    }
+
+    @Override
+    public List<Object> executeProcessors(final CellProcessor... processors) {
+        if (processors == null) {
+            throw new NullPointerException("processors should not be null");
+        }
+        final CsvContext context = new CsvContext(lineNumber, rowNumber, 1);
+        context.setRowSource(rowSource);
+        try {
+            if (columnCount != processors.length) {
+                throw new SuperCsvException(String.format(
+                        "The number of columns to be processed (%d) must match the number of CellProcessors (%d): " +
+                                "check that the number of CellProcessors you have defined matches the expected " +
+                                "number of columns being read/written", columnCount, processors.length), context);
+            }
+            final byte[] kinds = getParseKinds(processors);
+            final List<Object> result = new ArrayList<Object>(columnCount);
+            for (int i = 0; i < columnCount; i++) {
+                context.setColumnNumber(i + 1);
+                final CellProcessor processor = processors[i];
+                if (processor == null) {
+                    result.add(getColumn(i));
+                } else {
+                    Object value = kinds[i] == PARSE_NONE ? null : parseNumber(kinds[i], i);
+                    if (value == null) {
+                        value = getColumn(i);
+                    }
+                    result.add(processor.execute(value, context));
+                }
+            }
+            return result;
+        } catch (final SuperCsvException e) {
+            //the exception may outlive the current row, so replace the view with a copy
+            final List<Object> columns = new ArrayList<Object>(rowSource);
+            context.setRowSource(columns);
+            if (e.getCsvContext() != null) {
+                e.getCsvContext().setRowSource(columns);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public String get(final int n) {
+        if (n < 1 || n > columnCount) {
+            throw new IndexOutOfBoundsException("Index: " + (n - 1) + ", Size: " + columnCount);
+        }
+        return getColumn(n - 1);
+    }
+
+    @Override
+    public String[] getHeader(final boolean firstLineCheck) throws IOException {
+        if (firstLineCheck && lineNumber != 0) {
+            throw new SuperCsvException(String.format(
+                    "CSV header must be fetched as the first read operation, but %d lines have already been read",
+                    lineNumber));
+        }
+        return readRow() ? getColumns() : null;
+    }
+
+    @Override
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public String getUntokenizedRow() {
+        final StringBuilder sb = new StringBuilder(lineEnd - rowStart);
+        for (int i = rowStart; i < lineEnd; i++) {
+            final char c = buffer[i];
+            if (c == '\r') {
+                sb.append(NEWLINE);
+                if (i + 1 < lineEnd && buffer[i + 1] == '\n') {
+                    i++;
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int getRowNumber() {
+        return rowNumber;
+    }
+
+    @Override
+    public int length() {
+        return columnCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void fastForwardToStartRow() throws IOException {
+        while (rowNumber < startRowNumber) {
+            if (!readRow()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reads and tokenizes the next row, skipping empty lines and comment lines as configured.
+     *
+     * @return false if end of data is reached
+     * @throws IOException if failed to read
+     */
+    private boolean readRow() throws IOException {
+        columnCount = 0;
+        cellsLength = 0;
+        do {
+            if (position == limit) {
+                position = limit = 0;
+            }
+            rowStart = position;
+            if (!readLine()) {
+                return false;
+            }
+        } while (ignoreEmptyLines && lineStart == lineEnd ||
+                commentMatcher != null && commentMatcher.isComment(new String(buffer, lineStart, lineEnd - lineStart)));
+        rowStart = lineStart;
+
+        boolean quoteMode = false;
+        int quoteScopeStartingLine = -1;
+        int potentialSpaces = 0;
+        int columnStart = 0;
+        int index = lineStart;
+        while (true) {
+            if (index == lineEnd) {
+                if (!quoteMode) {
+                    if (!surroundingSpacesNeedQuotes) {
+                        appendSpaces(potentialSpaces);
+                    }
+                    addColumn(columnStart);
+                    rowNumber++;
+                    return true;
+                }
+                appendCell(NEWLINE);
+                if (maxLinesPerRow > 0 && lineNumber - quoteScopeStartingLine + 1 >= maxLinesPerRow) {
+                    throw new SuperCsvException(maxLinesPerRow == 1 ?
+                            String.format("unexpected end of line while reading quoted column on line %d",
+                                    lineNumber) :
+                            String.format("max number of lines to read exceeded while reading quoted column " +
+                                    "beginning on line %d and ending on line %d", quoteScopeStartingLine, lineNumber));
+                }
+                if (!readLine()) {
+                    throw new SuperCsvException(String.format("unexpected end of file while reading quoted column " +
+                            "beginning on line %d and ending on line %d", quoteScopeStartingLine, lineNumber));
+                }
+                index = lineStart;
+                if (index == lineEnd) {
+                    continue;
+                }
+            }
+
+            final char c = buffer[index];
+            if (!quoteMode) {
+                if (c == delimiterChar) {
+                    if (!surroundingSpacesNeedQuotes) {
+                        appendSpaces(potentialSpaces);
+                    }
+                    addColumn(columnStart);
+                    columnStart = cellsLength;
+                    potentialSpaces = 0;
+                } else if (c == SPACE) {
+                    potentialSpaces++;
+                } else if (c == quoteChar) {
+                    quoteMode = true;
+                    quoteScopeStartingLine = lineNumber;
+                    if (!surroundingSpacesNeedQuotes || cellsLength > columnStart) {
+                        appendSpaces(potentialSpaces);
+                    }
+                    potentialSpaces = 0;
+                } else {
+                    if (!surroundingSpacesNeedQuotes || cellsLength > columnStart) {
+                        appendSpaces(potentialSpaces);
+                    }
+                    potentialSpaces = 0;
+                    appendCell(c);
+                }
+            } else if (c == quoteChar) {
+                if (index + 1 < lineEnd && buffer[index + 1] == quoteChar) {
+                    //escaped quote
+                    appendCell(c);
+                    index++;
+                } else {
+                    quoteMode = false;
+                    quoteScopeStartingLine = -1;
+                }
+            } else {
+                appendCell(c);
+            }
+            index++;
+        }
+    }
+
+    /**
+     * Reads the next line into {@link #buffer}, and sets {@link #lineStart} and {@link #lineEnd} to its content,
+     * excluding the line terminator, which can be a line feed, a carriage return, or a carriage return followed by
+     * a line feed.
+     *
+     * @return false if end of data is reached
+     * @throws IOException if failed to read
+     */
+    private boolean readLine() throws IOException {
+        if (skipLineFeed) {
+            if (position == limit) {
+                fill();
+            }
+            if (position < limit && buffer[position] == '\n') {
+                position++;
+            }
+            skipLineFeed = false;
+        }
+        int scanned = 0;
+        while (true) {
+            final int end = limit;
+            for (int i = position + scanned; i < end; i++) {
+                final char c = buffer[i];
+                if (c == '\n' || c == '\r') {
+                    lineStart = position;
+                    lineEnd = i;
+                    i++;
+                    if (c == '\r') {
+                        if (i < end) {
+                            if (buffer[i] == '\n') {
+                                i++;
+                            }
+                        } else {
+                            skipLineFeed = true;
+                        }
+                    }
+                    position = i;
+                    lineNumber++;
+                    return true;
+                }
+            }
+            scanned = end - position;
+            if (!fill()) {
+                if (scanned == 0) {
+                    return false;
+                }
+                lineStart = position;
+                lineEnd = limit;
+                position = limit;
+                lineNumber++;
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Reads more characters into {@link #buffer}, discarding characters before the current row or growing the
+     * buffer if it is full.
+     *
+     * @return false if end of data is reached
+     * @throws IOException if failed to read
+     */
+    private boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
+        if (limit == buffer.length) {
+            if (rowStart > 0) {
+                System.arraycopy(buffer, rowStart, buffer, 0, limit - rowStart);
+                limit -= rowStart;
+                position -= rowStart;
+                lineStart -= rowStart;
+                lineEnd -= rowStart;
+                rowStart = 0;
+            } else {
+                final char[] newBuffer = new char[buffer.length * 2];
+                System.arraycopy(buffer, 0, newBuffer, 0, limit);
+                buffer = newBuffer;
+            }
+        }
+        int n;
+        do {
+            n = reader.read(buffer, limit, buffer.length - limit);
+        } while (n == 0);
+        if (n < 0) {
+            eof = true;
+            return false;
+        }
+        limit += n;
+        return true;
+    }
+
+    private void appendCell(final char c) {
+        if (cellsLength == cells.length) {
+            final char[] newCells = new char[cells.length * 2];
+            System.arraycopy(cells, 0, newCells, 0, cellsLength);
+            cells = newCells;
+        }
+        cells[cellsLength++] = c;
+    }
+
+    private void appendSpaces(final int count) {
+        for (int i = 0; i < count; i++) {
+            appendCell(SPACE);
+        }
+    }
+
+    private void addColumn(final int columnStart) {
+        if (columnCount == columnStarts.length) {
+            final int newLength = columnCount * 2;
+            final int[] newStarts = new int[newLength];
+            final int[] newLengths = new int[newLength];
+            System.arraycopy(columnStarts, 0, newStarts, 0, columnCount);
+            System.arraycopy(columnLengths, 0, newLengths, 0, columnCount);
+            columnStarts = newStarts;
+            columnLengths = newLengths;
+        }
+        columnStarts[columnCount] = columnStart;
+        columnLengths[columnCount] = cellsLength > columnStart ? cellsLength - columnStart : -1;
+        columnCount++;
+    }
+
+    private String getColumn(final int i) {
+        final int length = columnLengths[i];
+        return length < 0 ? null : new String(cells, columnStarts[i], length);
+    }
+
+    private String[] getColumns() {
+        final String[] columns = new String[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columns[i] = getColumn(i);
+        }
+        return columns;
+    }
+
+    /**
+     * Gets the kind of number each cell processor parses, which is cached for the same cell processors array.
+     * Only these exact classes are recognized, since a subclass may behave differently.
+     */
+    private byte[] getParseKinds(final CellProcessor[] processors) {
+        if (processors != parseKindsProcessors) {
+            final byte[] kinds = new byte[processors.length];
+            for (int i = 0; i < processors.length; i++) {
+                final Class<?> processorClass = processors[i] == null ? null : processors[i].getClass();
+                if (processorClass == ParseInt.class) {
+                    kinds[i] = PARSE_INT;
+                } else if (processorClass == ParseLong.class) {
+                    kinds[i] = PARSE_LONG;
+                } else if (processorClass == ParseDouble.class) {
+                    kinds[i] = PARSE_DOUBLE;
+                }
+            }
+            parseKinds = kinds;
+            parseKindsProcessors = processors;
+        }
+        return parseKinds;
+    }
+
+    /**
+     * Parses a column value from {@link #cells}.
+     *
+     * @param kind the kind of number to parse
+     * @param i the column index
+     * @return the parsed number, or null if the column value is null, or not in a format recognized here
+     */
+    private Object parseNumber(final byte kind, final int i) {
+        final int length = columnLengths[i];
+        if (length <= 0) {
+            return null;
+        }
+        final int start = columnStarts[i];
+        switch (kind) {
+            case PARSE_INT:
+                return parseInteger(start, length, Integer.MIN_VALUE) ? Integer.valueOf((int) parsedInteger) : null;
+            case PARSE_LONG:
+                return parseInteger(start, length, Long.MIN_VALUE) ? Long.valueOf(parsedInteger) : null;
+            default:
+                return parseDouble(start, length);
+        }
+    }
+
+    /**
+     * Parses an integer in the same way as {@code Long.parseLong(String)}, except that only ASCII digits are
+     * accepted. The result is saved in {@link #parsedInteger} to avoid boxing it twice.
+     *
+     * @param start the start index in {@link #cells}
+     * @param length the number of characters to parse
+     * @param min the minimum value of the integer type
+     * @return true if parsed successfully, false if not a valid integer of the type
+     */
+    private boolean parseInteger(final int start, final int length, final long min) {
+        final int end = start + length;
+        int i = start;
+        boolean negative = false;
+        long limit = min + 1;
+        final char first = cells[i];
+        if (first == '-') {
+            negative = true;
+            limit = min;
+            i++;
+        } else if (first == '+') {
+            i++;
+        }
+        if (i == end) {
+            return false;
+        }
+        final long multiplyMin = limit / 10;
+        long result = 0;
+        for (; i < end; i++) {
+            final int digit = cells[i] - '0';
+            if (digit < 0 || digit > 9 || result < multiplyMin) {
+                return false;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return false;
+            }
+            result -= digit;
+        }
+        parsedInteger = negative ? result : -result;
+        return true;
+    }
+
+    /**
+     * Parses a plain decimal number, such as {@code -123.45}, whose digits fit in a {@code double} mantissa
+     * and has at most 22 fractional digits. Such a number is the quotient of 2 exactly representable
+     * {@code double}s, so the division gives the same correctly rounded result as {@code Double.valueOf(String)}.
+     *
+     * @param start the start index in {@link #cells}
+     * @param length the number of characters to parse
+     * @return the parsed number, or null if not in the format recognized here
+     */
+    private Double parseDouble(final int start, final int length) {
+        final int end = start + length;
+        int i = start;
+        boolean negative = false;
+        final char first = cells[i];
+        if (first == '-') {
+            negative = true;
+            i++;
+        } else if (first == '+') {
+            i++;
+        }
+        long mantissa = 0;
+        int fractionDigits = 0;
+        boolean digits = false;
+        boolean point = false;
+        for (; i < end; i++) {
+            final char c = cells[i];
+            if (c >= '0' && c <= '9') {
+                mantissa = mantissa * 10 + (c - '0');
+                if (mantissa > MAX_EXACT_MANTISSA) {
+                    return null;
+                }
+                digits = true;
+                if (point) {
+                    fractionDigits++;
+                }
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                return null;
+            }
+        }
+        if (!digits || fractionDigits >= POWERS_OF_TEN.length) {
+            return null;
+        }
+        final double value = mantissa / POWERS_OF_TEN[fractionDigits];
+        return negative ? -value : value;
+    }
+
+    /**
+     * A view of the column values of the current row, as the row source of {@code CsvContext}.
+     */
+    private final class ColumnList extends AbstractList<Object> {
+        @Override
+        public Object get(final int index) {
+            if (index < 0 || index >= columnCount) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + columnCount);
+            }
+            return getColumn(index);
+        }
+
+        @Override
+        public int size() {
+            return columnCount;
+        }
+    }
+}
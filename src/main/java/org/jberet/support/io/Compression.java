@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.jberet.support._private.SupportMessages;
+
+/**
+ * Compression formats of reader and writer resources. Gzip is supported with {@code java.util.zip}, and other
+ * formats require third-party libraries: Apache Commons Compress for bzip2, zstd-jni for zstd, and lz4-java for lz4.
+ *
+ * @see ItemReaderWriterBase#compression
+ * @since 3.0.1
+ */
+enum Compression {
+    NONE(null),
+    GZIP(".gz", 0x1F, 0x8B),
+    BZIP2(".bz2", 'B', 'Z', 'h'),
+    ZSTD(".zst", 0x28, 0xB5, 0x2F, 0xFD),
+    LZ4(".lz4", 0x04, 0x22, 0x4D, 0x18);
+
+    static final String COMPRESSION_KEY = "compression";
+
+    private static final int MAX_MAGIC_LENGTH = 4;
+
+    private static final int BUFFER_SIZE = 65536;
+
+    private final String extension;
+
+    private final int[] magic;
+
+    Compression(final String extension, final int... magic) {
+        this.extension = extension;
+        this.magic = magic;
+    }
+
+    /**
+     * Gets the compression format from the value of {@link ItemReaderWriterBase#compression}, or from the file
+     * extension of {@code resource} if the value is null.
+     *
+     * @param compression the configured compression format, may be null
+     * @param resource the location of the resource
+     * @return the compression format, {@link #NONE} if not compressed or not known from its name
+     */
+    static Compression of(final String compression, final String resource) {
+        if (compression != null) {
+            try {
+                return valueOf(compression.trim().toUpperCase(Locale.ENGLISH));
+            } catch (final IllegalArgumentException e) {
+                throw SupportMessages.MESSAGES.invalidReaderWriterProperty(e, compression, COMPRESSION_KEY);
+            }
+        }
+        final String name = resource.toLowerCase(Locale.ENGLISH);
+        for (final Compression c : values()) {
+            if (c.extension != null && name.endsWith(c.extension)) {
+                return c;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Gets the compression format of a local file from the value of {@link ItemReaderWriterBase#compression}, or from
+     * its file extension if the value is null. If neither specifies a format, the first bytes of the file are checked
+     * for the magic number of each format.
+     *
+     * @param compression the configured compression format, may be null
+     * @param file the local file
+     * @return the compression format, {@link #NONE} if not compressed
+     * @throws IOException if failed to read the file
+     */
+    static Compression of(final String compression, final File file) throws IOException {
+        final Compression c = of(compression, file.getPath());
+        if (c != NONE || compression != null) {
+            return c;
+        }
+        try (InputStream in = new FileInputStream(file)) {
+            return detect(readFully(in));
+        }
+    }
+
+    /**
+     * Wraps {@code in} to decompress its data. If {@code compression} is null and the format is not known from the
+     * file extension of {@code resource}, the first bytes of {@code in} are checked for the magic number of each
+     * format, if {@code in} can be repositioned after reading them.
+     *
+     * @param in the input stream of the resource
+     * @param compression the configured compression format, may be null
+     * @param resource the location of the resource
+     * @return the decompressing input stream, or {@code in} if not compressed
+     * @throws IOException if failed to read the input stream
+     */
+    static InputStream decompress(final InputStream in, final String compression, final String resource)
+            throws IOException {
+        Compression c = of(compression, resource);
+        if (c == NONE && compression == null) {
+            final byte[] header = peek(in);
+            if (header != null) {
+                c = detect(header);
+            }
+        }
+        switch (c) {
+            case NONE:
+                return in;
+            case GZIP:
+                return new GZIPInputStream(in, BUFFER_SIZE);
+            default:
+                return CompressionCodecs.decompress(c, in);
+        }
+    }
+
+    /**
+     * Wraps {@code out} to compress data written to it.
+     *
+     * @param out the output stream of the resource
+     * @param threads the number of threads to compress gzip data in parallel blocks
+     * @param executor the executor to compress gzip data in parallel blocks, or null to create a thread pool
+     * @return the compressing output stream, or {@code out} if this is {@link #NONE}
+     * @throws IOException if failed to write to the output stream
+     */
+    OutputStream compress(final OutputStream out, final int threads, final ExecutorService executor) throws IOException {
+        switch (this) {
+            case NONE:
+                return out;
+            case GZIP:
+                return threads > 1 ? new ParallelGzipOutputStream(out, threads, executor) :
+                        new GZIPOutputStream(out, BUFFER_SIZE);
+            default:
+                return CompressionCodecs.compress(this, out);
+        }
+    }
+
+    private static Compression detect(final byte[] header) {
+        for (final Compression c : values()) {
+            if (c.magic.length > 0 && c.magic.length <= header.length) {
+                int i = 0;
+                while (i < c.magic.length && (header[i] & 0xFF) == c.magic[i]) {
+                    i++;
+                }
+                //the block size digit after "BZh"
+                if (i == c.magic.length && (c != BZIP2 || header.length > i && header[i] >= '1' && header[i] <= '9')) {
+                    return c;
+                }
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Reads the first bytes of {@code in} without consuming them.
+     *
+     * @param in the input stream
+     * @return the bytes read, or null if {@code in} cannot be repositioned after reading
+     * @throws IOException if failed to read the input stream
+     */
+    private static byte[] peek(final InputStream in) throws IOException {
+        if (in.markSupported()) {
+            in.mark(MAX_MAGIC_LENGTH);
+            try {
+                return readFully(in);
+            } finally {
+                in.reset();
+            }
+        }
+        if (in instanceof FileInputStream) {
+            final FileChannel channel = ((FileInputStream) in).getChannel();
+            final long position = channel.position();
+            try {
+                return readFully(in);
+            } finally {
+                channel.position(position);
+            }
+        }
+        return null;
+    }
+
+    private static byte[] readFully(final InputStream in) throws IOException {
+        final byte[] bytes = new byte[MAX_MAGIC_LENGTH];
+        int count = 0;
+        int n;
+        while (count < bytes.length && (n = in.read(bytes, count, bytes.length - count)) > 0) {
+            count += n;
+        }
+        return count == bytes.length ? bytes : Arrays.copyOf(bytes, count);
+    }
+}
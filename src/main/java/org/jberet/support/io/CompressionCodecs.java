@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
+
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+import net.jpountz.lz4.LZ4FrameInputStream;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+
+/**
+ * Creates streams for {@link Compression} formats other than gzip, with third-party libraries. Each library is
+ * referenced from its own nested class, which is only loaded when the corresponding format is used, so that a
+ * library is only required in the classpath if its format is used.
+ *
+ * @since 3.0.1
+ */
+final class CompressionCodecs {
+    private CompressionCodecs() {
+    }
+
+    static InputStream decompress(final Compression compression, final InputStream in) throws IOException {
+        switch (compression) {
+            case BZIP2:
+                return Bzip2.decompress(in);
+            case ZSTD:
+                return Zstd.decompress(in);
+            case LZ4:
+                return Lz4.decompress(in);
+            default:
+                throw new IllegalArgumentException(compression.name());
+        }
+    }
+
+    static OutputStream compress(final Compression compression, final OutputStream out) throws IOException {
+        switch (compression) {
+            case BZIP2:
+                return Bzip2.compress(out);
+            case ZSTD:
+                return Zstd.compress(out);
+            case LZ4:
+                return Lz4.compress(out);
+            default:
+                throw new IllegalArgumentException(compression.name());
+        }
+    }
+
+    /**
+     * Bzip2 format with Apache Commons Compress.
+     */
+    private static final class Bzip2 {
+        static InputStream decompress(final InputStream in) throws IOException {
+            return new BZip2CompressorInputStream(in, true);
+        }
+
+        static OutputStream compress(final OutputStream out) throws IOException {
+            return new BZip2CompressorOutputStream(out);
+        }
+    }
+
+    /**
+     * Zstandard format with zstd-jni.
+     */
+    private static final class Zstd {
+        static InputStream decompress(final InputStream in) throws IOException {
+            return new ZstdInputStream(in);
+        }
+
+        static OutputStream compress(final OutputStream out) throws IOException {
+            return new ZstdOutputStream(out);
+        }
+    }
+
+    /**
+     * LZ4 frame format with lz4-java.
+     */
+    private static final class Lz4 {
+        static InputStream decompress(final InputStream in) throws IOException {
+            return new LZ4FrameInputStream(in);
+        }
+
+        static OutputStream compress(final OutputStream out) throws IOException {
+            return new LZ4FrameOutputStream(out);
+        }
+    }
+}
@@ -11,14 +11,20 @@
 package org.jberet.support.io;
 
 import static org.jberet.support.io.CsvProperties.BEAN_TYPE_KEY;
+import static org.jberet.support.io.CsvProperties.CELL_PROCESSORS_KEY;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Serializable;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.util.List;
 
 import org.jberet.support._private.SupportLogger;
 import org.jberet.support._private.SupportMessages;
+import org.supercsv.io.CsvListReader;
 import org.supercsv.io.ICsvBeanReader;
 import org.supercsv.io.ICsvListReader;
 import org.supercsv.io.ICsvMapReader;
@@ -32,9 +38,14 @@ import jakarta.inject.Named;
 
 /**
  * An implementation of {@code jakarta.batch.api.chunk.ItemReader} that reads from a CSV resource into a user-defined
- * bean, java.util.List&lt;String&gt;, or java.util.Map&lt;String, String&gt;. Data files delimited with characters
+ * bean, java.util.List&lt;String&gt;, String[], or java.util.Map&lt;String, String&gt;. Data files delimited with characters
  * other than comma (e.g., tab, |) are also supported by configuring {@code preference}, {@code delimiterChar},
  * or {@code quoteChar} properties in job xml.
+ * <p>
+ * The checkpoint info of this reader is an {@link OffsetCheckpoint}, which contains the byte offset of the next
+ * row in the resource, so that a restart can seek to the row directly instead of reading all preceding rows.
+ * If {@code charset} does not encode line terminators as single bytes (e.g., UTF-16), or when restarting from a
+ * row number checkpoint saved by previous versions, the reader skips rows one by one to the start position.
  * This class is not designed to be thread-safe and its instance should not be shared between threads.
  *
  * @see     CsvItemReaderWriterBase
@@ -60,6 +71,33 @@ public class CsvItemReader extends CsvItemReaderWriterBase implements ItemReader
     @BatchProperty
     protected int end;
 
+    /**
+     * The number of data items to read ahead in a background thread, so that reading and parsing the CSV resource
+     * overlaps with processing and writing of the current chunk. Optional property, and defaults to 0, i.e., data
+     * items are read in the thread calling {@link #readItem()}. The checkpoint info is always that of the last data
+     * item returned from {@link #readItem()}, so restart behavior is the same regardless of this property.
+     *
+     * @since 3.0.1
+     */
+    @Inject
+    @BatchProperty
+    protected int readAhead;
+
+    /**
+     * Whether to tokenize rows with a tokenizer that reads directly from a {@code char} buffer and reuses its
+     * column arrays, instead of supercsv tokenizer, when {@code beanType} is {@code java.util.List} or
+     * {@code java.lang.String[]}. It creates fewer objects per row, and columns whose cell processor is
+     * {@code ParseInt}, {@code ParseLong} or {@code ParseDouble} are parsed without creating {@code String}s.
+     * Quote character, delimiter, surrounding spaces, empty lines, comment matcher and maximum lines per row in
+     * the CSV preference are honored as in supercsv. Optional property, and defaults to {@code false}. It is
+     * ignored for other bean types.
+     *
+     * @since 3.0.1
+     */
+    @Inject
+    @BatchProperty
+    protected boolean fastTokenizer;
+
     /**
      * Indicates that the input CSV resource does not contain header row. Optional property, valid values are
      * {@code true} or {@code false}, and the default is {@code false}.
@@ -68,8 +106,51 @@ public class CsvItemReader extends CsvItemReaderWriterBase implements ItemReader
     @BatchProperty
     protected boolean headerless;
 
+    /**
+     * The byte offset in the input CSV resource of the first row to read, which must be the start of a row.
+     * Optional property, and defaults to 0. It is typically set to {@code #{partitionPlan['startOffset']}}
+     * with {@link FilePartitionMapper}. Row numbers in {@link #start} and {@link #end} are counted from this
+     * position. It is not supported for a compressed resource.
+     */
+    @Inject
+    @BatchProperty
+    protected long startOffset;
+
+    /**
+     * The byte offset in the input CSV resource where reading stops. Rows starting at or after this position
+     * are not read. Optional property, and defaults to 0, which means no limit. It is typically set to
+     * {@code #{partitionPlan['endOffset']}} with {@link FilePartitionMapper}. It is not supported for a
+     * compressed resource.
+     */
+    @Inject
+    @BatchProperty
+    protected long endOffset;
+
+    /**
+     * The header row of the input CSV resource, which will be used instead of reading the header from the
+     * resource when {@link #startOffset} is specified. Optional property. It is typically set to
+     * {@code #{partitionPlan['header']}} with {@link FilePartitionMapper}, so that the header is read only once
+     * for all partitions.
+     */
+    @Inject
+    @BatchProperty
+    protected String header;
+
     protected ICsvReader delegateReader;
 
+    /**
+     * The reader that keeps track of the byte offset of the next row, or null if not supported by {@code charset}.
+     */
+    private OffsetTrackingReader offsetTrackingReader;
+
+    /**
+     * The difference between the current row number and {@code delegateReader} row number, after seeking to the
+     * byte offset in a checkpoint, or when the header row is not read from the resource.
+     */
+    private int rowNumberOffset;
+
+    private ReadAheadQueue readAheadQueue;
+
     @Override
     public void open(final Serializable checkpoint) throws Exception {
         /**
@@ -79,7 +160,9 @@ public class CsvItemReader extends CsvItemReaderWriterBase implements ItemReader
         if (this.end == 0) {
             this.end = Integer.MAX_VALUE;
         }
-        int startRowNumber = checkpoint == null ? this.start : (Integer) checkpoint;
+        final OffsetCheckpoint offsetCheckpoint = checkpoint instanceof OffsetCheckpoint ? (OffsetCheckpoint) checkpoint : null;
+        int startRowNumber = checkpoint == null ? this.start :
+                offsetCheckpoint != null ? offsetCheckpoint.getRowNumber() : (Integer) checkpoint;
         if (startRowNumber < this.start || startRowNumber > this.end || startRowNumber < 0) {
             throw SupportMessages.MESSAGES.invalidStartPosition(startRowNumber, this.start, this.end);
         }
@@ -91,11 +174,28 @@ public class CsvItemReader extends CsvItemReaderWriterBase implements ItemReader
         if (beanType == null) {
             throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, BEAN_TYPE_KEY);
         }
-        final InputStream inputStream = getInputStream(resource, true);
-        final InputStreamReader r = charset == null ? new InputStreamReader(inputStream) :
-                new InputStreamReader(inputStream, charset);
-        if (java.util.List.class.isAssignableFrom(beanType)) {
-            delegateReader = new FastForwardCsvListReader(r, getCsvPreference(), startRowNumber);
+        if ((startOffset > 0 || endOffset > 0) && isCompressed()) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, compression, Compression.COMPRESSION_KEY);
+        }
+        final Charset cs = charset == null ? Charset.defaultCharset() : Charset.forName(charset);
+        final java.io.Reader r;
+        if (OffsetTrackingReader.isSupported(cs)) {
+            offsetTrackingReader = new OffsetTrackingReader(openInputStream(false), cs);
+            r = offsetTrackingReader;
+            if (offsetCheckpoint != null) {
+                //rows before the checkpoint are skipped by seeking, instead of fast-forwarding
+                startRowNumber = 0;
+            }
+        } else {
+            if (startOffset > 0 || endOffset > 0) {
+                throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, charset, "charset");
+            }
+            final InputStream inputStream = openInputStream(true);
+            r = new InputStreamReader(inputStream, cs);
+        }
+        if (List.class.isAssignableFrom(beanType) || beanType == String[].class) {
+            delegateReader = fastTokenizer ? new CharBufferCsvListReader(r, getCsvPreference(), startRowNumber) :
+                    new FastForwardCsvListReader(r, getCsvPreference(), startRowNumber);
         } else if (java.util.Map.class.isAssignableFrom(beanType)) {
             delegateReader = new FastForwardCsvMapReader(r, getCsvPreference(), startRowNumber);
         } else {
@@ -103,32 +203,76 @@ public class CsvItemReader extends CsvItemReaderWriterBase implements ItemReader
         }
         SupportLogger.LOGGER.openingResource(resource, this.getClass());
 
+        final boolean headerSpecified = header != null && !header.isEmpty() && startOffset > 0;
         if (!headerless) {
-            final String[] header;
+            final String[] headerColumns;
             try {
-                header = delegateReader.getHeader(true);    //first line check true
+                if (headerSpecified) {
+                    headerColumns = new CsvListReader(new StringReader(header), getCsvPreference()).getHeader(true);
+                    //count the header row as if it is read from the resource
+                    rowNumberOffset = 1;
+                } else {
+                    headerColumns = delegateReader.getHeader(true);    //first line check true
+                }
             } catch (final IOException e) {
                 throw SupportMessages.MESSAGES.failToReadCsvHeader(e, resource);
             }
             if (this.nameMapping == null) {
-                this.nameMapping = header;
+                this.nameMapping = headerColumns;
+            }
+        }
+        if (offsetTrackingReader != null) {
+            if (offsetCheckpoint != null) {
+                offsetTrackingReader.seek(offsetCheckpoint.getOffset());
+                rowNumberOffset = offsetCheckpoint.getRowNumber() - delegateReader.getRowNumber();
+            } else if (startOffset > 0) {
+                offsetTrackingReader.seek(startOffset);
             }
         }
         this.cellProcessorInstances = getCellProcessors();
+        if (beanType == String[].class && cellProcessorInstances.length > 0) {
+            //cell processors may produce non-String values, which cannot be stored in String[]
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, cellProcessors, CELL_PROCESSORS_KEY);
+        }
+        if (delegateReader instanceof FastForwardCsvBeanReader && getNameMapping() != null) {
+            ((FastForwardCsvBeanReader) delegateReader).compile(beanType, getNameMapping());
+        }
     }
 
     @Override
     public void close() throws Exception {
+        if (readAheadQueue != null) {
+            readAheadQueue.close();
+            readAheadQueue = null;
+        }
         if (delegateReader != null) {
             SupportLogger.LOGGER.closingResource(resource, this.getClass());
             delegateReader.close();
             delegateReader = null;
+            offsetTrackingReader = null;
         }
     }
 
     @Override
     public Object readItem() throws Exception {
-        if (delegateReader.getRowNumber() > this.end) {
+        if (readAhead > 0) {
+            if (readAheadQueue == null) {
+                readAheadQueue = new ReadAheadQueue(readAhead, this::readItem0, this::checkpointInfo0,
+                        getClass().getSimpleName());
+            }
+            return readAheadQueue.next();
+        }
+        return readItem0();
+    }
+
+    @Override
+    public Serializable checkpointInfo() throws Exception {
+        return readAheadQueue == null ? checkpointInfo0() : readAheadQueue.checkpointInfo();
+    }
+
+    private Object readItem0() throws Exception {
+        if (getRowNumber() > this.end
+                || (endOffset > 0 && offsetTrackingReader.getPosition() >= endOffset)) {
             return null;
         }
         final Object result;
@@ -142,7 +286,9 @@ public class CsvItemReader extends CsvItemReaderWriterBase implements ItemReader
                 ItemReaderWriterBase.validate(result);
             }
         } else if (delegateReader instanceof ICsvListReader) {
-            if (cellProcessorInstances.length == 0) {
+            if (beanType == String[].class) {
+                result = readArray();
+            } else if (cellProcessorInstances.length == 0) {
                 result = ((ICsvListReader) delegateReader).read();
             } else {
                 result = ((ICsvListReader) delegateReader).read(cellProcessorInstances);
@@ -157,8 +303,35 @@ public class CsvItemReader extends CsvItemReaderWriterBase implements ItemReader
         return result;
     }
 
-    @Override
-    public Integer checkpointInfo() throws Exception {
-        return delegateReader.getRowNumber();
+    private String[] readArray() throws IOException {
+        if (delegateReader instanceof CharBufferCsvListReader) {
+            return ((CharBufferCsvListReader) delegateReader).readArray();
+        }
+        final List<String> columns = ((ICsvListReader) delegateReader).read();
+        return columns == null ? null : columns.toArray(new String[columns.size()]);
+    }
+
+    /**
+     * Checks if the resource is compressed, in which case byte offsets of the decompressed data do not match
+     * those of the resource.
+     */
+    private boolean isCompressed() throws IOException {
+        if (resource == null) {
+            return false;
+        }
+        final File file = getLocalFile(resource);
+        return (file == null ? Compression.of(compression, resource) : Compression.of(compression, file)) !=
+                Compression.NONE;
+    }
+
+    private Serializable checkpointInfo0() throws Exception {
+        if (offsetTrackingReader == null) {
+            return delegateReader.getRowNumber();
+        }
+        return new OffsetCheckpoint(getRowNumber(), offsetTrackingReader.getPosition());
+    }
+
+    private int getRowNumber() {
+        return delegateReader.getRowNumber() + rowNumberOffset;
     }
 }
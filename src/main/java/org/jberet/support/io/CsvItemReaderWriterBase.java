@@ -295,7 +295,7 @@ public abstract class CsvItemReaderWriterBase extends ItemReaderWriterBase {
         if (this.cellProcessors == null) {
             return CsvItemReaderWriterBase.noCellProcessors;
         }
-        return CellProcessorConfig.parseCellProcessors(this.cellProcessors.trim());
+        return CellProcessorConfig.getCellProcessors(this.cellProcessors.trim());
     }
 
     /**
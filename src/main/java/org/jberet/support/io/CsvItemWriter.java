@@ -16,6 +16,8 @@ import static org.jberet.support.io.CsvProperties.HEADER_KEY;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Serializable;
+import java.nio.channels.FileChannel;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -38,6 +40,11 @@ import jakarta.inject.Named;
 /**
  * An implementation of {@code jakarta.batch.api.chunk.ItemWriter} that writes data to CSV file or resource.
  * This class is not designed to be thread-safe and its instance should not be shared between threads.
+ * <p>
+ * The checkpoint info of this writer is the row number, which is ignored during a restart. When rolling over to new
+ * files after {@link #rollRecords} or {@link #rollBytes}, each file starts with its own comments and header, and the
+ * checkpoint info is a {@link RollingCheckpoint}, with which the rolling file is truncated to the byte offset of the
+ * checkpoint during a restart.
  *
  * @see     CsvItemReaderWriterBase
  * @see     CsvItemReader
@@ -73,16 +80,69 @@ public class CsvItemWriter extends CsvItemReaderWriterBase implements ItemWriter
 
     protected ICsvWriter delegateWriter;
 
+    /**
+     * The output stream of the resource, which may write data asynchronously.
+     */
+    private OutputStream outputStream;
+
+    /**
+     * The rolling files, or null if not rolling over to new files.
+     */
+    private RollingResource rollingResource;
+
+    /**
+     * The file being written, which is {@link #resource}, or the current rolling file.
+     */
+    private String currentResource;
+
+    /**
+     * The file channel of the current rolling file, used to get the byte offset for checkpoint info, or null if not
+     * available.
+     */
+    private FileChannel outputChannel;
+
+    /**
+     * The number of items written to the current rolling file, including those written before the checkpoint in
+     * previous executions.
+     */
+    private int itemCount;
+
     @Override
     public void open(final Serializable checkpoint) throws Exception {
-        SupportLogger.LOGGER.tracef("Open CsvItemWriter with checkpoint %s, which is ignored for CsvItemWriter.%n", checkpoint);
+        SupportLogger.LOGGER.tracef("Open CsvItemWriter with checkpoint %s, which is ignored for CsvItemWriter unless rolling over to new files.%n", checkpoint);
         if (beanType == null) {
             throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, BEAN_TYPE_KEY);
         }
+        if (header == null) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, HEADER_KEY);
+        }
+        if (this.nameMapping == null) {
+            this.nameMapping = header;
+        }
+        this.cellProcessorInstances = getCellProcessors();
+
+        if (rollingResource == null) {
+            rollingResource = newRollingResource(null);
+        }
+        openResource(rollingResource == null ? null : rollingResource.restart(checkpoint));
+    }
 
-        final OutputStream outputStream = getOutputStream(writeMode);
-        final OutputStreamWriter writer = charset == null ? new OutputStreamWriter(outputStream) :
-                new OutputStreamWriter(outputStream, charset);
+    /**
+     * Opens {@link #resource}, or the current rolling file, for writing, and writes the comments and header.
+     *
+     * @param checkpoint the checkpoint info within the rolling file, or null
+     * @throws Exception if failed to open the resource
+     */
+    private void openResource(final OffsetCheckpoint checkpoint) throws Exception {
+        currentResource = rollingResource == null ? resource : rollingResource.getResource();
+        final OutputStream fileOutputStream = getOutputStream(currentResource, writeMode, checkpoint);
+        outputChannel = getFileChannel(fileOutputStream);
+        outputStream = getAsyncOutputStream(fileOutputStream);
+        itemCount = checkpoint == null ? 0 : checkpoint.getRowNumber();
+        final OutputStream writerOutputStream = rollingResource == null ? outputStream :
+                rollingResource.countBytes(outputStream, checkpoint == null ? 0 : checkpoint.getOffset());
+        final OutputStreamWriter writer = charset == null ? new OutputStreamWriter(writerOutputStream) :
+                new OutputStreamWriter(writerOutputStream, charset);
         if (java.util.List.class.isAssignableFrom(beanType)) {
             delegateWriter = new CsvListWriter(writer, getCsvPreference());
         } else if (java.util.Map.class.isAssignableFrom(beanType)) {
@@ -90,16 +150,11 @@ public class CsvItemWriter extends CsvItemReaderWriterBase implements ItemWriter
         } else {
             delegateWriter = new CsvBeanWriter(writer, getCsvPreference());
         }
-        if (header == null) {
-            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, HEADER_KEY);
-        }
-        if (this.nameMapping == null) {
-            this.nameMapping = header;
-        }
-        SupportLogger.LOGGER.openingResource(resource, this.getClass());
+        SupportLogger.LOGGER.openingResource(currentResource, this.getClass());
 
-        this.cellProcessorInstances = getCellProcessors();
-        if (writeComments != null) {
+        //comments and header have been written before the checkpoint
+        final boolean resumed = checkpoint != null && checkpoint.getOffset() > 0;
+        if (writeComments != null && !resumed) {
             delegateWriter.writeComment(writeComments);
         }
         if (!skipWritingHeader) {
@@ -110,14 +165,53 @@ public class CsvItemWriter extends CsvItemReaderWriterBase implements ItemWriter
     @Override
     public void close() throws Exception {
         if (delegateWriter != null) {
-            SupportLogger.LOGGER.closingResource(resource, this.getClass());
-            delegateWriter.close();
-            delegateWriter = null;
+            closeResource();
+            if (rollingResource != null) {
+                rollingResource.writeManifest();
+            }
         }
     }
 
+    private void closeResource() throws Exception {
+        SupportLogger.LOGGER.closingResource(currentResource, this.getClass());
+        delegateWriter.close();
+        delegateWriter = null;
+        outputStream = null;
+        outputChannel = null;
+    }
+
+    /**
+     * Finishes the current rolling file, making it durable as at a checkpoint, and opens the next file with its own
+     * comments and header.
+     *
+     * @throws Exception if failed to finish the current file or open the next file
+     */
+    private void rollOver() throws Exception {
+        delegateWriter.flush();
+        syncOutputStream(outputStream);
+        closeResource();
+        rollingResource.next();
+        openResource(null);
+    }
+
     @Override
     public void writeItems(final List<Object> items) throws Exception {
+        if (rollingResource == null) {
+            write(items);
+        } else {
+            //super-csv buffers rows internally, so rows are counted towards rollBytes only after flushed from there
+            for (final Object e : items) {
+                if (rollingResource.shouldRoll(itemCount, -1)) {
+                    rollOver();
+                }
+                write(Collections.singletonList(e));
+                itemCount++;
+            }
+        }
+        delegateWriter.flush();
+    }
+
+    private void write(final List<Object> items) throws Exception {
         if (SupportLogger.LOGGER.isTraceEnabled()) {
             SupportLogger.LOGGER.tracef("About to write items, number of items %s, element type %s%n",
                     items.size(), items.get(0).getClass());
@@ -162,11 +256,15 @@ public class CsvItemWriter extends CsvItemReaderWriterBase implements ItemWriter
                 }
             }
         }
-        delegateWriter.flush();
     }
 
     @Override
     public Serializable checkpointInfo() throws Exception {
-        return delegateWriter.getRowNumber();
+        syncOutputStream(outputStream);
+        if (rollingResource == null) {
+            return delegateWriter.getRowNumber();
+        }
+        return rollingResource.checkpoint(
+                outputChannel == null ? null : new OffsetCheckpoint(itemCount, outputChannel.position()));
     }
 }
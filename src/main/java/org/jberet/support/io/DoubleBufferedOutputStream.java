@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * An {@code java.io.OutputStream} that collects data in one of two buffers, while a background thread writes the
+ * other buffer to the underlying output stream. When the current buffer is full, or {@link #flush()} is called, the
+ * buffer is handed to the background thread, after waiting only for the previous buffer to be written. So the
+ * caller can serialize the next data while the previous data is being written.
+ * <p>
+ * {@link #sync()} waits for all data to be written to the underlying output stream, and optionally forces it to the
+ * storage device, which a writer should do before its checkpoint info is saved.
+ *
+ * @see ItemReaderWriterBase#asyncWrite
+ * @since 3.0.1
+ */
+final class DoubleBufferedOutputStream extends OutputStream {
+    private final OutputStream out;
+
+    /**
+     * The file channel to force after writing, or null if not forcing data to the storage device.
+     */
+    private final FileChannel forceChannel;
+
+    private final ExecutorService executor;
+
+    /**
+     * The single thread executor created by this stream, or null if buffers are written by a given executor.
+     */
+    private final ExecutorService ownExecutor;
+
+    private byte[] buffer;
+
+    private int count;
+
+    /**
+     * The other buffer, which is being written by the background thread while {@link #pending} is not done.
+     */
+    private byte[] spare;
+
+    private Future<?> pending;
+
+    private boolean closed;
+
+    /**
+     * Creates a double-buffered output stream.
+     *
+     * @param out the underlying output stream
+     * @param bufferSize the size in bytes of each buffer
+     * @param forceChannel the file channel to force in {@link #sync()}, or null
+     * @param executor the executor to write buffers, or null to create a single thread executor
+     * @param name the name of the writer, used to name the background thread
+     */
+    DoubleBufferedOutputStream(final OutputStream out, final int bufferSize, final FileChannel forceChannel,
+                               final ExecutorService executor, final String name) {
+        this.out = out;
+        this.forceChannel = forceChannel;
+        this.buffer = new byte[bufferSize];
+        this.spare = new byte[bufferSize];
+        if (executor != null) {
+            this.ownExecutor = null;
+            this.executor = executor;
+        } else {
+            this.ownExecutor = Executors.newSingleThreadExecutor(r -> {
+                final Thread thread = new Thread(r, name + "-async-write");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.executor = ownExecutor;
+        }
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        if (count == buffer.length) {
+            handOff();
+        }
+        buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        int offset = off;
+        int remaining = len;
+        while (remaining > 0) {
+            if (count == buffer.length) {
+                handOff();
+            }
+            final int n = Math.min(remaining, buffer.length - count);
+            System.arraycopy(b, offset, buffer, count, n);
+            count += n;
+            offset += n;
+            remaining -= n;
+        }
+    }
+
+    /**
+     * Hands the buffered data to the background thread, without waiting for it to be written.
+     *
+     * @throws IOException if failed to write the previous buffer
+     */
+    @Override
+    public void flush() throws IOException {
+        handOff();
+    }
+
+    /**
+     * Waits for all data written to this stream to be written and flushed to the underlying output stream, and
+     * forced to the storage device if a file channel to force was passed to the constructor.
+     *
+     * @throws IOException if failed to write, flush or force the data
+     */
+    void sync() throws IOException {
+        handOff();
+        awaitPending();
+        if (forceChannel != null) {
+            forceChannel.force(false);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            handOff();
+            awaitPending();
+        } finally {
+            if (ownExecutor != null) {
+                ownExecutor.shutdownNow();
+            }
+            out.close();
+        }
+    }
+
+    /**
+     * Waits for the previous buffer to be written, and submits the current buffer to the background thread.
+     *
+     * @throws IOException if failed to write the previous buffer
+     */
+    private void handOff() throws IOException {
+        if (count == 0) {
+            return;
+        }
+        awaitPending();
+        final byte[] data = buffer;
+        final int length = count;
+        try {
+            pending = executor.submit(() -> {
+                out.write(data, 0, length);
+                out.flush();
+                return null;
+            });
+        } catch (final RejectedExecutionException e) {
+            throw new IOException(e);
+        }
+        buffer = spare;
+        spare = data;
+        count = 0;
+    }
+
+    private void awaitPending() throws IOException {
+        if (pending == null) {
+            return;
+        }
+        try {
+            pending.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+        } finally {
+            pending = null;
+        }
+    }
+}
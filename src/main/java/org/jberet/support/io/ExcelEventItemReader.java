@@ -18,6 +18,12 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.naming.InitialContext;
 
 import org.apache.poi.hssf.eventusermodel.FormatTrackingHSSFListener;
 import org.apache.poi.hssf.eventusermodel.HSSFEventFactory;
@@ -51,6 +57,10 @@ import jakarta.inject.Named;
  * An implementation of {@code jakarta.batch.api.chunk.ItemReader} for reading binary Excel files (.xls) based on
  * Apache POI event model API. Compared to {@link ExcelUserModelItemReader}, this reader implementation has smaller
  * memory footprint and is suitable for reading large binary excel files.
+ * <p>
+ * The workbook is parsed by a producer task, which passes batches of rows to this reader through a bounded queue,
+ * so that at most about {@link #queueCapacity} rows are held in memory. The producer task is stopped when this
+ * reader is closed, e.g., when the job is stopped.
  *
  * @see     ExcelUserModelItemReader
  * @see     ExcelStreamingItemReader
@@ -66,28 +76,95 @@ public class ExcelEventItemReader extends ExcelUserModelItemReader implements It
      */
     protected static final int MAX_WORKSHEET_ROWS = 65536;
 
+    private static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    private static final int DEFAULT_QUEUE_BATCH_SIZE = 256;
+
+    /**
+     * How long the producer and the reader wait on the queue before checking whether the other side has finished.
+     */
+    private static final long QUEUE_POLL_MILLIS = 100;
+
+    /**
+     * Marks a blank cell in a row array, to tell it apart from a missing cell. It is read as null.
+     */
+    private static final String BLANK_CELL = new String();
+
     /**
      * the capacity of the queue used by {@code org.apache.poi.hssf.eventusermodel.HSSFListener} to hold pre-fetched
-     * data rows. Optional property and defaults to {@link #MAX_WORKSHEET_ROWS} (65536).
+     * data rows. Optional property and defaults to 1024. Rows are queued in batches of {@link #queueBatchSize} rows,
+     * so the queue holds {@code queueCapacity / queueBatchSize} batches, rounded up.
      */
     @Inject
     @BatchProperty
     protected int queueCapacity;
 
-    private BlockingQueue<Object> queue;
+    /**
+     * The number of rows in each batch passed through the queue from the producer task to this reader. Optional
+     * property and defaults to 256, or {@link #queueCapacity} if it is smaller.
+     *
+     * @since 3.0.1
+     */
+    @Inject
+    @BatchProperty
+    protected int queueBatchSize;
+
+    /**
+     * JNDI lookup name of a {@code java.util.concurrent.ExecutorService}, typically a
+     * {@code jakarta.enterprise.concurrent.ManagedExecutorService} such as
+     * {@code java:comp/DefaultManagedExecutorService}, to run the producer task that parses the workbook. Optional
+     * property, and defaults to null. If not specified, the producer task runs on a daemon thread owned by this
+     * reader, which is shut down when this reader is closed.
+     *
+     * @since 3.0.1
+     */
+    @Inject
+    @BatchProperty
+    protected String executorServiceLookup;
+
+    private BlockingQueue<RowBatch> queue;
     private DocumentInputStream documentInputStream;
     private FormatTrackingHSSFListener formatListener;
 
+    private ExecutorService ownExecutor;
+    private Future<?> producer;
+
+    /**
+     * Set when this reader is closed, to tell the producer task to stop.
+     */
+    private volatile boolean cancelled;
+
+    /**
+     * The header label of each column, or null for columns not mapped to a header. It is set by the producer task
+     * before queueing the first data row.
+     */
+    private String[] columnLabels;
+
+    /**
+     * The column index of each value in {@link #header}. It is set together with {@link #columnLabels}.
+     */
+    private int[] headerColumns;
+
+    private RowBatch batch;
+    private int batchPosition;
+
     @Override
     public Object readItem() throws Exception {
-        final Object result = queue.take();
-        if (result instanceof Exception) {
-            if (result instanceof ReadCompletedException) {
+        while (batch == null || batchPosition == batch.size) {
+            if (batch != null && batch.last) {
                 return null;
             }
-            throw (Exception) result;
+            batch = takeBatch();
+            batchPosition = 0;
         }
-        return result;
+        final int i = batchPosition++;
+        final Object row = batch.rows[i];
+        batch.rows[i] = null;
+        currentRowNum = batch.rowNumbers[i];
+        if (row instanceof Exception) {
+            throw (Exception) row;
+        }
+        return toItem((String[]) row);
     }
 
     @Override
@@ -97,6 +174,18 @@ public class ExcelEventItemReader extends ExcelUserModelItemReader implements It
 
     @Override
     public void close() throws Exception {
+        cancelled = true;
+        if (producer != null) {
+            producer.cancel(true);
+            producer = null;
+        }
+        if (queue != null) {
+            queue.clear();
+        }
+        if (ownExecutor != null) {
+            ownExecutor.shutdownNow();
+            ownExecutor = null;
+        }
         super.close();
         if (documentInputStream != null) {
             try {
@@ -109,12 +198,17 @@ public class ExcelEventItemReader extends ExcelUserModelItemReader implements It
 
     @Override
     protected void initWorkbookAndSheet(final int startRowNumber) throws Exception {
-        queue = new ArrayBlockingQueue<Object>(queueCapacity == 0 ? MAX_WORKSHEET_ROWS : queueCapacity);
+        final int capacity = queueCapacity <= 0 ? DEFAULT_QUEUE_CAPACITY : queueCapacity;
+        final int batchSize = Math.min(queueBatchSize <= 0 ? DEFAULT_QUEUE_BATCH_SIZE : queueBatchSize, capacity);
+        queue = new ArrayBlockingQueue<RowBatch>((capacity + batchSize - 1) / batchSize);
+        cancelled = false;
+        batch = null;
         final POIFSFileSystem poifs = new POIFSFileSystem(inputStream);
         // get the Workbook (excel part) stream in a InputStream
         documentInputStream = poifs.createDocumentInputStream("Workbook");
         final HSSFRequest req = new HSSFRequest();
-        final MissingRecordAwareHSSFListener missingRecordAwareHSSFListener = new MissingRecordAwareHSSFListener(new HSSFListenerImpl(this));
+        final HSSFListenerImpl listener = new HSSFListenerImpl(this, batchSize);
+        final MissingRecordAwareHSSFListener missingRecordAwareHSSFListener = new MissingRecordAwareHSSFListener(listener);
         /*
          * Need to use English locale her because Jackson double parsing might break in certain regions
          * where ',' is used as decimal separator instead of '.'.
@@ -127,23 +221,131 @@ public class ExcelEventItemReader extends ExcelUserModelItemReader implements It
             initJsonFactoryAndObjectMapper();
         }
 
-        new Thread(new Runnable() {
-            @Override
-            public void run() {
+        final ExecutorService executor;
+        if (executorServiceLookup != null) {
+            executor = InitialContext.doLookup(executorServiceLookup);
+        } else {
+            final String threadName = getClass().getSimpleName() + "-" + resource;
+            ownExecutor = Executors.newSingleThreadExecutor(r -> {
+                final Thread thread = new Thread(r, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor = ownExecutor;
+        }
+        producer = executor.submit(() -> {
+            try {
+                factory.processEvents(req, documentInputStream);
+            } catch (final ReadCompletedException e) {
+                SupportLogger.LOGGER.tracef("Completed reading %s%n", resource);
+            } catch (final Exception e) {
+                if (!cancelled) {
+                    listener.queueError(e);
+                }
+            } finally {
+                listener.complete();
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Takes the next batch from the queue, waiting for the producer task to queue it.
+     */
+    private RowBatch takeBatch() throws Exception {
+        while (true) {
+            RowBatch next = queue.poll(QUEUE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            if (next != null) {
+                return next;
+            }
+            if (producer.isDone()) {
+                //the producer task may have queued the last batch just before finishing
+                next = queue.poll();
+                if (next != null) {
+                    return next;
+                }
                 try {
-                    factory.processEvents(req, documentInputStream);
-                } catch (final ReadCompletedException e) {
-                    SupportLogger.LOGGER.tracef("Completed reading %s%n", resource);
+                    producer.get();
+                } catch (final ExecutionException e) {
+                    final Throwable cause = e.getCause();
+                    throw cause instanceof Exception ? (Exception) cause : e;
                 }
+                return new RowBatch(0);
             }
-        }).start();
+        }
+    }
+
+    /**
+     * Converts a row array from the producer task to an item of {@link #beanType}.
+     */
+    private Object toItem(final String[] row) throws Exception {
+        if (beanType == List.class) {
+            final List<String> resultList = new ArrayList<String>(header.length);
+            for (int i = 0; i < header.length; ++i) {
+                resultList.add(getCellValue(row[headerColumns[i]]));
+            }
+            return resultList;
+        }
+        final Map<String, String> resultMap = new HashMap<String, String>();
+        for (int i = 0; i < header.length; ++i) {
+            final String val = row[headerColumns[i]];
+            if (val != null) {
+                resultMap.put(header[i], getCellValue(val));
+            }
+        }
+        if (beanType == Map.class) {
+            return resultMap;
+        }
+        final Object obj = objectMapper.convertValue(resultMap, beanType);
+        if (!skipBeanValidation) {
+            ItemReaderWriterBase.validate(obj);
+        }
+        return obj;
+    }
+
+    private static String getCellValue(final String val) {
+        return val == BLANK_CELL ? null : val;
+    }
+
+    /**
+     * A batch of rows passed from the producer task to the reader.
+     */
+    private static final class RowBatch {
+        /**
+         * Each element is either a row array indexed by column, or an exception occurred while reading the row.
+         */
+        private final Object[] rows;
+        private final int[] rowNumbers;
+        private int size;
+
+        /**
+         * true if this is the last batch.
+         */
+        private boolean last;
+
+        private RowBatch(final int capacity) {
+            rows = new Object[capacity];
+            rowNumbers = new int[capacity];
+        }
+
+        private boolean add(final Object row, final int rowNumber) {
+            rows[size] = row;
+            rowNumbers[size] = rowNumber;
+            return ++size == rows.length;
+        }
     }
 
     private static final class HSSFListenerImpl implements HSSFListener {
         private final ExcelEventItemReader itemReader;
 
-        //to store 1 row of data
-        Map<String, String> resultMap = new HashMap<String, String>();
+        private final int batchSize;
+
+        private RowBatch batch;
+
+        private boolean completed;
+
+        //to store 1 row of data, indexed by column
+        private String[] rowValues;
 
         private SSTRecord sstrec;
         private String currentSheetName;
@@ -154,23 +356,41 @@ public class ExcelEventItemReader extends ExcelUserModelItemReader implements It
         private boolean readingHeaderRow;
         private boolean readingDataRow;
 
+        /**
+         * The number of the last row read from the target sheet.
+         */
+        private int lastRowNum;
+
+        /**
+         * The cell of a formula with string result, which is stored in the next {@code StringRecord}, or -1.
+         */
+        private int rowForNextStringRecord = -1;
+        private int columnForNextStringRecord;
+
         /**
          * true if we are reading a sheet and this sheet is the target sheet
          */
         private boolean readingTargetSheet;
 
-        private HSSFListenerImpl(final ExcelEventItemReader itemReader) {
+        private HSSFListenerImpl(final ExcelEventItemReader itemReader, final int batchSize) {
             this.itemReader = itemReader;
+            this.batchSize = batchSize;
+            this.batch = new RowBatch(batchSize);
             if (itemReader.header != null) {
+                itemReader.columnLabels = itemReader.header.clone();
+                itemReader.headerColumns = new int[itemReader.header.length];
                 for (int i = 0; i < itemReader.header.length; ++i) {
                     headerIndexToLabelMapping.put(i, itemReader.header[i]);
+                    itemReader.headerColumns[i] = i;
                 }
             }
         }
 
         @Override
         public void processRecord(final Record record) {
-            String keyForNextStringRecord = null;
+            if (itemReader.cancelled) {
+                throw new ReadCompletedException();
+            }
             try {
                 if (currentSheetName == null || itemReader.sheetName.equals(currentSheetName)) {
                     switch (record.getSid()) {
@@ -225,7 +445,8 @@ public class ExcelEventItemReader extends ExcelUserModelItemReader implements It
                                 String val;
                                 if (Double.isNaN(rec.getValue())) {
                                     // Formula result is a string This is stored in the next record
-                                    keyForNextStringRecord = headerIndexToLabelMapping.get(column);
+                                    rowForNextStringRecord = row;
+                                    columnForNextStringRecord = column;
                                 } else {
                                     val = itemReader.formatListener.formatNumberDateCell(rec);
                                     readCellValues(row, column, val);
@@ -234,12 +455,11 @@ public class ExcelEventItemReader extends ExcelUserModelItemReader implements It
                             break;
                         case StringRecord.sid:
                             if (readingTargetSheet) {
-                                if (keyForNextStringRecord != null) {
+                                if (rowForNextStringRecord >= 0) {
                                     // String for formula
                                     final StringRecord rec = (StringRecord) record;
-                                    final String val = rec.getString();
-                                    resultMap.put(keyForNextStringRecord, val);
-                                    keyForNextStringRecord = null;
+                                    readCellValues(rowForNextStringRecord, columnForNextStringRecord, rec.getString());
+                                    rowForNextStringRecord = -1;
                                 }
                             }
                             break;
@@ -264,8 +484,9 @@ public class ExcelEventItemReader extends ExcelUserModelItemReader implements It
                             }
                             break;
                         case EOFRecord.sid:
-                            if (readingTargetSheet && readingDataRow) {
-                                queueRowData(null, true);
+                            if (readingTargetSheet) {
+                                complete();
+                                throw new ReadCompletedException();
                             }
                             break;
                         default:
@@ -278,33 +499,24 @@ public class ExcelEventItemReader extends ExcelUserModelItemReader implements It
                     final LastCellOfRowDummyRecord lastCellOfRowDummyRecord = (LastCellOfRowDummyRecord) record;
                     final int row = lastCellOfRowDummyRecord.getRow();
                     if (readingHeaderRow) {
-                        itemReader.headerMapping = new HashMap<String, String>();
-                        for (final Map.Entry<Integer, String> e : headerIndexToLabelMapping.entrySet()) {
-                            itemReader.headerMapping.put(String.valueOf(e.getKey()), e.getValue());
-                        }
-                        if (itemReader.header == null) {
-                            final List<String> headerList = new ArrayList<String>();
-                            final int headerColumnCount = headerIndexToLabelMapping.size();
-                            for (int i = 0; headerList.size() < headerColumnCount; i++) {
-                                final String val = headerIndexToLabelMapping.get(i);
-                                if (val != null) {
-                                    headerList.add(val);
-                                }
-                            }
-                            itemReader.header = headerList.toArray(new String[headerColumnCount]);
-                        }
+                        initHeader();
                         readingHeaderRow = false;
                     } else if (readingDataRow) {
-                        queueRowData(null, false);
+                        queueRow(rowValues != null ? rowValues : new String[itemReader.columnLabels.length], row);
+                        rowValues = null;
                     }
+                    lastRowNum = row;
                     if (row >= itemReader.end) {
-                        queueRowData(null, true);
+                        complete();
+                        throw new ReadCompletedException();
                     }
-                    itemReader.currentRowNum = row;
                 }
+            } catch (final ReadCompletedException e) {
+                throw e;
             } catch (final Exception e) {
                 if (readingTargetSheet) {
-                    queueRowData(e, false);
+                    rowValues = null;
+                    queueError(e);
                 }
             }
 
@@ -318,49 +530,92 @@ public class ExcelEventItemReader extends ExcelUserModelItemReader implements It
             } else if (row >= itemReader.start) {
                 readingDataRow = true;
                 readingHeaderRow = false;
-                resultMap.put(headerIndexToLabelMapping.get(column), val);
+                final String[] columnLabels = itemReader.columnLabels;
+                if (column < columnLabels.length && columnLabels[column] != null) {
+                    if (rowValues == null) {
+                        rowValues = new String[columnLabels.length];
+                    }
+                    rowValues[column] = val == null ? BLANK_CELL : val;
+                }
+            }
+        }
+
+        /**
+         * Initializes the header of the reader from the header row read from the sheet.
+         */
+        private void initHeader() {
+            itemReader.headerMapping = new HashMap<String, String>();
+            int columnCount = 0;
+            for (final Map.Entry<Integer, String> e : headerIndexToLabelMapping.entrySet()) {
+                itemReader.headerMapping.put(String.valueOf(e.getKey()), e.getValue());
+                columnCount = Math.max(columnCount, e.getKey() + 1);
+            }
+            final String[] columnLabels = new String[columnCount];
+            final List<String> headerList = new ArrayList<String>();
+            final List<Integer> headerColumnList = new ArrayList<Integer>();
+            for (int i = 0; i < columnCount; i++) {
+                final String val = headerIndexToLabelMapping.get(i);
+                if (val != null) {
+                    columnLabels[i] = val;
+                    headerList.add(val);
+                    headerColumnList.add(i);
+                }
+            }
+            final int[] headerColumns = new int[headerColumnList.size()];
+            for (int i = 0; i < headerColumns.length; i++) {
+                headerColumns[i] = headerColumnList.get(i);
+            }
+            itemReader.header = headerList.toArray(new String[headerList.size()]);
+            itemReader.headerColumns = headerColumns;
+            itemReader.columnLabels = columnLabels;
+        }
 
+        private void queueRow(final String[] row, final int rowNumber) {
+            if (batch.add(row, rowNumber)) {
+                putBatch();
+            }
+        }
+
+        /**
+         * Queues an exception occurred during event record processing, together with any rows before it, so that
+         * the reader gets it without waiting for a full batch.
+         *
+         * @param exception the exception to queue
+         */
+        private void queueError(final Exception exception) {
+            batch.add(exception, lastRowNum);
+            putBatch();
+        }
+
+        /**
+         * Queues the last batch to indicate the end of data stream, unless already done or the reader is closed.
+         */
+        private void complete() {
+            if (completed || itemReader.cancelled) {
+                return;
             }
+            completed = true;
+            batch.last = true;
+            putBatch();
         }
 
         /**
-         * puts data, {@link #resultMap} for regular row data, and {@link ReadCompletedException} to indicate the end
-         * of data stream. It also re-initialize {@link #resultMap}
+         * Puts {@link #batch} to the queue, waiting for space to become available, and starts a new batch.
          *
-         * @param exception any exception occurred during event record processing
-         * @param eof       true if reached the end of data stream
+         * @throws ReadCompletedException if the reader is closed while waiting
          */
-        private void queueRowData(final Exception exception, final boolean eof) throws ReadCompletedException {
+        private void putBatch() throws ReadCompletedException {
             try {
-                if (eof) {
-                    final ReadCompletedException readCompletedException = new ReadCompletedException();
-                    itemReader.queue.put(readCompletedException);
-                    throw readCompletedException;
-                } else if (exception != null) {
-                    itemReader.queue.put(exception);
-                    resultMap = new HashMap<String, String>();
-                } else {
-                    final Object obj;
-                    if (itemReader.beanType == List.class) {
-                        final List<String> resultList = new ArrayList<String>();
-                        for (int i = 0; i < itemReader.header.length; ++i) {
-                            resultList.add(resultMap.get(itemReader.header[i]));
-                        }
-                        obj = resultList;
-                    } else if (itemReader.beanType == Map.class) {
-                        obj = resultMap;
-                    } else {
-                        obj = itemReader.objectMapper.convertValue(resultMap, itemReader.beanType);
-                        if (!itemReader.skipBeanValidation) {
-                            ItemReaderWriterBase.validate(obj);
-                        }
+                while (!itemReader.queue.offer(batch, QUEUE_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    if (itemReader.cancelled) {
+                        throw new ReadCompletedException();
                     }
-                    itemReader.queue.put(obj);
-                    resultMap = new HashMap<String, String>();
                 }
             } catch (final InterruptedException e) {
                 Thread.currentThread().interrupt();
+                throw new ReadCompletedException();
             }
+            batch = new RowBatch(batchSize);
         }
     }
 
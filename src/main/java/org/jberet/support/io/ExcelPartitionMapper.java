@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.jberet.support._private.SupportMessages;
+
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.api.partition.PartitionMapper;
+import jakarta.batch.api.partition.PartitionPlan;
+import jakarta.batch.api.partition.PartitionPlanImpl;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * An implementation of {@code jakarta.batch.api.partition.PartitionMapper} that splits an Excel workbook (.xlsx)
+ * by sheets, so that each partition of a chunk step reads only its own sheet, in parallel with other partitions.
+ * It is typically used with {@link ExcelStreamingItemReader}, which inflates only the part of its own sheet when
+ * the workbook is a local file.
+ * <p>
+ * This class enumerates the sheets from the workbook part, and creates one partition for each sheet, in workbook
+ * order. If {@link #rowsPerPartition} is set, a sheet with more data rows is further split into row ranges, based
+ * on the dimension recorded at the start of the sheet part. Each partition has the following partition properties:
+ * <ul>
+ *     <li>{@code sheetName}: the name of the sheet to read;
+ *     <li>{@code start}: the row number of the first data row in the partition, starting from 0;
+ *     <li>{@code end}: the row number of the last data row in the partition, inclusive, or 0 if the partition
+ *     reads to the end of the sheet;
+ *     <li>{@code partition}: the partition index, starting from 0.
+ * </ul>
+ * <p>
+ * For example,
+ * <pre>
+ * &lt;partition&gt;
+ *     &lt;mapper ref="excelPartitionMapper"&gt;
+ *         &lt;properties&gt;
+ *             &lt;property name="resource" value="/data/trades-2026.xlsx"/&gt;
+ *             &lt;property name="threads" value="8"/&gt;
+ *         &lt;/properties&gt;
+ *     &lt;/mapper&gt;
+ * &lt;/partition&gt;
+ * </pre>
+ * and {@code excelStreamingItemReader} in the same step is configured with:
+ * <pre>
+ * &lt;property name="resource" value="/data/trades-2026.xlsx"/&gt;
+ * &lt;property name="headerRow" value="0"/&gt;
+ * &lt;property name="sheetName" value="#{partitionPlan['sheetName']}"/&gt;
+ * &lt;property name="start" value="#{partitionPlan['start']}"/&gt;
+ * &lt;property name="end" value="#{partitionPlan['end']}"/&gt;
+ * </pre>
+ *
+ * @see ExcelStreamingItemReader
+ * @see ExcelUserModelItemReader
+ * @since 3.0.1
+ */
+@Named
+@Dependent
+public class ExcelPartitionMapper implements PartitionMapper {
+    private static final String schemaRelationships = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+    /**
+     * The workbook to split into partitions, either a file path, a URL, or a resource on the class path. Required
+     * property. A compressed workbook is detected by its file extension or magic number, as in
+     * {@link ItemReaderWriterBase#compression}.
+     */
+    @Inject
+    @BatchProperty
+    protected String resource;
+
+    /**
+     * The names of the sheets to read, in the order of partitions. Optional property, and defaults to all sheets in
+     * the workbook, except hidden ones.
+     */
+    @Inject
+    @BatchProperty
+    protected String[] sheetNames;
+
+    /**
+     * The row number of the header row in each sheet, starting from 0, as in the reader. Data rows start from the
+     * next row. Optional property, and defaults to 0. Set it to -1 if the sheets have no header row.
+     */
+    @Inject
+    @BatchProperty
+    protected Integer headerRow;
+
+    /**
+     * The maximum number of data rows in each partition. Optional property, and defaults to 0, i.e., one
+     * partition per sheet. When set, a larger sheet is split into row ranges, if its dimension is recorded in the
+     * sheet part.
+     */
+    @Inject
+    @BatchProperty
+    protected int rowsPerPartition;
+
+    /**
+     * The number of threads to run partitions. Optional property, and defaults to the number of partitions.
+     */
+    @Inject
+    @BatchProperty
+    protected int threads;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PartitionPlan mapPartitions() throws Exception {
+        if (resource == null) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, "resource");
+        }
+        final int dataStart = headerRow == null ? 1 : headerRow + 1;
+        final List<Properties> partitionProperties = new ArrayList<Properties>();
+
+        //a compressed local file is read from the decompressed input stream
+        final File file = ItemReaderWriterBase.getLocalFile(resource);
+        final OPCPackage opcPackage;
+        if (file != null && Compression.of(null, file) == Compression.NONE) {
+            opcPackage = OPCPackage.open(file, PackageAccess.READ);
+        } else {
+            try (InputStream inputStream = ItemReaderWriterBase.getInputStream(resource, false)) {
+                opcPackage = OPCPackage.open(inputStream);
+            }
+        }
+        try {
+            final XSSFReader xssfReader = new XSSFReader(opcPackage);
+            final List<String[]> sheets = getSheets(xssfReader);
+            if (sheetNames != null) {
+                for (final String sheetName : sheetNames) {
+                    String[] sheet = null;
+                    for (final String[] s : sheets) {
+                        if (s[0].equals(sheetName)) {
+                            sheet = s;
+                            break;
+                        }
+                    }
+                    if (sheet == null) {
+                        throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, sheetName, "sheetNames");
+                    }
+                    addPartitions(xssfReader, sheet, dataStart, partitionProperties);
+                }
+            } else {
+                for (final String[] sheet : sheets) {
+                    if (sheet[2] == null || "visible".equals(sheet[2])) {
+                        addPartitions(xssfReader, sheet, dataStart, partitionProperties);
+                    }
+                }
+            }
+        } finally {
+            if (file != null) {
+                //a package opened for read is closed by reverting it
+                opcPackage.revert();
+            }
+        }
+
+        final int partitions = partitionProperties.size();
+        final PartitionPlanImpl partitionPlan = new PartitionPlanImpl();
+        partitionPlan.setPartitions(partitions);
+        partitionPlan.setThreads(threads > 0 ? threads : partitions);
+        partitionPlan.setPartitionProperties(partitionProperties.toArray(new Properties[partitions]));
+        return partitionPlan;
+    }
+
+    /**
+     * Gets the sheets of the workbook, in workbook order.
+     *
+     * @param xssfReader the reader of the workbook
+     * @return the name, relationship id, and state (may be null) of each sheet
+     */
+    private static List<String[]> getSheets(final XSSFReader xssfReader) throws Exception {
+        final List<String[]> sheets = new ArrayList<String[]>();
+        InputStream workbookDataInputStream = null;
+        XMLStreamReader workbookStreamReader = null;
+        try {
+            workbookDataInputStream = xssfReader.getWorkbookData();
+            workbookStreamReader = XMLInputFactory.newInstance().createXMLStreamReader(workbookDataInputStream);
+            while (workbookStreamReader.hasNext()) {
+                if (workbookStreamReader.next() == XMLStreamConstants.START_ELEMENT && "sheet".equals(workbookStreamReader.getLocalName())) {
+                    sheets.add(new String[]{
+                            workbookStreamReader.getAttributeValue(null, "name"),
+                            workbookStreamReader.getAttributeValue(schemaRelationships, "id"),
+                            workbookStreamReader.getAttributeValue(null, "state")});
+                }
+            }
+        } finally {
+            if (workbookStreamReader != null) {
+                workbookStreamReader.close();
+            }
+            if (workbookDataInputStream != null) {
+                workbookDataInputStream.close();
+            }
+        }
+        return sheets;
+    }
+
+    private void addPartitions(final XSSFReader xssfReader,
+                               final String[] sheet,
+                               final int dataStart,
+                               final List<Properties> partitionProperties) throws Exception {
+        final int lastRow = rowsPerPartition > 0 ? getLastRow(xssfReader, sheet[1]) : -1;
+        int start = dataStart;
+        do {
+            //end of 0 means the end of the sheet to the reader, so a partition never ends at row 0
+            final int end = Math.max(start + rowsPerPartition - 1, 1);
+            final Properties p = new Properties();
+            p.setProperty("sheetName", sheet[0]);
+            p.setProperty("start", String.valueOf(start));
+            p.setProperty("end", String.valueOf(end < lastRow ? end : 0));
+            p.setProperty("partition", String.valueOf(partitionProperties.size()));
+            partitionProperties.add(p);
+            start = end + 1;
+        } while (start <= lastRow);
+    }
+
+    /**
+     * Gets the last row of a sheet from the {@code dimension} element at the start of the sheet part, e.g.,
+     * {@code <dimension ref="A1:G200001"/>}, without reading the sheet data.
+     *
+     * @param xssfReader the reader of the workbook
+     * @param relationshipId the relationship id of the sheet
+     * @return the last row number, starting from 0, or -1 if the dimension is not recorded
+     */
+    private static int getLastRow(final XSSFReader xssfReader, final String relationshipId) throws Exception {
+        InputStream sheetInputStream = null;
+        XMLStreamReader sheetStreamReader = null;
+        try {
+            sheetInputStream = xssfReader.getSheet(relationshipId);
+            sheetStreamReader = XMLInputFactory.newInstance().createXMLStreamReader(sheetInputStream);
+            while (sheetStreamReader.hasNext()) {
+                if (sheetStreamReader.next() == XMLStreamConstants.START_ELEMENT) {
+                    final String name = sheetStreamReader.getLocalName();
+                    if ("dimension".equals(name)) {
+                        final String ref = sheetStreamReader.getAttributeValue(null, "ref");
+                        return ref == null ? -1 : getRowNumber(ref.substring(ref.indexOf(':') + 1)) - 1;
+                    }
+                    if ("sheetData".equals(name)) {
+                        return -1;
+                    }
+                }
+            }
+            return -1;
+        } finally {
+            if (sheetStreamReader != null) {
+                sheetStreamReader.close();
+            }
+            if (sheetInputStream != null) {
+                sheetInputStream.close();
+            }
+        }
+    }
+
+    /**
+     * Gets the 1-based row number from an A1-style cell reference, e.g., 200001 for G200001.
+     */
+    private static int getRowNumber(final String cellReference) {
+        int i = 0;
+        while (i < cellReference.length() && !Character.isDigit(cellReference.charAt(i))) {
+            i++;
+        }
+        return i < cellReference.length() ? Integer.parseInt(cellReference.substring(i)) : 0;
+    }
+}
@@ -10,8 +10,14 @@
 
 package org.jberet.support.io;
 
+import java.io.File;
 import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,18 +26,29 @@ import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamReader;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DateUtil;
 import org.apache.poi.xssf.eventusermodel.XSSFReader;
-import org.apache.poi.xssf.model.SharedStringsTable;
-import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
 
+import jakarta.batch.api.BatchProperty;
 import jakarta.batch.api.chunk.ItemReader;
 import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
 /**
  * An implementation of {@code jakarta.batch.api.chunk.ItemReader} for reading OOXML Excel files, based on Apache POI
  * XSSF streaming reader API, and StAX.
+ * <p>
+ * Since 3.0.1, shared strings are loaded lazily, as limited by {@link #sharedStringsMemoryLimit}, and the protected
+ * field {@code sharedStringsTable}, which held the whole shared strings table, has been removed. Subclasses should
+ * call {@link #getSharedString(int)} instead of reading entries from {@code sharedStringsTable}.
  *
  * @see     ExcelStreamingItemWriter
  * @see     ExcelUserModelItemReader
@@ -44,59 +61,155 @@ import jakarta.inject.Named;
 public class ExcelStreamingItemReader extends ExcelUserModelItemReader implements ItemReader {
     private static final String schemaRelationships = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
 
+    /**
+     * The largest magnitude of integers that are exactly represented as {@code double}.
+     */
+    private static final double MAX_EXACT_LONG = 1L << 53;
+
+    private static final int DEFAULT_SHARED_STRINGS_MEMORY_LIMIT = 1000000;
+
     /**
      * If set to true, the target sheet uses R1C1-style cell coordinates; if set to false, the target sheet uses the
      * more common A1-style cell coordinates; defaults to null (not set).
      */
     protected Boolean r1c1;
 
+    /**
+     * Whether to decode cell values into typed values, based on the cell type and style in the sheet, instead of
+     * strings. Optional property, and defaults to {@code false}. When set to {@code true}, numeric cells are decoded
+     * as {@code java.lang.Long} if the value is integral, or {@code java.lang.Double} otherwise, numeric cells with
+     * a date format as {@code java.time.LocalDateTime}, boolean cells as {@code java.lang.Boolean}, ISO 8601 date
+     * cells as {@code java.time.LocalDateTime}, and other cells as {@code java.lang.String}. When binding to a POJO
+     * {@code beanType}, date values are passed as ISO 8601 local date-time strings.
+     *
+     * @since 3.0.1
+     */
+    @Inject
+    @BatchProperty
+    protected boolean typedCellValues;
+
+    /**
+     * The maximum number of shared strings to keep in memory. Shared strings are loaded lazily, only as far as the
+     * largest index referenced by the cells read so far, and any strings beyond this limit are saved to a temporary
+     * file and read back from it when referenced, so that a workbook with a huge shared strings table can be read
+     * with a small heap. Optional property, and defaults to 1000000. A negative value keeps all shared strings in
+     * memory.
+     *
+     * @since 3.0.1
+     */
+    @Inject
+    @BatchProperty
+    protected Integer sharedStringsMemoryLimit;
+
     protected InputStream sheetInputStream;
     protected XMLStreamReader sheetStreamReader;
-    protected SharedStringsTable sharedStringsTable;
+
+    /**
+     * The styles of the workbook, to detect date formatted numeric cells, or null if not decoding typed values.
+     *
+     * @since 3.0.1
+     */
+    protected StylesTable stylesTable;
+
+    /**
+     * The {@code ObjectReader} for {@link #beanType}, created once when the reader is opened, or null if
+     * {@link #beanType} is {@code java.util.List} or {@code java.util.Map}.
+     *
+     * @since 3.0.1
+     */
+    protected ObjectReader objectReader;
+
+    /**
+     * The column index of each value in {@link #header}.
+     */
+    private int[] headerColumns;
+
+    /**
+     * The cell values of the current row, indexed by column, which are reused for all rows. Only columns in
+     * {@link #headerColumns} are kept.
+     */
+    private Object[] rowValues;
+
+    /**
+     * Whether each element of {@link #rowValues} is from a cell present in the current row.
+     */
+    private boolean[] cellPresent;
+
+    private SharedStringsStore sharedStrings;
+
+    /**
+     * The workbook package, if opened from a local file.
+     */
+    private OPCPackage filePackage;
+
+    /**
+     * The local file of the workbook, if it is not compressed, or null if the workbook is read from the input stream.
+     */
+    private File localFile;
+
+    /**
+     * Whether the workbook uses the 1904 date system.
+     */
+    private boolean date1904;
+
+    /**
+     * Whether each cell style is a date format: 0 if not checked yet, 1 if it is, and 2 if it is not.
+     */
+    private byte[] dateStyles;
 
     @Override
     public Object readItem() throws Exception {
-        if (currentRowNum == this.end) {
+        if (currentRowNum >= this.end) {
             return null;
         }
 
-        Map<String, String> resultMap;
         while (sheetStreamReader.hasNext()) {
             final int event = sheetStreamReader.next();
             if (event == XMLStreamConstants.START_ELEMENT && "row".equals(sheetStreamReader.getLocalName())) {
                 currentRowNum = Integer.parseInt(sheetStreamReader.getAttributeValue(null, "r")) - 1;
+                if (currentRowNum > this.end) {
+                    //the end row is missing from the sheet, e.g., because it is blank
+                    return null;
+                }
+                readRow();
 
-                resultMap = new HashMap<String, String>();
-                while (sheetStreamReader.hasNext()) {
-                    final int event1 = sheetStreamReader.next();
-                    if (event1 == XMLStreamConstants.START_ELEMENT && "c".equals(sheetStreamReader.getLocalName())) {
-                        final String columnLabel = getColumnLabel(sheetStreamReader.getAttributeValue(null, "r"));
-                        if (headerMapping == null) {
-                            initHeaderMapping();
-                        }
-                        final String key = headerMapping.get(columnLabel);
-                        resultMap.put(key, getCellStringValue());
-                    } else if (event1 == XMLStreamConstants.END_ELEMENT && "row".equals(sheetStreamReader.getLocalName())) {
-                        if (beanType == Map.class) {
-                            return resultMap;
-                        }
-                        if (beanType == List.class) {
-                            //blank cells have no trace in sheet xml file, so need to match any cell to its column letter
-                            //and add null for blank cell to avoid accidental shift
-                            final List<String> resultList = new ArrayList<String>();
-                            for (final String h : header) {
-                                resultList.add(resultMap.get(h));
-                            }
-                            return resultList;
+                if (beanType == Map.class) {
+                    final Map<String, Object> resultMap = new HashMap<String, Object>();
+                    for (int i = 0; i < header.length; i++) {
+                        if (cellPresent[headerColumns[i]]) {
+                            resultMap.put(header[i], rowValues[headerColumns[i]]);
                         }
-                        initJsonFactoryAndObjectMapper();
-                        final Object readValue = objectMapper.convertValue(resultMap, beanType);
-                        if (!skipBeanValidation) {
-                            ItemReaderWriterBase.validate(readValue);
-                        }
-                        return readValue;
+                    }
+                    return resultMap;
+                }
+                if (beanType == List.class) {
+                    //blank cells have no trace in sheet xml file, so values are matched to columns by cell reference,
+                    //and null is added for blank cell to avoid accidental shift
+                    final List<Object> resultList = new ArrayList<Object>(header.length);
+                    for (int i = 0; i < header.length; i++) {
+                        resultList.add(rowValues[headerColumns[i]]);
+                    }
+                    return resultList;
+                }
+
+                //write cells directly as bean properties, instead of converting a map to the bean
+                final TokenBuffer tokenBuffer = new TokenBuffer(objectMapper, false);
+                tokenBuffer.writeStartObject();
+                for (int i = 0; i < header.length; i++) {
+                    if (cellPresent[headerColumns[i]]) {
+                        tokenBuffer.writeFieldName(header[i]);
+                        writeCellValue(tokenBuffer, rowValues[headerColumns[i]]);
                     }
                 }
+                tokenBuffer.writeEndObject();
+                final Object readValue;
+                try (JsonParser parser = tokenBuffer.asParser(objectMapper)) {
+                    readValue = objectReader.readValue(parser);
+                }
+                if (!skipBeanValidation) {
+                    ItemReaderWriterBase.validate(readValue);
+                }
+                return readValue;
             }
         }
         return null;
@@ -105,36 +218,56 @@ public class ExcelStreamingItemReader extends ExcelUserModelItemReader implement
     @Override
     public void close() throws Exception {
         super.close();
-        if (sheetStreamReader != null) {
-            try {
-                sheetStreamReader.close();
-            } catch (final Exception e) {
-                //ignore
-            }
-            sheetStreamReader = null;
+        if (sharedStrings != null) {
+            sharedStrings.close();
+            sharedStrings = null;
         }
-        if (sheetInputStream != null) {
-            try {
-                sheetInputStream.close();
-            } catch (final Exception e) {
-                //ignore
-            }
-            sheetInputStream = null;
+        closeSheet();
+        if (filePackage != null) {
+            //a package opened for read is closed by reverting it
+            filePackage.revert();
+            filePackage = null;
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A local file that is not compressed is opened by {@link #initWorkbookAndSheet(int)} as a zip file instead,
+     * so no input stream is opened for it.
+     */
+    @Override
+    protected InputStream openWorkbookInputStream() throws Exception {
+        final File file = getLocalFile(resource);
+        localFile = file != null && Compression.of(compression, file) == Compression.NONE ? file : null;
+        return localFile == null ? super.openWorkbookInputStream() : null;
+    }
+
     @Override
     protected void initWorkbookAndSheet(final int startRowNumber) throws Exception {
         InputStream workbookDataInputStream = null;
         XMLStreamReader workbookStreamReader = null;
+        //a local file is opened as a zip file, so that only the parts read are inflated, instead of loading the whole
+        //workbook into memory, which matters when partitions read different sheets of the same workbook
+        final OPCPackage opcPackage;
+        if (localFile != null) {
+            filePackage = OPCPackage.open(localFile, PackageAccess.READ);
+            opcPackage = filePackage;
+        } else {
+            opcPackage = OPCPackage.open(inputStream);
+        }
+        final XSSFReader xssfReader = new XSSFReader(opcPackage);
+        final XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+        String relationshipId = null;
 
         try {
-            final OPCPackage opcPackage = OPCPackage.open(inputStream);
-            final XSSFReader xssfReader = new XSSFReader(opcPackage);
             workbookDataInputStream = xssfReader.getWorkbookData();
-            final XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
             workbookStreamReader = xmlInputFactory.createXMLStreamReader(workbookDataInputStream);
-            sharedStringsTable = xssfReader.getSharedStringsTable();
+            sharedStrings = new SharedStringsStore(xssfReader::getSharedStringsData, sharedStringsMemoryLimit == null ?
+                    DEFAULT_SHARED_STRINGS_MEMORY_LIMIT : sharedStringsMemoryLimit);
+            if (typedCellValues) {
+                stylesTable = xssfReader.getStylesTable();
+            }
 
             /*
             sample sheet element:
@@ -144,15 +277,19 @@ public class ExcelStreamingItemReader extends ExcelUserModelItemReader implement
             </sheets>
              */
             while (workbookStreamReader.hasNext()) {
-                if (workbookStreamReader.next() == XMLStreamConstants.START_ELEMENT && "sheet".equals(workbookStreamReader.getLocalName())) {
+                if (workbookStreamReader.next() != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+                if ("workbookPr".equals(workbookStreamReader.getLocalName())) {
+                    final String date1904Value = workbookStreamReader.getAttributeValue(null, "date1904");
+                    date1904 = "1".equals(date1904Value) || "true".equals(date1904Value);
+                } else if ("sheet".equals(workbookStreamReader.getLocalName())) {
                     final String shn = workbookStreamReader.getAttributeValue(null, "name");
                     final String shId = workbookStreamReader.getAttributeValue(null, "sheetId");
                     if ((sheetName != null && sheetName.equals(shn)) ||
                             (sheetName == null && String.valueOf(this.sheetIndex + 1).equals(shId))) {
                         //this is the target sheet
-                        final String relationshipId = workbookStreamReader.getAttributeValue(schemaRelationships, "id");
-                        sheetInputStream = xssfReader.getSheet(relationshipId);
-                        sheetStreamReader = xmlInputFactory.createXMLStreamReader(sheetInputStream);
+                        relationshipId = workbookStreamReader.getAttributeValue(schemaRelationships, "id");
                         break;
                     }
                 }
@@ -203,7 +340,8 @@ public class ExcelStreamingItemReader extends ExcelUserModelItemReader implement
         null; for map or custom beanType, need to link to the correct header column by r attribute.
          */
         if (header == null) {
-            headerMapping = new HashMap<String, String>();
+            sheetInputStream = xssfReader.getSheet(relationshipId);
+            sheetStreamReader = xmlInputFactory.createXMLStreamReader(sheetInputStream);
             outerLoop:
             while (sheetStreamReader.hasNext()) {
                 if (sheetStreamReader.next() == XMLStreamConstants.START_ELEMENT && "row".equals(sheetStreamReader.getLocalName())) {
@@ -212,15 +350,20 @@ public class ExcelStreamingItemReader extends ExcelUserModelItemReader implement
                     if (headerRow + 1 == rowNum) {
                         // got the header row, next loop through header row cells
                         final List<String> headerVals = new ArrayList<String>();
+                        final List<Integer> headerCols = new ArrayList<Integer>();
+                        int column = -1;
                         while (sheetStreamReader.hasNext()) {
                             final int event = sheetStreamReader.next();
                             if (event == XMLStreamConstants.START_ELEMENT && "c".equals(sheetStreamReader.getLocalName())) {
-                                final String label = getColumnLabel(sheetStreamReader.getAttributeValue(null, "r"));
-                                final String value = getCellStringValue();
-                                headerVals.add(value);
-                                headerMapping.put(label, value);
+                                column = getColumnIndex(sheetStreamReader.getAttributeValue(null, "r"), column);
+                                headerCols.add(column);
+                                headerVals.add(getCellStringValue());
                             } else if (event == XMLStreamConstants.END_ELEMENT && "row".equals(sheetStreamReader.getLocalName())) {
                                 header = headerVals.toArray(new String[headerVals.size()]);
+                                headerColumns = new int[headerCols.size()];
+                                for (int i = 0; i < headerColumns.length; i++) {
+                                    headerColumns[i] = headerCols.get(i);
+                                }
                                 currentRowNum = rowNum - 1;
                                 break outerLoop;
                             }
@@ -228,32 +371,144 @@ public class ExcelStreamingItemReader extends ExcelUserModelItemReader implement
                     }
                 }
             }
+        } else {
+            //header specified by the user corresponds to columns from the first one
+            headerColumns = new int[header.length];
+            for (int i = 0; i < headerColumns.length; i++) {
+                headerColumns[i] = i;
+            }
+        }
+        int columnCount = 0;
+        for (final int column : headerColumns) {
+            columnCount = Math.max(columnCount, column + 1);
+        }
+        rowValues = new Object[columnCount];
+        cellPresent = new boolean[columnCount];
+
+        if (beanType != List.class && beanType != Map.class) {
+            if (objectMapper == null) {
+                initJsonFactoryAndObjectMapper();
+            }
+            objectReader = objectMapper.readerFor(beanType);
         }
 
-        //fast forward to the start row, which may not immediately follow header row
+        //fast forward to the start row, which may not immediately follow header row, e.g., when restarting.
+        //Rows before the start row are skipped by scanning raw bytes of a newly opened sheet, instead of parsing
+        //them with StAX
+        if (sheetStreamReader == null || currentRowNum < startRowNumber - 1) {
+            closeSheet();
+            final SheetRowSkipper skipper = new SheetRowSkipper(xssfReader.getSheet(relationshipId));
+            sheetInputStream = skipper.skipTo(startRowNumber + 1);
+            sheetStreamReader = xmlInputFactory.createXMLStreamReader(sheetInputStream);
+            if (skipper.isPositioned()) {
+                currentRowNum = Math.max(currentRowNum, startRowNumber - 1);
+            }
+        }
         while (currentRowNum < startRowNumber - 1 && sheetStreamReader.hasNext()) {
             if (sheetStreamReader.next() == XMLStreamConstants.START_ELEMENT && "row".equals(sheetStreamReader.getLocalName())) {
                 currentRowNum = Integer.parseInt(sheetStreamReader.getAttributeValue(null, "r")) - 1;
-            } else if (sheetStreamReader.next() == XMLStreamConstants.END_ELEMENT && "row".equals(sheetStreamReader.getLocalName())) {
-                if (currentRowNum >= startRowNumber - 1) {
-                    break;
+            }
+        }
+    }
+
+    private void closeSheet() {
+        if (sheetStreamReader != null) {
+            try {
+                sheetStreamReader.close();
+            } catch (final Exception e) {
+                //ignore
+            }
+            sheetStreamReader = null;
+        }
+        if (sheetInputStream != null) {
+            try {
+                sheetInputStream.close();
+            } catch (final Exception e) {
+                //ignore
+            }
+            sheetInputStream = null;
+        }
+    }
+
+    /**
+     * Reads the cells of the current row into {@link #rowValues}.
+     */
+    private void readRow() throws Exception {
+        Arrays.fill(rowValues, null);
+        Arrays.fill(cellPresent, false);
+        int column = -1;
+        while (sheetStreamReader.hasNext()) {
+            final int event = sheetStreamReader.next();
+            if (event == XMLStreamConstants.START_ELEMENT && "c".equals(sheetStreamReader.getLocalName())) {
+                column = getColumnIndex(sheetStreamReader.getAttributeValue(null, "r"), column);
+                if (column < rowValues.length) {
+                    rowValues[column] = typedCellValues ? getCellTypedValue() : getCellStringValue();
+                    cellPresent[column] = true;
                 }
+            } else if (event == XMLStreamConstants.END_ELEMENT && "row".equals(sheetStreamReader.getLocalName())) {
+                return;
             }
         }
     }
 
     private String getCellStringValue() throws Exception {
-        String result = null;
         final String cellType = sheetStreamReader.getAttributeValue(null, "t");
+        final String result = getCellText();
+        if (result != null && "s".equals(cellType)) {
+            return getSharedString(result);
+        }
+        return result;
+    }
+
+    /**
+     * Decodes the value of the current cell according to its type and style.
+     *
+     * @see #typedCellValues
+     */
+    private Object getCellTypedValue() throws Exception {
+        final String cellType = sheetStreamReader.getAttributeValue(null, "t");
+        final String style = sheetStreamReader.getAttributeValue(null, "s");
+        final String text = getCellText();
+        if (text == null) {
+            return null;
+        }
+        if (cellType == null || "n".equals(cellType)) {
+            if (style != null && isDateStyle(Integer.parseInt(style))) {
+                return DateUtil.getLocalDateTime(Double.parseDouble(text), date1904);
+            }
+            return parseNumber(text);
+        }
+        switch (cellType) {
+            case "s":
+                return getSharedString(text);
+            case "b":
+                return "1".equals(text) || "true".equals(text);
+            case "d":
+                try {
+                    return LocalDateTime.parse(text, DateTimeFormatter.ISO_DATE_TIME);
+                } catch (final DateTimeParseException e) {
+                    try {
+                        return LocalDate.parse(text).atStartOfDay();
+                    } catch (final DateTimeParseException e2) {
+                        return text;
+                    }
+                }
+            default:
+                //inlineStr, str (formula string result), e (error)
+                return text;
+        }
+    }
+
+    /**
+     * Gets the text of the value element of the current cell, or of the text element of an inline string, and
+     * positions the reader at the end of the cell.
+     */
+    private String getCellText() throws Exception {
+        String result = null;
         while (sheetStreamReader.hasNext()) {
             final int event = sheetStreamReader.next();
-            if (event == XMLStreamConstants.START_ELEMENT && "v".equals(sheetStreamReader.getLocalName())) {
-                result = sheetStreamReader.getElementText();
-                if ("s".equals(cellType)) {
-                    final int idx = Integer.parseInt(result);
-                    result = new XSSFRichTextString(sharedStringsTable.getEntryAt(idx)).toString();
-                }
-            } else if (event == XMLStreamConstants.START_ELEMENT && "t".equals(sheetStreamReader.getLocalName())) {
+            if (event == XMLStreamConstants.START_ELEMENT &&
+                    ("v".equals(sheetStreamReader.getLocalName()) || "t".equals(sheetStreamReader.getLocalName()))) {
                 result = sheetStreamReader.getElementText();
             } else if (event == XMLStreamConstants.END_ELEMENT && "c".equals(sheetStreamReader.getLocalName())) {
                 break;
@@ -262,61 +517,114 @@ public class ExcelStreamingItemReader extends ExcelUserModelItemReader implement
         return result;
     }
 
-    // A1 -> A, B1 -> B
-    //R1C1 -> 1, R2C3 -> 3
-    private String getColumnLabel(final String cellPoint) {
-        // a R1C1 notation: R1234C567
-        if (r1c1 == null) {
-            final char[] chars = cellPoint.toCharArray();
-            r1c1 = chars[0] == 'R' && Character.isDigit(chars[1]);
-            return getColumnLabel(cellPoint);
-        } else if (r1c1) {
-            return cellPoint.substring(cellPoint.indexOf('C') + 1);
-        } else {
-            for (int i = 0; i < cellPoint.length(); ++i) {
-                if (Character.isDigit(cellPoint.charAt(i))) {
-                    return cellPoint.substring(0, i);
-                }
-            }
-            return cellPoint;
+    private String getSharedString(final String index) throws Exception {
+        return getSharedString(Integer.parseInt(index));
+    }
+
+    /**
+     * Gets the shared string at {@code index} in the shared strings table of the workbook, loading the table up to
+     * it if needed.
+     *
+     * @param index the 0-based index of the shared string, as in the value of a cell of type {@code s}
+     * @return the shared string
+     * @throws Exception if failed to load the shared strings table, or {@code index} is beyond its end
+     * @since 3.0.1
+     */
+    protected String getSharedString(final int index) throws Exception {
+        return sharedStrings.getItemAt(index);
+    }
+
+    private boolean isDateStyle(final int styleIndex) {
+        if (dateStyles == null) {
+            dateStyles = new byte[stylesTable.getNumCellStyles()];
+        }
+        if (styleIndex >= dateStyles.length) {
+            return false;
+        }
+        if (dateStyles[styleIndex] == 0) {
+            final XSSFCellStyle cellStyle = stylesTable.getStyleAt(styleIndex);
+            dateStyles[styleIndex] = cellStyle != null &&
+                    DateUtil.isADateFormat(cellStyle.getDataFormat(), cellStyle.getDataFormatString()) ? (byte) 1 : 2;
         }
+        return dateStyles[styleIndex] == 1;
     }
 
-    private void initHeaderMapping() {
-        if (r1c1) {
-            for (int index = 0; index < header.length; ++index) {
-                headerMapping.put(String.valueOf(index + 1), header[index]);
+    /**
+     * Parses the text of a numeric cell as a {@code Long} if it is an integral value, or a {@code Double} otherwise.
+     */
+    private static Object parseNumber(final String text) {
+        final int length = text.length();
+        final int start = text.charAt(0) == '-' ? 1 : 0;
+        if (length > start && length - start <= 18) {
+            long value = 0;
+            int i = start;
+            for (; i < length; i++) {
+                final char c = text.charAt(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                value = value * 10 + (c - '0');
             }
-        } else {
-            for (int index = 0; index < header.length; ++index) {
-                headerMapping.put(getColumnLabelByPosition(index), header[index]);
+            if (i == length) {
+                return start == 0 ? value : -value;
             }
         }
-    }
-
-    //utility borrowed from
-    //http://stackoverflow.com/questions/837155/fastest-function-to-generate-excel-column-letters-in-c-sharp
-    private static String getColumnLabelByPosition(final long index) {
-        final char[] ret = new char[64];
-        for (int i = 0; i < ret.length; ++i) {
-            final int digit = ret.length - i - 1;
-            final long test = index - powerDown(i + 1);
-            if (test < 0)
-                break;
-            ret[digit] = toChar(test / (long) (Math.pow(26, i)));
+        //all numbers are stored as doubles, and some writers save integers as, e.g., 3.0
+        final double value = Double.parseDouble(text);
+        if (value == Math.rint(value) && Math.abs(value) <= MAX_EXACT_LONG) {
+            return (long) value;
         }
-        return new String(ret);
+        return value;
     }
 
-    private static char toChar(final long num) {
-        return (char) ((num % 26) + 65);
+    private static void writeCellValue(final TokenBuffer tokenBuffer, final Object value) throws Exception {
+        if (value == null) {
+            tokenBuffer.writeNull();
+        } else if (value instanceof String) {
+            tokenBuffer.writeString((String) value);
+        } else if (value instanceof Long) {
+            tokenBuffer.writeNumber((Long) value);
+        } else if (value instanceof Double) {
+            tokenBuffer.writeNumber((Double) value);
+        } else if (value instanceof Boolean) {
+            tokenBuffer.writeBoolean((Boolean) value);
+        } else {
+            tokenBuffer.writeString(value.toString());
+        }
     }
 
-    private static long powerDown(int limit) {
-        long acc = 0;
-        while (limit > 1) {
-            acc += Math.pow(26, limit-- - 1);
+    /**
+     * Gets the 0-based column index from a cell reference, e.g., 0 for A1, 27 for AB3, or 2 for R1C3 in R1C1
+     * notation.
+     *
+     * @param cellReference the cell reference, may be null
+     * @param previousColumn the column index of the previous cell in the row, or -1 if it is the first cell
+     * @return the column index
+     */
+    private int getColumnIndex(final String cellReference, final int previousColumn) {
+        if (cellReference == null) {
+            //the cell reference is optional, and defaults to the cell after the previous one
+            return previousColumn + 1;
+        }
+        final int length = cellReference.length();
+        if (r1c1 == null) {
+            r1c1 = length > 1 && cellReference.charAt(0) == 'R' && Character.isDigit(cellReference.charAt(1))
+                    && cellReference.indexOf('C', 2) > 0;
+        }
+        int index = 0;
+        if (r1c1) {
+            for (int i = cellReference.indexOf('C') + 1; i < length; i++) {
+                index = index * 10 + (cellReference.charAt(i) - '0');
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                final char c = cellReference.charAt(i);
+                if (c < 'A' || c > 'Z') {
+                    break;
+                }
+                index = index * 26 + (c - 'A' + 1);
+            }
         }
-        return acc;
+        return index - 1;
     }
 }
@@ -114,7 +114,7 @@ public class ExcelUserModelItemReader extends ExcelItemReaderWriterBase implemen
             throw SupportMessages.MESSAGES.invalidStartPosition(startRowNumber, this.start, this.end);
         }
 
-        inputStream = getInputStream(resource, false);
+        inputStream = openWorkbookInputStream();
         initWorkbookAndSheet(startRowNumber);
 
         if (header != null) {
@@ -219,6 +219,18 @@ public class ExcelUserModelItemReader extends ExcelItemReaderWriterBase implemen
         return cellValue;
     }
 
+    /**
+     * Opens the input stream of the workbook, which is saved in {@link #inputStream} and read by
+     * {@link #initWorkbookAndSheet(int)}.
+     *
+     * @return the input stream of the workbook, or null if subclasses read the workbook by other means
+     * @throws Exception if failed to open the input stream
+     * @since 3.0.1
+     */
+    protected InputStream openWorkbookInputStream() throws Exception {
+        return openInputStream(false);
+    }
+
     protected void initWorkbookAndSheet(int startRowNumber) throws Exception {
         workbook = WorkbookFactory.create(inputStream);
         if (sheetName != null) {
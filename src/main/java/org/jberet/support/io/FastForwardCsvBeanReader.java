@@ -12,7 +12,12 @@ package org.jberet.support.io;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -30,6 +35,9 @@ import org.supercsv.util.MethodCache;
  * (using the supplied name mapping). The bean to populate can be either a class or interface. If a class is used, it
  * must be a valid Javabean, i.e. it must have a default no-argument constructor and getter/setter methods. An interface
  * may also be used if it defines getters/setters - a proxy object will be created that implements the interface.
+ * <p>
+ * For a bean class, the constructor and setters are resolved once for the bean class and name mapping into
+ * method handles, instead of looking up the setter for every cell and invoking it reflectively.
  *
  * @author Kasper B. Graversen
  * @author James Bassett
@@ -48,6 +56,9 @@ final class FastForwardCsvBeanReader extends AbstractCsvReader implements ICsvBe
 
     private final int startRowNumber;
 
+    // compiled constructor and setters for the current bean class and name mapping
+    private BeanPopulator populator;
+
     /**
      * Constructs a new <tt>CsvBeanReader</tt> with the supplied Reader and CSV preferences. Note that the
      * <tt>reader</tt> will be wrapped in a <tt>BufferedReader</tt> before accessed.
@@ -115,6 +126,12 @@ final class FastForwardCsvBeanReader extends AbstractCsvReader implements ICsvBe
      * @throws SuperCsvReflectionException if there was a reflection exception while populating the bean
      */
     private <T> T populateBean(final Class<T> clazz, final String[] nameMapping) {
+        if (populator == null || populator.beanType != clazz || populator.nameMapping != nameMapping) {
+            compile(clazz, nameMapping);
+        }
+        if (populator.constructor != null) {
+            return clazz.cast(populator.populate(processedColumns, cache));
+        }
 
         // instantiate the bean or proxy
         final T resultBean = instantiateBean(clazz);
@@ -138,6 +155,19 @@ final class FastForwardCsvBeanReader extends AbstractCsvReader implements ICsvBe
         return resultBean;
     }
 
+    /**
+     * Resolves the constructor and setters of the bean class for the name mapping into method handles, which
+     * will be used to populate beans until this method is called with a different bean class or name mapping.
+     * If the bean class is an interface, or its constructor is not accessible, beans will be populated with
+     * reflection.
+     *
+     * @param clazz       the bean class
+     * @param nameMapping the name mappings
+     */
+    void compile(final Class<?> clazz, final String[] nameMapping) {
+        populator = new BeanPopulator(clazz, nameMapping);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -188,5 +218,97 @@ final class FastForwardCsvBeanReader extends AbstractCsvReader implements ICsvBe
             readRow();
         }
     }
-}
 
+    /**
+     * Instantiates and populates beans of a bean class with method handles resolved once for a name mapping.
+     */
+    private static final class BeanPopulator {
+        private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+        private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+        private final Class<?> beanType;
+        private final String[] nameMapping;
+
+        // null if beans cannot be instantiated with method handle
+        private final MethodHandle constructor;
+
+        // setters for each column, with null element if the column is not mapped, or the setter is overloaded
+        private final MethodHandle[] setters;
+
+        // parameter types of setters, with primitive types replaced by wrapper types
+        private final Class<?>[] setterTypes;
+
+        BeanPopulator(final Class<?> beanType, final String[] nameMapping) {
+            this.beanType = beanType;
+            this.nameMapping = nameMapping;
+            final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            MethodHandle ctor = null;
+            if (!beanType.isInterface() && !Modifier.isAbstract(beanType.getModifiers())) {
+                try {
+                    final Constructor<?> c = beanType.getDeclaredConstructor();
+                    ctor = lookup.unreflectConstructor(c).asType(CONSTRUCTOR_TYPE);
+                } catch (final NoSuchMethodException | IllegalAccessException e) {
+                    //fall back to reflection, which will report the error if the bean cannot be instantiated
+                }
+            }
+            this.constructor = ctor;
+
+            this.setters = new MethodHandle[nameMapping.length];
+            this.setterTypes = new Class<?>[nameMapping.length];
+            if (ctor != null) {
+                final Method[] methods = beanType.getMethods();
+                for (int i = 0; i < nameMapping.length; i++) {
+                    final String name = nameMapping[i];
+                    if (name == null || name.isEmpty()) {
+                        continue;
+                    }
+                    final String setterName = "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+                    Method setter = null;
+                    boolean overloaded = false;
+                    for (final Method m : methods) {
+                        if (m.getParameterCount() == 1 && m.getName().equals(setterName)) {
+                            overloaded = setter != null;
+                            setter = m;
+                        }
+                    }
+                    if (setter != null && !overloaded) {
+                        try {
+                            setters[i] = lookup.unreflect(setter).asType(SETTER_TYPE);
+                            setterTypes[i] = MethodType.methodType(setter.getParameterTypes()[0]).wrap().returnType();
+                        } catch (final IllegalAccessException e) {
+                            //fall back to MethodCache
+                        }
+                    }
+                }
+            }
+        }
+
+        Object populate(final List<Object> processedColumns, final MethodCache cache) {
+            final Object bean;
+            try {
+                bean = (Object) constructor.invokeExact();
+            } catch (final Throwable e) {
+                throw new SuperCsvReflectionException("error instantiating bean", e);
+            }
+            for (int i = 0; i < nameMapping.length; i++) {
+                final Object fieldValue = processedColumns.get(i);
+                if (nameMapping[i] == null || fieldValue == null) {
+                    continue;
+                }
+                final MethodHandle setter = setters[i];
+                if (setter == null || !setterTypes[i].isInstance(fieldValue)) {
+                    //let MethodCache find a compatible setter, or report the mismatch
+                    invokeSetter(bean, cache.getSetMethod(bean, nameMapping[i], fieldValue.getClass()), fieldValue);
+                } else {
+                    try {
+                        setter.invokeExact(bean, fieldValue);
+                    } catch (final Throwable e) {
+                        throw new SuperCsvReflectionException(String.format("error invoking method %s()",
+                                "set" + Character.toUpperCase(nameMapping[i].charAt(0)) + nameMapping[i].substring(1)), e);
+                    }
+                }
+            }
+            return bean;
+        }
+    }
+}
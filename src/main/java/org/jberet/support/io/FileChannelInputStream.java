@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import org.jberet.support._private.SupportLogger;
+
+/**
+ * An {@code java.io.InputStream} that reads a local file through its {@code java.nio.channels.FileChannel}, either
+ * with positional reads into a buffer of configurable size, or by mapping regions of the file into memory. The stream
+ * keeps its own read position, which can be queried with {@link #position()} and changed with {@link #seek(long)}
+ * in both directions, without reopening the file.
+ *
+ * @see ItemReaderWriterBase#fileAccessMode
+ * @since 3.0.1
+ */
+final class FileChannelInputStream extends InputStream {
+    /**
+     * The size of each memory-mapped region, if it is larger than the buffer size.
+     */
+    private static final int MAPPED_REGION_SIZE = 64 * 1024 * 1024;
+
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    private static final MethodHandle UNMAPPER = findUnmapper();
+
+    private final FileChannel channel;
+
+    private final boolean mapped;
+
+    private final int regionSize;
+
+    /**
+     * Bytes available to read, in read mode. For memory-mapped access, this is the currently mapped region.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * The byte offset in the file of the first byte in {@link #buffer}.
+     */
+    private long bufferStart;
+
+    private long mark;
+
+    FileChannelInputStream(final FileChannel channel, final int bufferSize, final boolean mapped) {
+        this.channel = channel;
+        this.mapped = mapped;
+        if (mapped) {
+            regionSize = Math.max(bufferSize, MAPPED_REGION_SIZE);
+            buffer = EMPTY;
+        } else {
+            regionSize = bufferSize;
+            buffer = ByteBuffer.allocate(bufferSize);
+            buffer.flip();
+        }
+    }
+
+    /**
+     * Repositions {@code in} to the byte offset {@code position}. Instances of this class and
+     * {@code java.io.FileInputStream} are repositioned through their file channel, and other input streams are
+     * skipped forward by {@code position} bytes from where they are.
+     *
+     * @param in the input stream to reposition
+     * @param position the byte offset to seek to
+     * @return false if {@code in} cannot be repositioned, because the end of stream is reached first
+     * @throws IOException if failed to reposition the input stream
+     */
+    static boolean seek(final InputStream in, final long position) throws IOException {
+        if (in instanceof FileChannelInputStream) {
+            ((FileChannelInputStream) in).seek(position);
+            return true;
+        }
+        if (in instanceof FileInputStream) {
+            ((FileInputStream) in).getChannel().position(position);
+            return true;
+        }
+        long n = position;
+        while (n > 0) {
+            final long skipped = in.skip(n);
+            if (skipped > 0) {
+                n -= skipped;
+            } else if (in.read() >= 0) {
+                n--;
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the file channel this stream reads from.
+     *
+     * @return the file channel
+     */
+    FileChannel getChannel() {
+        return channel;
+    }
+
+    /**
+     * Gets the byte offset in the file of the next byte to read.
+     *
+     * @return the current read position
+     */
+    long position() {
+        return bufferStart + buffer.position();
+    }
+
+    /**
+     * Sets the byte offset in the file of the next byte to read. Buffered data is retained if {@code position} falls
+     * within it.
+     *
+     * @param position the new read position, which may be beyond the end of file
+     */
+    void seek(final long position) {
+        if (position >= bufferStart && position <= bufferStart + buffer.limit()) {
+            buffer.position((int) (position - bufferStart));
+        } else {
+            bufferStart = position;
+            if (mapped) {
+                unmap(buffer);
+                buffer = EMPTY;
+            } else {
+                buffer.clear().flip();
+            }
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!buffer.hasRemaining() && !fill()) {
+            return -1;
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!buffer.hasRemaining() && !fill()) {
+            return -1;
+        }
+        final int n = Math.min(len, buffer.remaining());
+        buffer.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+        final long position = position();
+        final long target = Math.min(position + n, Math.max(channel.size(), position));
+        seek(target);
+        return target - position;
+    }
+
+    @Override
+    public int available() throws IOException {
+        final long available = buffer.remaining() + Math.max(0, channel.size() - bufferStart - buffer.limit());
+        return (int) Math.min(available, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public void mark(final int readLimit) {
+        mark = position();
+    }
+
+    @Override
+    public void reset() {
+        seek(mark);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (mapped) {
+            unmap(buffer);
+        }
+        buffer = EMPTY;
+        channel.close();
+    }
+
+    /**
+     * Reads or maps the data at the current read position into {@link #buffer}.
+     *
+     * @return false if the end of file is reached
+     * @throws IOException if failed to read the file
+     */
+    private boolean fill() throws IOException {
+        final long position = position();
+        bufferStart = position;
+        if (mapped) {
+            final long size = channel.size();
+            final ByteBuffer region = buffer;
+            if (position >= size) {
+                buffer = EMPTY;
+                unmap(region);
+                return false;
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(regionSize, size - position));
+            unmap(region);
+        } else {
+            buffer.clear();
+            final int n = channel.read(buffer, position);
+            buffer.flip();
+            if (n < 0) {
+                return false;
+            }
+        }
+        return buffer.hasRemaining();
+    }
+
+    /**
+     * Unmaps a memory-mapped region that is no longer referenced by this stream, so that its address space and file
+     * mapping are released right away, instead of when the buffer is garbage collected.
+     *
+     * @param region the region to unmap, or {@link #EMPTY}
+     */
+    private static void unmap(final ByteBuffer region) {
+        if (UNMAPPER != null && region.isDirect()) {
+            try {
+                UNMAPPER.invokeExact(region);
+            } catch (final Throwable e) {
+                SupportLogger.LOGGER.tracef(e, "Failed to unmap file region");
+            }
+        }
+    }
+
+    /**
+     * Finds {@code sun.misc.Unsafe.invokeCleaner(ByteBuffer)}, which is the only way to unmap a region before it is
+     * garbage collected.
+     *
+     * @return the method handle bound to the {@code Unsafe} instance, or null if not available
+     */
+    private static MethodHandle findUnmapper() {
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup().findVirtual(unsafeClass, "invokeCleaner",
+                    MethodType.methodType(void.class, ByteBuffer.class)).bindTo(theUnsafe.get(null));
+        } catch (final Exception e) {
+            SupportLogger.LOGGER.tracef(e, "Mapped file regions will be unmapped when garbage collected");
+            return null;
+        }
+    }
+}
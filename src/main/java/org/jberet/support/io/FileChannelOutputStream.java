@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * An {@code java.io.OutputStream} that writes to a local file through its {@code java.nio.channels.FileChannel},
+ * collecting small writes in a buffer of configurable size. Writes at least as large as the buffer go to
+ * the channel directly. Data is written to the channel when the buffer is full, and when {@link #flush()} or
+ * {@link #close()} is called, after which the channel position is the byte offset of all data written so far.
+ *
+ * @see ItemReaderWriterBase#fileAccessMode
+ * @since 3.0.1
+ */
+final class FileChannelOutputStream extends OutputStream {
+    private final FileChannel channel;
+
+    /**
+     * Bytes not yet written to {@link #channel}, in write mode.
+     */
+    private final ByteBuffer buffer;
+
+    FileChannelOutputStream(final FileChannel channel, final int bufferSize) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+    }
+
+    /**
+     * Gets the file channel this stream writes to.
+     *
+     * @return the file channel
+     */
+    FileChannel getChannel() {
+        return channel;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        if (!buffer.hasRemaining()) {
+            drain();
+        }
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        if (len > buffer.remaining()) {
+            drain();
+            if (len >= buffer.capacity()) {
+                writeFully(ByteBuffer.wrap(b, off, len));
+                return;
+            }
+        }
+        buffer.put(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        drain();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel.isOpen()) {
+            try {
+                drain();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(final ByteBuffer src) throws IOException {
+        while (src.hasRemaining()) {
+            channel.write(src);
+        }
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.jberet.support._private.SupportMessages;
+
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.api.partition.PartitionMapper;
+import jakarta.batch.api.partition.PartitionPlan;
+import jakarta.batch.api.partition.PartitionPlanImpl;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * An implementation of {@code jakarta.batch.api.partition.PartitionMapper} that splits a line-oriented file
+ * resource, such as CSV, into byte ranges, so that each partition of a chunk step reads only its own range
+ * with {@link CsvItemReader}, in parallel with other partitions.
+ * <p>
+ * This class divides the data part of the file into {@link #partitionCount} ranges of roughly equal size, and
+ * moves each boundary forward to the start of the next record. Each partition has the following partition
+ * properties:
+ * <ul>
+ *     <li>{@code startOffset}: the byte offset of the first record in the partition;
+ *     <li>{@code endOffset}: the byte offset after the last record in the partition;
+ *     <li>{@code header}: the header record of the file, or empty if {@link #headerless} is true;
+ *     <li>{@code partition}: the partition index, starting from 0.
+ * </ul>
+ * By default, line breaks inside quoted values are ignored when searching for record boundaries, which requires
+ * scanning the whole file in this class. If the file is known not to contain quoted values with line breaks, set
+ * {@link #multilineRecords} to false, so that each line break is considered the end of a record, and only the
+ * bytes around each boundary are scanned.
+ * <p>
+ * For example,
+ * <pre>
+ * &lt;partition&gt;
+ *     &lt;mapper ref="filePartitionMapper"&gt;
+ *         &lt;properties&gt;
+ *             &lt;property name="resource" value="/data/trades.csv"/&gt;
+ *             &lt;property name="partitionCount" value="8"/&gt;
+ *         &lt;/properties&gt;
+ *     &lt;/mapper&gt;
+ * &lt;/partition&gt;
+ * </pre>
+ * and {@code csvItemReader} in the same step is configured with:
+ * <pre>
+ * &lt;property name="resource" value="/data/trades.csv"/&gt;
+ * &lt;property name="startOffset" value="#{partitionPlan['startOffset']}"/&gt;
+ * &lt;property name="endOffset" value="#{partitionPlan['endOffset']}"/&gt;
+ * &lt;property name="header" value="#{partitionPlan['header']}"/&gt;
+ * </pre>
+ *
+ * @see CsvItemReader
+ * @since 3.0.1
+ */
+@Named
+@Dependent
+public class FilePartitionMapper implements PartitionMapper {
+    /**
+     * The file to split into partitions, either a file path, a {@code file:} URL, or a resource on the
+     * class path that is a file. Required property.
+     */
+    @Inject
+    @BatchProperty
+    protected String resource;
+
+    /**
+     * The number of partitions to create. Optional property, and defaults to the number of available processors.
+     * Fewer partitions may be created if the file is too small.
+     */
+    @Inject
+    @BatchProperty
+    protected int partitionCount;
+
+    /**
+     * The number of threads to run partitions. Optional property, and defaults to the number of partitions.
+     */
+    @Inject
+    @BatchProperty
+    protected int threads;
+
+    /**
+     * Indicates that the file does not contain header row. Optional property, valid values are
+     * {@code true} or {@code false}, and the default is {@code false}.
+     */
+    @Inject
+    @BatchProperty
+    protected boolean headerless;
+
+    /**
+     * Indicates that quoted values in the file may contain line breaks. Optional property, valid values are
+     * {@code true} or {@code false}, and the default is {@code true}. Setting it to {@code false} avoids scanning
+     * the whole file, but a record with a quoted line break may then be split across two partitions.
+     */
+    @Inject
+    @BatchProperty
+    protected Boolean multilineRecords;
+
+    /**
+     * The quote character, used to find record boundaries when {@link #multilineRecords} is true, and to
+     * read the header record. Optional property, and defaults to {@code "}.
+     */
+    @Inject
+    @BatchProperty
+    protected String quoteChar;
+
+    /**
+     * The charset of the file, used to decode the header record. Only charsets that encode carriage return
+     * and line feed as single bytes are supported. Optional property, and defaults to the platform default charset.
+     */
+    @Inject
+    @BatchProperty
+    protected String charset;
+
+    /**
+     * The compression format of the file, as in {@link ItemReaderWriterBase#compression}. A compressed file cannot
+     * be split into byte ranges, so this mapper fails if the file is compressed, either by this property, by its file
+     * extension, or by the magic number in its first bytes. Optional property, and defaults to null.
+     */
+    @Inject
+    @BatchProperty
+    protected String compression;
+
+    private byte quote = '"';
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PartitionPlan mapPartitions() throws Exception {
+        if (partitionCount <= 0) {
+            partitionCount = Runtime.getRuntime().availableProcessors();
+        }
+        if (quoteChar != null && !quoteChar.isEmpty()) {
+            quote = (byte) quoteChar.charAt(0);
+        }
+        final Charset cs = charset == null ? Charset.defaultCharset() : Charset.forName(charset);
+        if (!OffsetTrackingReader.isSupported(cs)) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, charset, "charset");
+        }
+
+        final boolean quoteAware = multilineRecords == null || multilineRecords;
+        final File file = getFile();
+        if (Compression.of(compression, file) != Compression.NONE) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, compression, Compression.COMPRESSION_KEY);
+        }
+        final List<Long> boundaries = new ArrayList<Long>();
+        String header = "";
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            final FileChannel channel = raf.getChannel();
+            final long size = channel.size();
+            long dataStart = skipBOM(channel);
+            if (!headerless) {
+                final ByteArrayOutputStream headerBytes = new ByteArrayOutputStream();
+                final long headerEnd = nextRecordStart(channel, dataStart, dataStart, true, headerBytes);
+                header = stripLineTerminator(new String(headerBytes.toByteArray(), cs));
+                dataStart = headerEnd;
+            }
+
+            long previous = dataStart;
+            for (int i = 1; i < partitionCount; ++i) {
+                final long candidate = dataStart + (size - dataStart) * i / partitionCount;
+                if (candidate <= previous) {
+                    continue;
+                }
+                final long boundary = quoteAware ?
+                        nextRecordStart(channel, previous, candidate, true, null) :
+                        nextRecordStart(channel, candidate - 1, candidate, false, null);
+                if (boundary <= previous || boundary >= size) {
+                    continue;
+                }
+                boundaries.add(boundary);
+                previous = boundary;
+            }
+            boundaries.add(0, dataStart);
+            boundaries.add(size);
+        } catch (final IOException e) {
+            throw SupportMessages.MESSAGES.failToOpenStream(e, resource);
+        }
+
+        final int partitions = boundaries.size() - 1;
+        final Properties[] partitionProperties = new Properties[partitions];
+        for (int i = 0; i < partitions; ++i) {
+            final Properties p = new Properties();
+            p.setProperty("startOffset", String.valueOf(boundaries.get(i)));
+            p.setProperty("endOffset", String.valueOf(boundaries.get(i + 1)));
+            p.setProperty("header", header);
+            p.setProperty("partition", String.valueOf(i));
+            partitionProperties[i] = p;
+        }
+
+        final PartitionPlanImpl partitionPlan = new PartitionPlanImpl();
+        partitionPlan.setPartitions(partitions);
+        partitionPlan.setThreads(threads > 0 ? threads : partitions);
+        partitionPlan.setPartitionProperties(partitionProperties);
+        return partitionPlan;
+    }
+
+    /**
+     * Finds the start of the first record at or after {@code target}.
+     *
+     * @param channel the file channel
+     * @param from the byte offset to start scanning; if {@code quoted} is true, it must be the start of a record
+     * @param target the byte offset the returned record start should not precede
+     * @param quoted whether to ignore line breaks inside quotes
+     * @param recordBytes if not null, bytes scanned are written to it
+     * @return the byte offset of the record start, or the file size if there is no more record
+     * @throws IOException if failed to read the file
+     */
+    private long nextRecordStart(final FileChannel channel, final long from, final long target,
+                                 final boolean quoted, final ByteArrayOutputStream recordBytes) throws IOException {
+        final InputStream in = new BufferedInputStream(Channels.newInputStream(channel.position(from)), 65536);
+        long pos = from;
+        boolean inQuotes = false;
+        int b;
+        while ((b = in.read()) >= 0) {
+            pos++;
+            if (recordBytes != null) {
+                recordBytes.write(b);
+            }
+            if (quoted && b == quote) {
+                inQuotes = !inQuotes;
+            } else if (!inQuotes && (b == '\n' || b == '\r')) {
+                if (b == '\r') {
+                    in.mark(1);
+                    if (in.read() == '\n') {
+                        pos++;
+                    } else {
+                        in.reset();
+                    }
+                }
+                if (pos >= target) {
+                    return pos;
+                }
+            }
+        }
+        return pos;
+    }
+
+    private static long skipBOM(final FileChannel channel) throws IOException {
+        final InputStream in = Channels.newInputStream(channel.position(0));
+        final byte[] bom = UnicodeBOMInputStream.BOM.UTF_8.getBytes();
+        for (final byte e : bom) {
+            if (in.read() != (e & 0xFF)) {
+                return 0;
+            }
+        }
+        return bom.length;
+    }
+
+    private static String stripLineTerminator(final String s) {
+        int end = s.length();
+        while (end > 0 && (s.charAt(end - 1) == '\n' || s.charAt(end - 1) == '\r')) {
+            end--;
+        }
+        return s.substring(0, end);
+    }
+
+    private File getFile() throws Exception {
+        if (resource == null) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, "resource");
+        }
+        final File file = ItemReaderWriterBase.getLocalFile(resource);
+        if (file == null) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, resource, "resource");
+        }
+        return file;
+    }
+}
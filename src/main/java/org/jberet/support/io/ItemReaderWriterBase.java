@@ -18,15 +18,20 @@ import static org.jberet.support.io.CsvProperties.RESOURCE_KEY;
 import static org.jberet.support.io.CsvProperties.WRITE_MODE_KEY;
 
 import java.io.ByteArrayInputStream;
+import java.io.Closeable;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.Serializable;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import javax.naming.InitialContext;
 import javax.naming.NamingException;
@@ -51,6 +56,12 @@ import jakarta.validation.ValidatorFactory;
 public abstract class ItemReaderWriterBase {
     protected static final String NEW_LINE = System.getProperty("line.separator");
 
+    private static final String FILE_ACCESS_MODE_KEY = "fileAccessMode";
+    private static final String FILE_ACCESS_STREAM = "stream";
+    private static final String FILE_ACCESS_CHANNEL = "channel";
+    private static final String FILE_ACCESS_MMAP = "mmap";
+    private static final int DEFAULT_BUFFER_SIZE = 65536;
+
     /**
      * The resource to read from (for batch readers), or write to (for batch writers). Some reader or writer
      * implementations may choose to ignore this property and instead use other properties that are more appropriate.
@@ -68,6 +79,181 @@ public abstract class ItemReaderWriterBase {
     @BatchProperty
     protected boolean skipBeanValidation;
 
+    /**
+     * How a {@link #resource} that is a local file is read or written. Resources of other types, such as URLs and
+     * classpath resources, are not affected. Optional property, and valid values are:
+     * <p>
+     * <ul>
+     *     <li>{@code stream}: (default) through unbuffered {@code java.io.FileInputStream} and
+     *     {@code java.io.FileOutputStream}, as in previous versions
+     *     <li>{@code channel}: through {@code java.nio.channels.FileChannel}, with a buffer of {@link #bufferSize}
+     *     bytes
+     *     <li>{@code mmap}: readers map regions of the file into memory, which are unmapped when the reader moves to
+     *     the next region or is closed; writers treat it the same as {@code channel}
+     * </ul>
+     * <p>
+     * In all access modes, the underlying file channel is available to subclasses with
+     * {@link #getFileChannel(Closeable)}.
+     *
+     * @since 3.0.1
+     */
+    @Inject
+    @BatchProperty
+    protected String fileAccessMode;
+
+    /**
+     * The size in bytes of the buffer to read or write a local file {@link #resource}, when {@link #fileAccessMode}
+     * is {@code channel}. For {@code mmap} file access mode, it is the minimum size of each mapped region.
+     * Optional property, and defaults to 65536.
+     *
+     * @since 3.0.1
+     */
+    @Inject
+    @BatchProperty
+    protected int bufferSize;
+
+    /**
+     * The compression format of {@link #resource}, which is decompressed while reading, or compressed while writing.
+     * Optional property, and valid values are {@code none}, {@code gzip}, {@code bzip2}, {@code zstd} and
+     * {@code lz4} (lz4 frame format). If not set, the format is determined by the file extension of the resource
+     * ({@code .gz}, {@code .bz2}, {@code .zst} or {@code .lz4}), and readers also check the first bytes of a local
+     * file for the magic number of each format.
+     * <p>
+     * Gzip is supported with {@code java.util.zip}. Other formats require a third-party library in the classpath:
+     * Apache Commons Compress for bzip2, zstd-jni for zstd, and lz4-java for lz4. Writers do not save byte offset
+     * checkpoint info for a compressed resource.
+     *
+     * @since 3.0.1
+     */
+    @Inject
+    @BatchProperty
+    protected String compression;
+
+    /**
+     * The number of threads for writers to compress gzip data in parallel blocks. Optional property, and defaults
+     * to 1, i.e., data is compressed with {@code java.util.zip.GZIPOutputStream} in the writer thread. Ignored for
+     * other {@link #compression} formats.
+     *
+     * @since 3.0.1
+     */
+    @Inject
+    @BatchProperty
+    protected int compressionThreads;
+
+    /**
+     * JNDI lookup name of a {@code java.util.concurrent.ExecutorService}, typically a
+     * {@code jakarta.enterprise.concurrent.ManagedExecutorService} such as
+     * {@code java:comp/DefaultManagedExecutorService}, to compress gzip data when {@link #compressionThreads} is
+     * greater than 1. Optional property, and defaults to null. If not specified, data is compressed in a thread pool
+     * of {@link #compressionThreads} daemon threads owned by the output stream, which is shut down when the output
+     * stream is closed or fails.
+     *
+     * @since 3.0.1
+     */
+    @Inject
+    @BatchProperty
+    protected String compressionExecutorServiceLookup;
+
+    /**
+     * Whether writers write data to {@link #resource} asynchronously, with double buffering. Data items are
+     * serialized into one buffer of {@link #bufferSize} bytes, while a background thread writes the other buffer
+     * to the resource, so that serializing a large chunk is not stalled by writing it. Before the writer's checkpoint
+     * info is saved, the writer waits for all data to be written. Optional property, and defaults to false.
+     * Supported by {@link CsvItemWriter}, {@link JacksonCsvItemWriter}, {@link JsonItemWriter} and
+     * {@link XmlItemWriter}, and ignored by other readers and writers.
+     *
+     * @since 3.0.1
+     */
+    @Inject
+    @BatchProperty
+    protected boolean asyncWrite;
+
+    /**
+     * JNDI lookup name of a {@code java.util.concurrent.ExecutorService}, typically a
+     * {@code jakarta.enterprise.concurrent.ManagedExecutorService} such as
+     * {@code java:comp/DefaultManagedExecutorService}, to write data to {@link #resource} when {@link #asyncWrite}
+     * is true. Optional property, and defaults to null. If not specified, data is written in a daemon thread owned
+     * by the output stream, which is shut down when the output stream is closed.
+     *
+     * @since 3.0.1
+     */
+    @Inject
+    @BatchProperty
+    protected String asyncWriteExecutorServiceLookup;
+
+    /**
+     * Whether writers force the data written to a local file {@link #resource} to the storage device, before the
+     * writer's checkpoint info is saved, so that the data of each committed chunk survives a system crash. Optional
+     * property, and defaults to false. Ignored if the resource is compressed. Supported by the same writers as
+     * {@link #asyncWrite}, with or without {@link #asyncWrite}.
+     *
+     * @since 3.0.1
+     */
+    @Inject
+    @BatchProperty
+    protected boolean fsync;
+
+    /**
+     * The number of records after which writers roll over to a new file. When rolling over is enabled by this property
+     * or {@link #rollBytes}, {@link #resource} is the name template of the files: {@code {partition}} is replaced with
+     * {@link #partitionId}, and {@code {sequence}} with the 5-digit sequence number of each file, starting from
+     * {@code 00000}. If {@code {sequence}} is not present, {@code -{sequence}} is inserted before the file extension,
+     * e.g., {@code out.csv} is written as {@code out-00000.csv}, {@code out-00001.csv}, etc. Each file is complete
+     * on its own, e.g., with its own CSV header, or Json array, so that the files can be read in parallel by
+     * downstream consumers. When the writer is closed, the names of the files written are saved to {@link #manifest}.
+     * <p>
+     * The checkpoint info of the writer is a {@link RollingCheckpoint}. During a restart, files written after the
+     * checkpoint are deleted, and the file being written at the checkpoint is truncated to the byte offset at the
+     * checkpoint and continued. Therefore, rolling over cannot be combined with {@link #compression}, or an
+     * {@code outputDecorator} of the writer.
+     * <p>
+     * Optional property, and defaults to 0, i.e., not rolling over by number of records. Supported by
+     * {@link CsvItemWriter}, {@link JacksonCsvItemWriter} and {@link JsonItemWriter}, and ignored by other readers
+     * and writers.
+     *
+     * @since 3.0.1
+     */
+    @Inject
+    @BatchProperty
+    protected int rollRecords;
+
+    /**
+     * The number of bytes after which writers roll over to a new file. A record is never split across files, so a
+     * file is larger than this size by up to one record, plus the data buffered by the writer if the writer cannot
+     * report it. Optional property, and defaults to 0, i.e., not rolling over by number of bytes.
+     *
+     * @see #rollRecords
+     * @since 3.0.1
+     */
+    @Inject
+    @BatchProperty
+    protected long rollBytes;
+
+    /**
+     * The id of the partition, which replaces {@code {partition}} in the name template of rolling files and
+     * {@link #manifest}. It is typically set from the partition plan, e.g.,
+     * {@code #{partitionPlan['partitionId']}}, so that each partition writes its own files. Optional property.
+     *
+     * @see #rollRecords
+     * @since 3.0.1
+     */
+    @Inject
+    @BatchProperty
+    protected String partitionId;
+
+    /**
+     * The name of the manifest file, to which writers save the names of all rolling files written, one per line,
+     * when the writer is closed. {@code {partition}} is replaced with {@link #partitionId}. Optional property, and
+     * defaults to {@code _MANIFEST} ({@code _MANIFEST-<partitionId>} if {@link #partitionId} is set) in the
+     * directory of the first file, which is ignored by Hadoop, Spark and Presto when reading the directory.
+     *
+     * @see #rollRecords
+     * @since 3.0.1
+     */
+    @Inject
+    @BatchProperty
+    protected String manifest;
+
     boolean skipWritingHeader;
 
     private static class Holder {
@@ -119,7 +305,9 @@ public abstract class ItemReaderWriterBase {
     }
 
     /**
-     * Gets an instance of {@code java.io.InputStream} that represents the reader resource.
+     * Gets an instance of {@code java.io.InputStream} that represents the reader resource. If the resource is a
+     * local file, it is read with the default {@link #fileAccessMode} and {@link #bufferSize}. A compressed resource
+     * is decompressed according to its file extension or magic number.
      *
      * @param inputResource the location of the input resource
      * @param detectBOM     if need to detect byte-order mark (BOM). If true, the {@code InputStream} is wrapped inside
@@ -127,6 +315,93 @@ public abstract class ItemReaderWriterBase {
      * @return {@code java.io.InputStream} that represents the reader resource
      */
     protected static InputStream getInputStream(final String inputResource, final boolean detectBOM) {
+        return getInputStream(inputResource, detectBOM, null, 0, null);
+    }
+
+    /**
+     * Gets the local file of a resource, which is either a file path, a {@code file:} URL, or a resource on the class
+     * path that is a file.
+     *
+     * @param resource the resource, may be null
+     * @return the local file, or null if the resource is not a local file
+     * @since 3.0.1
+     */
+    protected static File getLocalFile(final String resource) {
+        if (resource == null) {
+            return null;
+        }
+        final File file = new File(resource);
+        if (file.isFile()) {
+            return file;
+        }
+        URL url;
+        try {
+            url = new URL(resource);
+        } catch (final MalformedURLException e) {
+            ClassLoader cl = Thread.currentThread().getContextClassLoader();
+            if (cl == null) {
+                cl = ItemReaderWriterBase.class.getClassLoader();
+            }
+            url = cl.getResource(resource);
+        }
+        if (url == null || !"file".equals(url.getProtocol())) {
+            return null;
+        }
+        try {
+            final File urlFile = new File(url.toURI());
+            return urlFile.isFile() ? urlFile : null;
+        } catch (final Exception e) {
+            SupportLogger.LOGGER.tracef("The resource %s is not a local file, %s%n", resource, e);
+            return null;
+        }
+    }
+
+    /**
+     * Gets an instance of {@code java.io.InputStream} that represents {@link #resource}. If the resource is a local
+     * file, it is read according to {@link #fileAccessMode} and {@link #bufferSize}. A compressed resource is
+     * decompressed according to {@link #compression}.
+     *
+     * @param detectBOM if need to detect byte-order mark (BOM). If true, the {@code InputStream} is wrapped inside
+     *                  {@code UnicodeBOMInputStream}
+     * @return {@code java.io.InputStream} that represents the reader resource
+     * @since 3.0.1
+     */
+    protected InputStream openInputStream(final boolean detectBOM) {
+        return getInputStream(resource, detectBOM, fileAccessMode, bufferSize, compression);
+    }
+
+    /**
+     * Gets the file channel underlying {@code stream}, which is an input stream from {@link #openInputStream(boolean)},
+     * or an output stream from {@link #getOutputStream(String)}, if the resource is a local file and is not
+     * compressed. For input streams in
+     * {@code channel} and {@code mmap} {@link #fileAccessMode}, the position of the channel is not the read position
+     * of the stream, which reads from the channel with absolute positions.
+     *
+     * @param stream the input or output stream
+     * @return the underlying file channel, or null if {@code stream} is not backed by a file channel
+     * @since 3.0.1
+     */
+    protected static FileChannel getFileChannel(final Closeable stream) {
+        if (stream instanceof FileChannelInputStream) {
+            return ((FileChannelInputStream) stream).getChannel();
+        }
+        if (stream instanceof FileChannelOutputStream) {
+            return ((FileChannelOutputStream) stream).getChannel();
+        }
+        if (stream instanceof FileInputStream) {
+            return ((FileInputStream) stream).getChannel();
+        }
+        if (stream instanceof FileOutputStream) {
+            return ((FileOutputStream) stream).getChannel();
+        }
+        return null;
+    }
+
+    private static InputStream getInputStream(final String inputResource,
+                                              final boolean detectBOM,
+                                              final String fileAccessMode,
+                                              final int bufferSize,
+                                              final String compression) {
         if (inputResource == null) {
             throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, RESOURCE_KEY);
         }
@@ -139,7 +414,7 @@ public abstract class ItemReaderWriterBase {
                 SupportLogger.LOGGER.tracef("The resource %s is not a URL, %s%n", inputResource, e);
                 final File file = new File(inputResource);
                 if (file.exists()) {
-                    inputStream = new FileInputStream(file);
+                    inputStream = newFileInputStream(file, fileAccessMode, bufferSize);
                 } else {
                     SupportLogger.LOGGER.tracef("The resource %s is not a file %n", inputResource);
 
@@ -154,6 +429,9 @@ public abstract class ItemReaderWriterBase {
                     }
                 }
             }
+            if (inputStream != null) {
+                inputStream = Compression.decompress(inputStream, compression, inputResource);
+            }
             if (detectBOM) {
                 final UnicodeBOMInputStream bomin = new UnicodeBOMInputStream(inputStream);
                 bomin.skipBOM();
@@ -165,12 +443,91 @@ public abstract class ItemReaderWriterBase {
         return inputStream;
     }
 
+    private static InputStream newFileInputStream(final File file,
+                                                  final String fileAccessMode,
+                                                  final int bufferSize) throws IOException {
+        if (isStreamFileAccess(fileAccessMode)) {
+            return new FileInputStream(file);
+        }
+        return new FileChannelInputStream(FileChannel.open(file.toPath(), StandardOpenOption.READ),
+                bufferSize > 0 ? bufferSize : DEFAULT_BUFFER_SIZE, FILE_ACCESS_MMAP.equalsIgnoreCase(fileAccessMode));
+    }
+
+    /**
+     * Checks the value of {@link #fileAccessMode}.
+     *
+     * @param fileAccessMode the file access mode, may be null
+     * @return true if {@code fileAccessMode} is {@code stream} or null; false if it is {@code channel} or {@code mmap}
+     */
+    private static boolean isStreamFileAccess(final String fileAccessMode) {
+        if (fileAccessMode == null || FILE_ACCESS_STREAM.equalsIgnoreCase(fileAccessMode)) {
+            return true;
+        }
+        if (FILE_ACCESS_CHANNEL.equalsIgnoreCase(fileAccessMode) || FILE_ACCESS_MMAP.equalsIgnoreCase(fileAccessMode)) {
+            return false;
+        }
+        throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, fileAccessMode, FILE_ACCESS_MODE_KEY);
+    }
+
     protected OutputStream getOutputStream(final String writeMode) {
-        if (resource == null) {
+        return getOutputStream0(resource, writeMode);
+    }
+
+    /**
+     * Gets the output stream to write to {@link #resource}, taking into account the writer checkpoint info from the
+     * previous execution. If {@code checkpoint} is an {@link OffsetCheckpoint}, the resource is truncated to the byte
+     * offset in the checkpoint, discarding any data written after the last committed chunk, and new data is appended
+     * after it. Otherwise, it is the same as {@link #getOutputStream(String)}. Since a compressed resource cannot be
+     * truncated at an arbitrary byte offset, {@link OffsetCheckpoint} is invalid if the resource is compressed.
+     *
+     * @param writeMode the write mode, used only if not restarting from an {@link OffsetCheckpoint}
+     * @param checkpoint the writer checkpoint info, may be null
+     * @return the output stream
+     * @since 3.0.1
+     */
+    protected OutputStream getOutputStream(final String writeMode, final Serializable checkpoint) {
+        return getOutputStream(resource, writeMode, checkpoint);
+    }
+
+    /**
+     * Gets the output stream to write to {@code target}, in the same way as
+     * {@link #getOutputStream(String, Serializable)} does for {@link #resource}. Writers rolling over to new files
+     * use it to write the current file, since {@link #resource} is then the name template of the files.
+     *
+     * @param target the file to write to
+     * @param writeMode the write mode, used only if not restarting from an {@link OffsetCheckpoint}
+     * @param checkpoint the writer checkpoint info, may be null
+     * @return the output stream
+     */
+    OutputStream getOutputStream(final String target, final String writeMode, final Serializable checkpoint) {
+        if (!(checkpoint instanceof OffsetCheckpoint)) {
+            return getOutputStream0(target, writeMode);
+        }
+        if (target == null) {
             throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, RESOURCE_KEY);
         }
+        final long offset = ((OffsetCheckpoint) checkpoint).getOffset();
+        final File file = new File(target);
+        if (!file.isFile() || file.length() < offset || Compression.of(compression, target) != Compression.NONE) {
+            throw SupportMessages.MESSAGES.invalidCheckpoint(checkpoint);
+        }
         try {
-            final File file = new File(resource);
+            final OutputStream out = newFileOutputStream(file, true);
+            getFileChannel(out).truncate(offset);
+            skipWritingHeader = offset > 0;
+            return out;
+        } catch (final IOException e) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(e, target, RESOURCE_KEY);
+        }
+    }
+
+    private OutputStream getOutputStream0(final String target, final String writeMode) {
+        if (target == null) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, RESOURCE_KEY);
+        }
+        skipWritingHeader = false;
+        try {
+            final File file = new File(target);
             final boolean exists = file.exists();
             // isDirectory check is done in FileOutputStream constructor, no need to do here
             //if (exists && file.isDirectory()) {
@@ -184,7 +541,7 @@ public abstract class ItemReaderWriterBase {
             }
             if (writeMode.equalsIgnoreCase(FAIL_IF_EXISTS)) {
                 if (exists) {
-                    throw SupportMessages.MESSAGES.writerResourceAlreadyExists(resource);
+                    throw SupportMessages.MESSAGES.writerResourceAlreadyExists(target);
                 }
                 return newFileOutputStream(file, false, false, false);
             }
@@ -196,12 +553,83 @@ public abstract class ItemReaderWriterBase {
             }
             throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, writeMode, WRITE_MODE_KEY);
         } catch (final IOException e) {
-            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(e, resource, RESOURCE_KEY);
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(e, target, RESOURCE_KEY);
+        }
+    }
+
+    /**
+     * Wraps {@code out}, an output stream from {@link #getOutputStream(String)}, to write data asynchronously if
+     * {@link #asyncWrite} is true. Writers supporting {@link #asyncWrite} and {@link #fsync} pass the returned
+     * output stream to {@link #syncOutputStream(OutputStream)} before returning their checkpoint info.
+     *
+     * @param out the output stream of the resource
+     * @return the double-buffered output stream, or {@code out} if {@link #asyncWrite} is false
+     * @since 3.0.1
+     */
+    protected OutputStream getAsyncOutputStream(final OutputStream out) {
+        if (!asyncWrite) {
+            return out;
+        }
+        ExecutorService executor = null;
+        if (asyncWriteExecutorServiceLookup != null) {
+            try {
+                executor = InitialContext.doLookup(asyncWriteExecutorServiceLookup);
+            } catch (final NamingException e) {
+                throw SupportMessages.MESSAGES.invalidReaderWriterProperty(e, asyncWriteExecutorServiceLookup,
+                        "asyncWriteExecutorServiceLookup");
+            }
+        }
+        return new DoubleBufferedOutputStream(out, bufferSize > 0 ? bufferSize : DEFAULT_BUFFER_SIZE,
+                fsync ? getFileChannel(out) : null, executor, getClass().getSimpleName());
+    }
+
+    /**
+     * Waits for all data written to {@code out}, an output stream from {@link #getAsyncOutputStream(OutputStream)},
+     * to be written to the resource, and forces it to the storage device if {@link #fsync} is true.
+     *
+     * @param out the output stream of the resource, which has been flushed by the caller
+     * @throws IOException if failed to write or force the data
+     * @since 3.0.1
+     */
+    protected void syncOutputStream(final OutputStream out) throws IOException {
+        if (out instanceof DoubleBufferedOutputStream) {
+            ((DoubleBufferedOutputStream) out).sync();
+        } else if (fsync) {
+            final FileChannel channel = getFileChannel(out);
+            if (channel != null) {
+                out.flush();
+                channel.force(false);
+            }
+        }
+    }
+
+    /**
+     * Creates the rolling files with {@link #resource} as the name template, if rolling over is enabled by
+     * {@link #rollRecords} or {@link #rollBytes}. Rolling over is not supported if the files are compressed, or
+     * written through an output decorator, since the writer cannot save the byte offset within the current file
+     * in its checkpoint info, and so cannot continue the file during a restart.
+     *
+     * @param outputDecorator the output decorator of the writer, may be null
+     * @return the rolling files, or null if not rolling over
+     */
+    RollingResource newRollingResource(final Class<?> outputDecorator) {
+        if (rollRecords <= 0 && rollBytes <= 0) {
+            return null;
+        }
+        if (resource == null) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, RESOURCE_KEY);
+        }
+        if (Compression.of(compression, resource) != Compression.NONE) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, compression, Compression.COMPRESSION_KEY);
         }
+        if (outputDecorator != null) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, outputDecorator.getName(), "outputDecorator");
+        }
+        return new RollingResource(resource, partitionId, rollRecords, rollBytes, manifest);
     }
 
     /**
-     * Creates a new {@code FileOutputStream}, depending on the settings in parameters.
+     * Creates a new output stream to write to {@code file}, depending on the settings in parameters.
      * If the parent directories of the target {@code file} do not exist, they will be
      * automatically created, unless {@code failIfDirsNotExist} is true.
      *
@@ -209,33 +637,84 @@ public abstract class ItemReaderWriterBase {
      * @param exists whether the {@code file} exists
      * @param append append mode if true; overwrite mode if false
      * @param failIfDirsNotExist if true and if the parent dirs of {@code file} do not exist, throw exception
-     * @return the created {@code FileOutputStream}
+     * @return the created output stream
      * @throws IOException if exception from file operations
      */
-    private FileOutputStream newFileOutputStream(final File file,
-                                                 final boolean exists,
-                                                 final boolean append,
-                                                 final boolean failIfDirsNotExist) throws IOException {
+    private OutputStream newFileOutputStream(final File file,
+                                             final boolean exists,
+                                             final boolean append,
+                                             final boolean failIfDirsNotExist) throws IOException {
         if (!exists) {
             final File parentFile = file.getAbsoluteFile().getParentFile();
             if (parentFile == null) {
-                throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, resource, RESOURCE_KEY);
+                throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, file.getPath(), RESOURCE_KEY);
             }
             if (!parentFile.exists()) {
                 if (failIfDirsNotExist) {
-                    throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, resource, RESOURCE_KEY);
+                    throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, file.getPath(), RESOURCE_KEY);
                 }
                 if (!parentFile.mkdirs()) {
-                    throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, resource, RESOURCE_KEY);
+                    throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, file.getPath(), RESOURCE_KEY);
                 }
             }
         }
-        final FileOutputStream fos = new FileOutputStream(file, append);
+        final Compression c = Compression.of(compression, file.getPath());
+        ExecutorService executor = null;
+        if (compressionThreads > 1 && c == Compression.GZIP && compressionExecutorServiceLookup != null) {
+            try {
+                executor = InitialContext.doLookup(compressionExecutorServiceLookup);
+            } catch (final NamingException e) {
+                throw new IOException(e);
+            }
+        }
+        final OutputStream out = c.compress(newFileOutputStream(file, append), compressionThreads, executor);
         if (append && file.length() > 0) {
             skipWritingHeader = true;
-            fos.write(NEW_LINE.getBytes());
+            out.write(getAppendSeparator(file));
         }
-        return fos;
+        return out;
+    }
+
+    /**
+     * Opens {@code file} for writing according to {@link #fileAccessMode} and {@link #bufferSize}.
+     *
+     * @param file the writer target file
+     * @param append append mode if true; overwrite mode if false
+     * @return the output stream, positioned at the end of file in append mode
+     * @throws IOException if exception from file operations
+     */
+    private OutputStream newFileOutputStream(final File file, final boolean append) throws IOException {
+        if (isStreamFileAccess(fileAccessMode)) {
+            return new FileOutputStream(file, append);
+        }
+        final FileChannel channel = append ?
+                FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE) :
+                FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            if (append) {
+                channel.position(channel.size());
+            }
+        } catch (final IOException e) {
+            channel.close();
+            throw e;
+        }
+        return new FileChannelOutputStream(channel, bufferSize > 0 ? bufferSize : DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Gets the bytes to write before any new content, when appending to an existing non-empty file.
+     * The default implementation returns the line separator. Subclasses may override it if the existing
+     * content is already properly terminated. For a compressed resource, the separator is written to the
+     * compressed stream, and {@code file} contains compressed data, whose bytes cannot be checked for a line break.
+     *
+     * @param file the existing file being appended to
+     * @return the separator bytes, may be empty
+     * @throws IOException if exception from file operations
+     * @since 3.0.1
+     */
+    protected byte[] getAppendSeparator(final File file) throws IOException {
+        return NEW_LINE.getBytes();
     }
 
 }
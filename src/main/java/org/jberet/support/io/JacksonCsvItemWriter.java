@@ -10,7 +10,9 @@
 
 package org.jberet.support.io;
 
+import java.io.OutputStream;
 import java.io.Serializable;
+import java.nio.channels.FileChannel;
 import java.util.List;
 import java.util.Map;
 
@@ -28,6 +30,14 @@ import jakarta.inject.Named;
 
 /**
  * An implementation of {@code jakarta.batch.api.chunk.ItemWriter} that writes data in CSV format using jackson-dataformat-csv.
+ * <p>
+ * The checkpoint info of this writer is an {@link OffsetCheckpoint}, which contains the byte offset of data flushed
+ * to the resource at the end of each chunk. During a restart, the resource is truncated to that offset, and the
+ * remaining rows are written after it without header. If {@link #outputDecorator} is configured, no checkpoint info
+ * is saved, and the resource is written according to {@link #writeMode} during a restart.
+ * <p>
+ * When rolling over to new files after {@link #rollRecords} or {@link #rollBytes}, each file starts with its own
+ * header if {@link #useHeader} is true, and the checkpoint info is a {@link RollingCheckpoint}.
  *
  * @see CsvItemWriter
  * @see JacksonCsvItemReader
@@ -107,10 +117,40 @@ public class JacksonCsvItemWriter extends JacksonCsvItemReaderWriterBase impleme
 
     protected CsvGenerator csvGenerator;
 
+    /**
+     * The file channel of the resource, used to get the byte offset for checkpoint info, or null if not available.
+     */
+    private FileChannel outputChannel;
+
+    /**
+     * The output stream of the resource, which may write data asynchronously.
+     */
+    private OutputStream outputStream;
+
+    /**
+     * The number of items written to the current file, including those written before the checkpoint in previous
+     * executions.
+     */
+    private int itemCount;
+
+    /**
+     * The rolling files, or null if not rolling over to new files.
+     */
+    private RollingResource rollingResource;
+
+    /**
+     * The file being written, which is {@link #resource}, or the current rolling file.
+     */
+    private String currentResource;
+
     @Override
     public void writeItems(final List<Object> items) throws Exception {
         for (final Object o : items) {
+            if (rollingResource != null && rollingResource.shouldRoll(itemCount, csvGenerator.getOutputBuffered())) {
+                rollOver();
+            }
             csvGenerator.writeObject(o);
+            itemCount++;
         }
         csvGenerator.flush();
     }
@@ -118,7 +158,35 @@ public class JacksonCsvItemWriter extends JacksonCsvItemReaderWriterBase impleme
     @Override
     public void open(final Serializable checkpoint) throws Exception {
         init();
-        csvGenerator = (CsvGenerator) JsonItemWriter.configureJsonGenerator(jsonFactory, getOutputStream(writeMode), outputDecorator, jsonGeneratorFeatures);
+        if (rollingResource == null) {
+            rollingResource = newRollingResource(outputDecorator);
+        }
+        if (rollingResource == null) {
+            openResource(checkpoint);
+        } else {
+            openResource(rollingResource.restart(checkpoint));
+        }
+    }
+
+    /**
+     * Opens {@link #resource}, or the current rolling file, for writing.
+     *
+     * @param checkpoint the checkpoint info within the file, may be null
+     * @throws Exception if failed to open the resource
+     */
+    private void openResource(final Serializable checkpoint) throws Exception {
+        currentResource = rollingResource == null ? resource : rollingResource.getResource();
+        final OffsetCheckpoint offsetCheckpoint = outputDecorator == null && checkpoint instanceof OffsetCheckpoint ?
+                (OffsetCheckpoint) checkpoint : null;
+        final OutputStream fileOutputStream = getOutputStream(currentResource, writeMode, offsetCheckpoint);
+        if (outputDecorator == null) {
+            outputChannel = getFileChannel(fileOutputStream);
+        }
+        outputStream = getAsyncOutputStream(fileOutputStream);
+        itemCount = offsetCheckpoint == null ? 0 : offsetCheckpoint.getRowNumber();
+        final OutputStream generatorOutputStream = rollingResource == null ? outputStream :
+                rollingResource.countBytes(outputStream, offsetCheckpoint == null ? 0 : offsetCheckpoint.getOffset());
+        csvGenerator = (CsvGenerator) JsonItemWriter.configureJsonGenerator(jsonFactory, generatorOutputStream, outputDecorator, jsonGeneratorFeatures);
 
         if (csvGeneratorFeatures != null) {
             for (final Map.Entry<String, String> e : csvGeneratorFeatures.entrySet()) {
@@ -149,6 +217,10 @@ public class JacksonCsvItemWriter extends JacksonCsvItemReaderWriterBase impleme
             if (lineSeparator != null) {
                 schema = schema.withLineSeparator(lineSeparator);
             }
+            if (offsetCheckpoint != null && offsetCheckpoint.getOffset() > 0) {
+                //the header has been written before the checkpoint
+                schema = schema.withoutHeader();
+            }
             csvGenerator.setSchema(schema);
         }
     }
@@ -156,14 +228,41 @@ public class JacksonCsvItemWriter extends JacksonCsvItemReaderWriterBase impleme
     @Override
     public void close() throws Exception {
         if (csvGenerator != null) {
-            SupportLogger.LOGGER.closingResource(resource, this.getClass());
-            csvGenerator.close();
-            csvGenerator = null;
+            closeResource();
+            if (rollingResource != null) {
+                rollingResource.writeManifest();
+            }
         }
     }
 
     @Override
     public Serializable checkpointInfo() throws Exception {
-        return null;
+        csvGenerator.flush();
+        syncOutputStream(outputStream);
+        final OffsetCheckpoint offsetCheckpoint =
+                outputChannel == null ? null : new OffsetCheckpoint(itemCount, outputChannel.position());
+        return rollingResource == null ? offsetCheckpoint : rollingResource.checkpoint(offsetCheckpoint);
+    }
+
+    private void closeResource() throws Exception {
+        SupportLogger.LOGGER.closingResource(currentResource, this.getClass());
+        csvGenerator.close();
+        csvGenerator = null;
+        outputChannel = null;
+        outputStream = null;
+    }
+
+    /**
+     * Finishes the current rolling file, making it durable as at a checkpoint, and opens the next file with its own
+     * header.
+     *
+     * @throws Exception if failed to finish the current file or open the next file
+     */
+    private void rollOver() throws Exception {
+        csvGenerator.flush();
+        syncOutputStream(outputStream);
+        closeResource();
+        rollingResource.next();
+        openResource(null);
     }
 }
@@ -11,10 +11,21 @@
 package org.jberet.support.io;
 
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -24,6 +35,23 @@ import java.util.Map;
 import org.jberet.support._private.SupportLogger;
 import org.jberet.support._private.SupportMessages;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.BeanDeserializer;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.impl.FieldProperty;
+import com.fasterxml.jackson.databind.deser.impl.MethodProperty;
+import com.fasterxml.jackson.databind.introspect.AnnotatedConstructor;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.AnnotatedWithParams;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+
 import jakarta.batch.api.BatchProperty;
 import jakarta.batch.api.chunk.ItemReader;
 import jakarta.enterprise.context.Dependent;
@@ -143,6 +171,30 @@ public class JdbcItemReader extends JdbcItemReaderWriterBase implements ItemRead
     @BatchProperty
     protected Boolean autoCommit;
 
+    /**
+     * Labels of one or more key columns in the query result, which together uniquely identify a row, and by which
+     * the query result is ordered in ascending order. Optional property, and defaults to null. If specified, this
+     * reader works in keyset mode: its checkpoint info includes the key values of the last read row, and upon
+     * restart, the {@link #sql} is wrapped in an outer query with a predicate that selects only rows after
+     * the checkpointed key values, instead of positioning the {@code ResultSet} with
+     * {@link java.sql.ResultSet#absolute(int)}. So the cost of restart depends on the index of the key columns,
+     * rather than the number of rows already read. For example,
+     * <p>
+     * &lt;property name="keyColumns" value="TRADEDATE, TRADETIME"/&gt;
+     * <p>
+     * Upon restart, the query will be rewritten as:
+     * <p>
+     * SELECT * FROM (sql) KEYSET_ WHERE (TRADEDATE &gt; ?) OR (TRADEDATE = ? AND TRADETIME &gt; ?)
+     * ORDER BY TRADEDATE, TRADETIME
+     * <p>
+     * This property is not supported with stored procedures.
+     *
+     * @since 3.0.1
+     */
+    @Inject
+    @BatchProperty
+    protected String[] keyColumns;
+
     protected String[] columnLabels;
 
     protected Connection connection;
@@ -151,6 +203,22 @@ public class JdbcItemReader extends JdbcItemReaderWriterBase implements ItemRead
 
     protected int currentRowNumber;
 
+    /**
+     * Maps each row directly to {@link #beanType}, if {@link #beanType} is a custom type that can be populated
+     * with plain setters or fields.
+     */
+    private BeanRowMapper beanRowMapper;
+
+    /**
+     * 1-based positions of {@link #keyColumns} in the {@code ResultSet}, if {@link #keyColumns} is specified.
+     */
+    protected int[] keyColumnIndexes;
+
+    /**
+     * Values of {@link #keyColumns} of the last read row, if {@link #keyColumns} is specified.
+     */
+    protected Object[] lastKeyValues;
+
     @Override
     public void open(final Serializable checkpoint) throws Exception {
         init();
@@ -159,12 +227,25 @@ public class JdbcItemReader extends JdbcItemReaderWriterBase implements ItemRead
             connection.setAutoCommit(autoCommit);
         }
 
+        final boolean keysetMode = keyColumns != null && keyColumns.length > 0;
+        final KeysetCheckpoint keysetCheckpoint = keysetMode && checkpoint instanceof KeysetCheckpoint ?
+                (KeysetCheckpoint) checkpoint : null;
+
         final int[] rsProps = parseResultSetProperties();
         if (isStoredProcedure()) {
+            if (keysetMode) {
+                throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, Arrays.toString(keyColumns), "keyColumns");
+            }
             preparedStatement = connection.prepareCall(sql, rsProps[0], rsProps[1], rsProps[2]);
             preparedStatement.setFetchDirection(rsProps[3]);
             preparedStatement.setFetchSize(rsProps[4]);
             resultSet = executeStoredProcedure();
+        } else if (keysetCheckpoint != null && keysetCheckpoint.keyValues != null) {
+            preparedStatement = connection.prepareStatement(keysetSql(), rsProps[0], rsProps[1], rsProps[2]);
+            preparedStatement.setFetchDirection(rsProps[3]);
+            preparedStatement.setFetchSize(rsProps[4]);
+            bindKeyValues(keysetCheckpoint.keyValues);
+            resultSet = preparedStatement.executeQuery();
         } else {
             preparedStatement = connection.prepareStatement(sql, rsProps[0], rsProps[1], rsProps[2]);
             preparedStatement.setFetchDirection(rsProps[3]);
@@ -172,6 +253,16 @@ public class JdbcItemReader extends JdbcItemReaderWriterBase implements ItemRead
             resultSet = preparedStatement.executeQuery();
         }
 
+        if (keysetMode) {
+            keyColumnIndexes = new int[keyColumns.length];
+            for (int i = 0; i < keyColumns.length; ++i) {
+                keyColumnIndexes[i] = resultSet.findColumn(keyColumns[i]);
+            }
+            if (keysetCheckpoint != null) {
+                lastKeyValues = keysetCheckpoint.keyValues;
+            }
+        }
+
         if (columnMapping == null) {
             final ResultSetMetaData metaData = resultSet.getMetaData();
             final int columnCount = metaData.getColumnCount();
@@ -187,6 +278,10 @@ public class JdbcItemReader extends JdbcItemReaderWriterBase implements ItemRead
             columnMapping = columnLabels;
         }
 
+        if (beanType != List.class && beanType != Map.class) {
+            beanRowMapper = compileBeanRowMapper();
+        }
+
         if (start <= 0) {
             start = 1;
         }
@@ -199,8 +294,14 @@ public class JdbcItemReader extends JdbcItemReaderWriterBase implements ItemRead
 
         //readyPosition is the position before the first item to be read
         int readyPosition = start - 1;
+        if (keysetCheckpoint != null && keysetCheckpoint.keyValues != null) {
+            //the ResultSet is already positioned after the checkpoint by the keyset predicate
+            currentRowNumber = keysetCheckpoint.rowNumber;
+            return;
+        }
         if (checkpoint != null) {
-            final int checkpointPosition = (Integer) checkpoint;
+            final int checkpointPosition = checkpoint instanceof KeysetCheckpoint ?
+                    ((KeysetCheckpoint) checkpoint).rowNumber : (Integer) checkpoint;
             if (checkpointPosition > readyPosition) {
                 readyPosition = checkpointPosition;
             }
@@ -234,13 +335,19 @@ public class JdbcItemReader extends JdbcItemReaderWriterBase implements ItemRead
         Object result = null;
         if (resultSet.next()) {
             if (beanType == List.class) {
-                final List<Object> resultList = new ArrayList<Object>();
+                final List<Object> resultList = new ArrayList<Object>(columnMapping.length);
                 for (int i = 0; i < columnMapping.length; ++i) {
                     resultList.add(getColumnValue(i));
                 }
                 result = resultList;
+            } else if (beanRowMapper != null) {
+                final Object readValue = beanRowMapper.mapRow();
+                if (!skipBeanValidation) {
+                    ItemReaderWriterBase.validate(readValue);
+                }
+                result = readValue;
             } else {
-                final Map<String, Object> resultMap = new HashMap<String, Object>();
+                final Map<String, Object> resultMap = new HashMap<String, Object>((int) (columnMapping.length / 0.75f) + 1);
                 for (int i = 0; i < columnMapping.length; ++i) {
                     resultMap.put(columnMapping[i], getColumnValue(i));
                 }
@@ -255,22 +362,78 @@ public class JdbcItemReader extends JdbcItemReaderWriterBase implements ItemRead
                     result = readValue;
                 }
             }
-            currentRowNumber = resultSet.getRow();
+            if (keyColumnIndexes != null) {
+                final Object[] keyValues = new Object[keyColumnIndexes.length];
+                for (int i = 0; i < keyColumnIndexes.length; ++i) {
+                    keyValues[i] = resultSet.getObject(keyColumnIndexes[i]);
+                }
+                lastKeyValues = keyValues;
+                currentRowNumber++;
+            } else {
+                currentRowNumber = resultSet.getRow();
+            }
         }
         return result;
     }
 
     /**
-     * Gets the current row number in the {@code ResultSet} as the checkpoint info.
+     * Gets the current row number in the {@code ResultSet} as the checkpoint info. If {@link #keyColumns} is
+     * specified, the checkpoint info is a {@link KeysetCheckpoint} that contains both the current row number and
+     * the key values of the last read row.
      *
-     * @return the current row number in the {@code ResultSet}
+     * @return the current row number in the {@code ResultSet}, or {@link KeysetCheckpoint}
      * @throws Exception any exception raised
      */
     @Override
     public Serializable checkpointInfo() throws Exception {
+        if (keyColumnIndexes != null) {
+            return new KeysetCheckpoint(currentRowNumber, lastKeyValues);
+        }
         return currentRowNumber;
     }
 
+    /**
+     * Builds the sql statement used to restart in keyset mode, by wrapping {@link #sql} in an outer query that
+     * only selects rows after the checkpointed {@link #keyColumns} values, in ascending order of {@link #keyColumns}.
+     * The predicate is expanded into comparisons on individual columns, instead of row value comparison, which is
+     * not supported by all databases.
+     *
+     * @return the sql statement with keyset predicate
+     */
+    protected String keysetSql() {
+        final StringBuilder sb = new StringBuilder("SELECT * FROM (").append(sql).append(") KEYSET_ WHERE ");
+        for (int i = 0; i < keyColumns.length; ++i) {
+            if (i > 0) {
+                sb.append(" OR ");
+            }
+            sb.append('(');
+            for (int j = 0; j < i; ++j) {
+                sb.append(keyColumns[j].trim()).append(" = ? AND ");
+            }
+            sb.append(keyColumns[i].trim()).append(" > ?)");
+        }
+        sb.append(" ORDER BY ");
+        for (int i = 0; i < keyColumns.length; ++i) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(keyColumns[i].trim());
+        }
+        return sb.toString();
+    }
+
+    private void bindKeyValues(final Object[] keyValues) throws SQLException {
+        if (keyValues.length != keyColumns.length) {
+            throw SupportMessages.MESSAGES.invalidCheckpoint(Arrays.toString(keyValues));
+        }
+        int pos = 1;
+        for (int i = 0; i < keyValues.length; ++i) {
+            for (int j = 0; j <= i; ++j) {
+                preparedStatement.setObject(pos++, keyValues[j]);
+            }
+        }
+    }
+
     protected boolean isStoredProcedure() {
         sql = sql.trim();
         return sql.startsWith("{") && sql.endsWith("}");
@@ -425,4 +588,238 @@ public class JdbcItemReader extends JdbcItemReaderWriterBase implements ItemRead
         }
         return val;
     }
+
+    /**
+     * Compiles a {@link BeanRowMapper} that creates an instance of {@link #beanType} for each row, and sets its
+     * properties directly from {@code ResultSet} columns, instead of collecting column values into a
+     * {@code java.util.Map} and converting it with {@code objectMapper}. Properties are resolved in the same way as
+     * {@code objectMapper}. Columns are read with typed {@code ResultSet} getters when the column type
+     * matches the property type; other values are still converted with {@code objectMapper}.
+     * <p>
+     * If {@link #beanType} requires custom deserialization, or if any column does not match a property while
+     * unknown properties are not allowed, or are handled by a {@code @JsonAnySetter} method or a
+     * {@code DeserializationProblemHandler}, or if {@code FAIL_ON_NULL_FOR_PRIMITIVES} is enabled, null is returned,
+     * and rows will be converted via {@code java.util.Map}. Otherwise, a null column value sets a primitive property
+     * to its default value, as {@code objectMapper} does.
+     *
+     * @return a {@link BeanRowMapper}, or null if {@link #beanType} cannot be populated directly
+     */
+    private BeanRowMapper compileBeanRowMapper() {
+        try {
+            final DeserializationConfig config = objectMapper.getDeserializationConfig();
+            if (config.isEnabled(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES)) {
+                return null;
+            }
+            final JavaType javaType = objectMapper.constructType(beanType);
+            final DeserializationContext context = ((DefaultDeserializationContext) objectMapper.getDeserializationContext())
+                    .createInstance(config, null, objectMapper.getInjectableValues());
+            final JsonDeserializer<Object> deserializer = context.findRootValueDeserializer(javaType);
+            if (deserializer.getClass() != BeanDeserializer.class) {
+                return null;
+            }
+            final BeanDeserializer beanDeserializer = (BeanDeserializer) deserializer;
+            if (!beanDeserializer.getValueInstantiator().canCreateUsingDefault()
+                    || beanDeserializer.getValueInstantiator().canCreateFromObjectWith()) {
+                return null;
+            }
+            final AnnotatedWithParams defaultCreator = beanDeserializer.getValueInstantiator().getDefaultCreator();
+            if (!(defaultCreator instanceof AnnotatedConstructor)) {
+                return null;
+            }
+
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            final Constructor<?> constructor = ((AnnotatedConstructor) defaultCreator).getAnnotated();
+            constructor.setAccessible(true);
+            final MethodHandle beanConstructor = lookup.unreflectConstructor(constructor)
+                    .asType(MethodType.methodType(Object.class));
+
+            final ResultSetMetaData metaData = resultSet.getMetaData();
+            final MethodType setterType = MethodType.methodType(void.class, Object.class, Object.class);
+            final MethodHandle[] setters = new MethodHandle[columnMapping.length];
+            final ColumnReader[] columnReaders = new ColumnReader[columnMapping.length];
+
+            for (int i = 0; i < columnMapping.length; ++i) {
+                final SettableBeanProperty property = beanDeserializer.findProperty(columnMapping[i]);
+                if (property == null) {
+                    //an unknown column may go to an any-setter or a problem handler, or fail the conversion
+                    if (config.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                            || config.getProblemHandlers() != null
+                            || config.introspect(javaType).findAnySetterAccessor() != null) {
+                        return null;
+                    }
+                    continue;
+                }
+                if (!(property instanceof MethodProperty || property instanceof FieldProperty)) {
+                    return null;
+                }
+                final AnnotatedMember member = property.getMember();
+                if (member.hasAnnotation(JsonDeserialize.class) || member.hasAnnotation(JsonFormat.class)) {
+                    return null;
+                }
+                final Member javaMember = member.getMember();
+                ((AccessibleObject) javaMember).setAccessible(true);
+                final MethodHandle setter = javaMember instanceof Method ? lookup.unreflect((Method) javaMember) :
+                        lookup.unreflectSetter((Field) javaMember);
+                setters[i] = setter.asType(setterType);
+                columnReaders[i] = newColumnReader(i, property.getType(), metaData.getColumnType(i + 1));
+            }
+            return new BeanRowMapper(beanConstructor, setters, columnReaders);
+        } catch (final Exception e) {
+            SupportLogger.LOGGER.tracef(e, "Will convert each row to %s via Map, instead of setting properties directly", beanType);
+            return null;
+        }
+    }
+
+    /**
+     * Creates a {@link ColumnReader} that reads the value of a column for a property. If {@link #columnTypes} is
+     * not specified and the property type matches the column sql type, a typed {@code ResultSet} getter is used.
+     * Otherwise, the column value is read with {@link #getColumnValue(int)}, and converted to the property type
+     * with {@code objectMapper} if necessary.
+     *
+     * @param i 0-based column index
+     * @param propertyType the type of the property
+     * @param sqlType the sql type of the column, as defined in {@code java.sql.Types}
+     * @return {@link ColumnReader} for the column
+     */
+    private ColumnReader newColumnReader(final int i, final JavaType propertyType, final int sqlType) {
+        final int pos = i + 1;
+        final Class<?> rawType = propertyType.getRawClass();
+        if (columnTypes == null) {
+            final boolean charType = sqlType == Types.CHAR || sqlType == Types.VARCHAR || sqlType == Types.LONGVARCHAR
+                    || sqlType == Types.NCHAR || sqlType == Types.NVARCHAR || sqlType == Types.LONGNVARCHAR;
+            final boolean integerType = sqlType == Types.TINYINT || sqlType == Types.SMALLINT
+                    || sqlType == Types.INTEGER || sqlType == Types.BIGINT;
+            final boolean decimalType = sqlType == Types.NUMERIC || sqlType == Types.DECIMAL;
+            final boolean floatType = sqlType == Types.REAL || sqlType == Types.FLOAT || sqlType == Types.DOUBLE;
+
+            if (rawType == String.class && charType) {
+                return () -> resultSet.getString(pos);
+            }
+            if (integerType) {
+                if (rawType == int.class) {
+                    return () -> resultSet.getInt(pos);
+                }
+                if (rawType == long.class) {
+                    return () -> resultSet.getLong(pos);
+                }
+                if (rawType == Integer.class) {
+                    return () -> {
+                        final int v = resultSet.getInt(pos);
+                        return resultSet.wasNull() ? null : v;
+                    };
+                }
+                if (rawType == Long.class) {
+                    return () -> {
+                        final long v = resultSet.getLong(pos);
+                        return resultSet.wasNull() ? null : v;
+                    };
+                }
+            }
+            if (integerType || decimalType || floatType) {
+                if (rawType == double.class) {
+                    return () -> resultSet.getDouble(pos);
+                }
+                if (rawType == Double.class) {
+                    return () -> {
+                        final double v = resultSet.getDouble(pos);
+                        return resultSet.wasNull() ? null : v;
+                    };
+                }
+                if (rawType == BigDecimal.class && !floatType) {
+                    return () -> resultSet.getBigDecimal(pos);
+                }
+            }
+            if ((sqlType == Types.BOOLEAN || sqlType == Types.BIT) && rawType == boolean.class) {
+                return () -> resultSet.getBoolean(pos);
+            }
+            if (sqlType == Types.TIMESTAMP || sqlType == Types.DATE) {
+                if (rawType == java.util.Date.class || rawType == Timestamp.class) {
+                    return () -> resultSet.getTimestamp(pos);
+                }
+                if (rawType == java.sql.Date.class && sqlType == Types.DATE) {
+                    return () -> resultSet.getDate(pos);
+                }
+            }
+        }
+        //a primitive property is set with its boxed value, and with its default value for null, as objectMapper does
+        final Class<?> valueType = rawType.isPrimitive() ? ClassUtil.wrapperType(rawType) : rawType;
+        final Object nullValue = rawType.isPrimitive() ? ClassUtil.defaultValue(rawType) : null;
+        return () -> {
+            final Object val = getColumnValue(i);
+            if (val == null) {
+                return nullValue;
+            }
+            return valueType.isInstance(val) ? val : objectMapper.convertValue(val, propertyType);
+        };
+    }
+
+    /**
+     * Reads the value of a column in the current row of {@link #resultSet}.
+     */
+    @FunctionalInterface
+    private interface ColumnReader {
+        Object read() throws Exception;
+    }
+
+    /**
+     * Creates and populates a bean for each row with precompiled constructor and property setters.
+     */
+    private static final class BeanRowMapper {
+        private final MethodHandle constructor;
+        private final MethodHandle[] setters;
+        private final ColumnReader[] columnReaders;
+
+        private BeanRowMapper(final MethodHandle constructor, final MethodHandle[] setters,
+                              final ColumnReader[] columnReaders) {
+            this.constructor = constructor;
+            this.setters = setters;
+            this.columnReaders = columnReaders;
+        }
+
+        private Object mapRow() throws Exception {
+            try {
+                final Object bean = (Object) constructor.invokeExact();
+                for (int i = 0; i < setters.length; ++i) {
+                    final MethodHandle setter = setters[i];
+                    if (setter != null) {
+                        setter.invokeExact(bean, columnReaders[i].read());
+                    }
+                }
+                return bean;
+            } catch (final Exception | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    /**
+     * Checkpoint info of {@link JdbcItemReader} when {@link #keyColumns} is specified.
+     *
+     * @since 3.0.1
+     */
+    public static final class KeysetCheckpoint implements Serializable {
+        private static final long serialVersionUID = -2373474381523645212L;
+
+        /**
+         * The row number of the last read row.
+         */
+        final int rowNumber;
+
+        /**
+         * The values of key columns of the last read row, or null if no row has been read.
+         */
+        final Object[] keyValues;
+
+        KeysetCheckpoint(final int rowNumber, final Object[] keyValues) {
+            this.rowNumber = rowNumber;
+            this.keyValues = keyValues;
+        }
+
+        @Override
+        public String toString() {
+            return "KeysetCheckpoint{rowNumber=" + rowNumber + ", keyValues=" + Arrays.toString(keyValues) + '}';
+        }
+    }
 }
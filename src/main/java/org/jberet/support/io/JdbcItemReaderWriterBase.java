@@ -102,16 +102,7 @@ public abstract class JdbcItemReaderWriterBase extends JsonItemReaderWriterBase
         if (dataSourceLookup != null) {
             dataSource = InitialContext.doLookup(dataSourceLookup);
         } else {
-            dbProperties = new Properties();
-            if (properties != null) {
-                dbProperties.putAll(properties);
-            }
-            if (user != null) {
-                dbProperties.put("user", user.trim());
-            }
-            if (password != null) {
-                dbProperties.put("password", password.trim());
-            }
+            dbProperties = getDbProperties(properties, user, password);
         }
         if (beanType != List.class && beanType != Map.class) {
             initJsonFactoryAndObjectMapper();
@@ -119,6 +110,41 @@ public abstract class JdbcItemReaderWriterBase extends JsonItemReaderWriterBase
     }
 
     protected Connection getConnection() throws Exception {
+        return getConnection(dataSource, url, dbProperties);
+    }
+
+    /**
+     * Builds the properties for {@code DriverManager} connections from the database connection batch properties.
+     *
+     * @param properties additional properties for the JDBC connection, may be null
+     * @param user user name for the JDBC connection, may be null
+     * @param password password for the JDBC connection, may be null
+     * @return the properties for the JDBC connection
+     */
+    static Properties getDbProperties(final Map<String, String> properties, final String user, final String password) {
+        final Properties dbProperties = new Properties();
+        if (properties != null) {
+            dbProperties.putAll(properties);
+        }
+        if (user != null) {
+            dbProperties.put("user", user.trim());
+        }
+        if (password != null) {
+            dbProperties.put("password", password.trim());
+        }
+        return dbProperties;
+    }
+
+    /**
+     * Gets a connection from {@code dataSource} if it is not null, otherwise from {@code DriverManager}.
+     *
+     * @param dataSource the data source, may be null
+     * @param url JDBC connection url, used only if {@code dataSource} is null
+     * @param dbProperties properties for the JDBC connection, used only if {@code dataSource} is null
+     * @return the database connection
+     * @throws Exception if failed to get the connection
+     */
+    static Connection getConnection(final DataSource dataSource, final String url, final Properties dbProperties) throws Exception {
         if (dataSource != null) {
             return dataSource.getConnection();
         } else {
@@ -13,6 +13,13 @@ package org.jberet.support.io;
 import java.io.InputStream;
 import java.io.Reader;
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.net.URI;
 import java.net.URL;
@@ -22,6 +29,7 @@ import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.Connection;
 import java.sql.NClob;
+import java.sql.PreparedStatement;
 import java.sql.Ref;
 import java.sql.RowId;
 import java.sql.SQLException;
@@ -36,6 +44,15 @@ import java.util.Map;
 import org.jberet.support._private.SupportLogger;
 import org.jberet.support._private.SupportMessages;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+
 import jakarta.batch.api.BatchProperty;
 import jakarta.batch.api.chunk.ItemWriter;
 import jakarta.enterprise.context.Dependent;
@@ -97,26 +114,73 @@ public class JdbcItemWriter extends JdbcItemReaderWriterBase implements ItemWrit
     @BatchProperty
     protected String[] parameterTypes;
 
+    /**
+     * Whether to keep the JDBC connection and {@code PreparedStatement} open from {@link #open(Serializable)}
+     * to {@link #close()}, and reuse them for all chunks, instead of obtaining a new connection and preparing
+     * the statement for each chunk. Optional property, and defaults to false. When {@link #dataSourceLookup} is
+     * not specified, each chunk is still committed or rolled back on its own. If writing a chunk fails, the
+     * connection and statement are closed, and a new connection and statement will be obtained for the next chunk.
+     * <p>
+     * This is most useful when connections are obtained with {@code java.sql.DriverManager}, where each new
+     * connection means a new physical database connection.
+     *
+     * @since 3.0.1
+     */
+    @Inject
+    @BatchProperty
+    protected boolean reuseConnection;
+
+    /**
+     * The JDBC connection held for all chunks, if {@link #reuseConnection} is true.
+     */
+    protected Connection connection;
+
+    /**
+     * {@link ParameterBinder} for each sql parameter, compiled from {@link #parameterTypes}.
+     */
+    private ParameterBinder[] parameterBinders;
+
+    /**
+     * Getter for each {@link #parameterNames} property of {@link #beanType}, if {@link #beanType} is a custom type.
+     */
+    private MethodHandle[] propertyGetters;
+
+    /**
+     * Number of sql parameters, -1 if not yet determined, or -2 if not supported by the JDBC driver.
+     */
+    private int sqlParameterCount = -1;
+
     @Override
     public void writeItems(final List<Object> items) throws Exception {
-        Connection connection = null;
+        Connection conn = null;
         try {
-            connection = getConnection();
-            if (dataSource == null) {
-                connection.setAutoCommit(false);
+            if (reuseConnection) {
+                conn = prepareReusableStatement();
+            } else {
+                conn = getConnection();
+                if (dataSource == null) {
+                    conn.setAutoCommit(false);
+                }
+                preparedStatement = conn.prepareStatement(sql);
             }
-            preparedStatement = connection.prepareStatement(sql);
             for (final Object item : items) {
                 mapParameters(item);
                 preparedStatement.addBatch();
             }
             preparedStatement.executeBatch();
             if (dataSource == null) {
-                connection.commit();
+                conn.commit();
             }
         } catch (Exception e) {
-            if (dataSource == null && connection != null) {
-                connection.rollback();
+            try {
+                if (dataSource == null && conn != null) {
+                    conn.rollback();
+                }
+            } finally {
+                if (reuseConnection) {
+                    //the connection or statement may no longer be usable, so obtain new ones for the next chunk
+                    closeReusableStatement();
+                }
             }
             if(e instanceof SQLException) {
                 final SQLException sqlException = (SQLException) e;
@@ -134,7 +198,9 @@ public class JdbcItemWriter extends JdbcItemReaderWriterBase implements ItemWrit
             }
             throw e;
         } finally {
-            JdbcItemReaderWriterBase.close(connection, preparedStatement);
+            if (!reuseConnection) {
+                JdbcItemReaderWriterBase.close(conn, preparedStatement);
+            }
         }
     }
 
@@ -145,6 +211,13 @@ public class JdbcItemWriter extends JdbcItemReaderWriterBase implements ItemWrit
         if (parameterNames == null && beanType != java.util.List.class) {
             parameterNames = determineParameterNames(sql);
         }
+        parameterBinders = compileParameterBinders();
+        if (beanType != null && beanType != List.class && beanType != Map.class) {
+            propertyGetters = compilePropertyGetters();
+        }
+        if (reuseConnection) {
+            prepareReusableStatement();
+        }
     }
 
     static String[] determineParameterNames(final String sql) {
@@ -180,7 +253,7 @@ public class JdbcItemWriter extends JdbcItemReaderWriterBase implements ItemWrit
 
     @Override
     public void close() throws Exception {
-
+        closeReusableStatement();
     }
 
     @Override
@@ -188,10 +261,38 @@ public class JdbcItemWriter extends JdbcItemReaderWriterBase implements ItemWrit
         return null;
     }
 
+    /**
+     * Gets the connection held by this writer when {@link #reuseConnection} is true, and makes sure both the
+     * connection and {@link #preparedStatement} are open, obtaining new ones if necessary.
+     *
+     * @return the connection held by this writer
+     * @throws Exception if failed to get connection or prepare statement
+     */
+    protected Connection prepareReusableStatement() throws Exception {
+        if (connection == null || connection.isClosed()) {
+            closeReusableStatement();
+            connection = getConnection();
+            if (dataSource == null) {
+                connection.setAutoCommit(false);
+            }
+        }
+        if (preparedStatement == null || preparedStatement.isClosed()) {
+            preparedStatement = connection.prepareStatement(sql);
+        }
+        return connection;
+    }
+
+    private void closeReusableStatement() {
+        if (connection != null || preparedStatement != null) {
+            JdbcItemReaderWriterBase.close(connection, preparedStatement);
+            connection = null;
+            preparedStatement = null;
+        }
+    }
+
     private void mapParameters(final Object item) throws Exception {
         if (item instanceof List) {
-            final List itemAsList = (List) item;
-            final int itemSize = itemAsList.size();
+            final List<?> itemAsList = (List<?>) item;
 
             //the item is a list and should contain data of proper types, e.g., String, Integer, Date, etc,
             //and in the same order as SQL insert statement parameters.
@@ -199,217 +300,371 @@ public class JdbcItemWriter extends JdbcItemReaderWriterBase implements ItemWrit
             //the item list may contain more elements than the number of sql parameters
             //in the insert sql statement. So first count the number of sql parameters,
             // if supported by the jdbc driver.
-            int parameterCount;
-            try {
-                parameterCount = preparedStatement.getParameterMetaData().getParameterCount();
-            } catch (final Exception e) {
-                parameterCount = itemSize;
+            if (sqlParameterCount == -1) {
+                try {
+                    sqlParameterCount = preparedStatement.getParameterMetaData().getParameterCount();
+                } catch (final Exception e) {
+                    sqlParameterCount = -2;
+                }
             }
+            final int parameterCount = sqlParameterCount >= 0 ? sqlParameterCount : itemAsList.size();
 
             for (int i = 0; i < parameterCount; ++i) {
-                setParameter(i, itemAsList.get(i));
+                parameterBinder(i).bind(preparedStatement, i + 1, itemAsList.get(i));
             }
-        } else {
-            final Map itemAsMap;
-            if (item instanceof Map) {
-                itemAsMap = (Map) item;
-            } else {
-                itemAsMap = objectMapper.convertValue(item, Map.class);
+        } else if (item instanceof Map) {
+            final Map<?, ?> itemAsMap = (Map<?, ?>) item;
+            for (int i = 0; i < parameterNames.length; ++i) {
+                parameterBinder(i).bind(preparedStatement, i + 1, itemAsMap.get(parameterNames[i]));
             }
+        } else if (propertyGetters != null && item.getClass() == beanType) {
+            for (int i = 0; i < parameterNames.length; ++i) {
+                final MethodHandle getter = propertyGetters[i];
+                Object val = null;
+                if (getter != null) {
+                    try {
+                        val = (Object) getter.invokeExact(item);
+                    } catch (final Throwable e) {
+                        if (e instanceof Exception) {
+                            throw (Exception) e;
+                        }
+                        throw (Error) e;
+                    }
+                    if (val != null && !isPlainValue(val)) {
+                        //same as the value in objectMapper.convertValue(item, Map.class)
+                        val = objectMapper.convertValue(val, Object.class);
+                    }
+                }
+                parameterBinder(i).bind(preparedStatement, i + 1, val);
+            }
+        } else {
+            final Map<?, ?> itemAsMap = objectMapper.convertValue(item, Map.class);
             for (int i = 0; i < parameterNames.length; ++i) {
-                setParameter(i, itemAsMap.get(parameterNames[i]));
+                parameterBinder(i).bind(preparedStatement, i + 1, itemAsMap.get(parameterNames[i]));
             }
         }
     }
 
-    private void setParameter(final int i, final Object val) throws Exception {
-        final int pos = i + 1;
+    private ParameterBinder parameterBinder(final int i) {
+        return parameterBinders == null ? OBJECT_BINDER : parameterBinders[i];
+    }
+
+    /**
+     * Compiles {@link #parameterTypes} into an array of {@link ParameterBinder}, so that the type of each parameter
+     * is resolved only once, instead of for every value of every item.
+     *
+     * @return an array of {@link ParameterBinder}, or null if {@link #parameterTypes} is not specified
+     */
+    private ParameterBinder[] compileParameterBinders() {
         if (parameterTypes == null) {
-            preparedStatement.setObject(i + 1, val);
-            return;
+            return null;
         }
-        final String type = parameterTypes[i];
-        if (type.equals("String")) {
-            preparedStatement.setString(pos, val == null ? null : val.toString());
-        } else if (type.equals("Date")) {
-            if (val == null) {
-                preparedStatement.setDate(pos, null);
-            } else {
-                final java.sql.Date sqlDate;
-                if (val instanceof java.sql.Date) {
-                    sqlDate = (java.sql.Date) val;
-                } else if (val instanceof java.util.Date) {
-                    sqlDate = new java.sql.Date(((java.util.Date) val).getTime());
-                } else if (val instanceof Long) {
-                    sqlDate = new java.sql.Date((Long) val);
-                } else {
-                    sqlDate = new java.sql.Date(Long.parseLong(val.toString()));
-                }
-                preparedStatement.setDate(pos, sqlDate);
-            }
-        } else if (type.equals("Timestamp")) {
-            if (val == null) {
-                preparedStatement.setTimestamp(pos, null);
-            } else {
-                final Timestamp sqlTimestamp;
-                if (val instanceof Timestamp) {
-                    sqlTimestamp = (Timestamp) val;
-                } else if (val instanceof java.util.Date) {
-                    sqlTimestamp = new Timestamp(((java.util.Date) val).getTime());
-                } else if (val instanceof Long) {
-                    sqlTimestamp = new Timestamp((Long) val);
-                } else {
-                    sqlTimestamp = new Timestamp(Long.parseLong(val.toString()));
-                }
-                preparedStatement.setTimestamp(pos, sqlTimestamp);
-            }
-        } else if (type.equals("Time")) {
-            if (val == null) {
-                preparedStatement.setTime(pos, null);
-            } else {
-                final Time sqlTime;
-                if (val instanceof Time) {
-                    sqlTime = (Time) val;
-                } else if (val instanceof java.util.Date) {
-                    sqlTime = new Time(((java.util.Date) val).getTime());
-                } else if (val instanceof Long) {
-                    sqlTime = new Time((Long) val);
-                } else {
-                    sqlTime = new Time(Long.parseLong(val.toString()));
-                }
-                preparedStatement.setTime(pos, sqlTime);
-            }
-        } else if (type.equals("Object") || type.equals("null")) {
-            preparedStatement.setObject(pos, val);
-        } else if (type.equals("NString")) {
-            preparedStatement.setNString(pos, val == null ? null : val.toString());
-        } else if (type.equals("Boolean")) {
-            preparedStatement.setBoolean(pos, (val instanceof Boolean ? (Boolean) val :
-                    val != null && Boolean.parseBoolean(val.toString())));
-        } else if (type.equals("Int")) {
-            preparedStatement.setInt(pos, (val instanceof Integer ? (Integer) val :
-                    val == null ? 0 : Integer.parseInt(val.toString())));
-        } else if (type.equals("Long")) {
-            preparedStatement.setLong(pos, (val instanceof Long ? (Long) val :
-                    val == null ? 0 : Long.parseLong(val.toString())));
-        } else if (type.equals("Double")) {
-            preparedStatement.setDouble(pos, (val instanceof Double ? (Double) val :
-                    val == null ? 0 : Double.parseDouble(val.toString())));
-        } else if (type.equals("Float")) {
-            preparedStatement.setFloat(pos, (val instanceof Float ? (Float) val :
-                    val == null ? 0 : Float.parseFloat(val.toString())));
-        } else if (type.equals("Short")) {
-            preparedStatement.setShort(pos, (val instanceof Short ? (Short) val :
-                    val == null ? 0 : Short.parseShort(val.toString())));
-        } else if (type.equals("Byte")) {
-            preparedStatement.setByte(pos, (val instanceof Byte ? (Byte) val :
-                    val == null ? 0 : Byte.parseByte(val.toString())));
-        } else if (type.equals("Blob")) {
-            if (val == null) {
-                preparedStatement.setBlob(pos, (Blob) null);
-            } else if (val instanceof Blob) {
-                preparedStatement.setBlob(pos, (Blob) val);
-            } else if (val instanceof InputStream) {
-                preparedStatement.setBlob(pos, (InputStream) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("Blob | InputStream", val.getClass().getName(), val);
-            }
-        } else if (type.equals("Clob")) {
-            if (val == null) {
-                preparedStatement.setClob(pos, (Clob) null);
-            } else if (val instanceof Clob) {
-                preparedStatement.setClob(pos, (Clob) val);
-            } else if (val instanceof Reader) {
-                preparedStatement.setClob(pos, (Reader) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("Clob | Reader", val.getClass().getName(), val);
-            }
-        } else if (type.equals("NClob")) {
-            if (val == null) {
-                preparedStatement.setNClob(pos, (NClob) null);
-            } else if (val instanceof NClob) {
-                preparedStatement.setNClob(pos, (NClob) val);
-            } else if (val instanceof Reader) {
-                preparedStatement.setNClob(pos, (Reader) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("NClob | Reader", val.getClass().getName(), val);
-            }
-        } else if (type.equals("BigDecimal")) {
-            preparedStatement.setBigDecimal(pos, (val instanceof BigDecimal ? (BigDecimal) val :
-                    val == null ? null : new BigDecimal(val.toString())));
-        } else if (type.equals("URL")) {
-            preparedStatement.setURL(pos, (val instanceof URL ? (URL) val :
-                    val == null ? null : (new URI(val.toString())).toURL()));
-        } else if (type.equals("Bytes")) {
-            preparedStatement.setBytes(pos, (val instanceof byte[] ? (byte[]) val :
-                    val == null ? null : val.toString().getBytes()));
-        } else if (type.equals("BinaryStream")) {
-            if (val == null) {
-                preparedStatement.setBinaryStream(pos, null);
-            } else if (val instanceof InputStream) {
-                preparedStatement.setBinaryStream(pos, (InputStream) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("InputStream", val.getClass().getName(), val);
-            }
-        } else if (type.equals("CharacterStream")) {
-            if (val == null) {
-                preparedStatement.setCharacterStream(pos, null);
-            } else if (val instanceof Reader) {
-                preparedStatement.setCharacterStream(pos, (Reader) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("Reader", val.getClass().getName(), val);
-            }
-        } else if (type.equals("NCharacterStream")) {
-            if (val == null) {
-                preparedStatement.setNCharacterStream(pos, null);
-            } else if (val instanceof Reader) {
-                preparedStatement.setNCharacterStream(pos, (Reader) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("Reader", val.getClass().getName(), val);
-            }
-        } else if (type.equals("AsciiStream")) {
-            if (val == null) {
-                preparedStatement.setAsciiStream(pos, null);
-            } else if (val instanceof InputStream) {
-                preparedStatement.setAsciiStream(pos, (InputStream) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("InputStream", val.getClass().getName(), val);
-            }
-        } else if (type.equals("Ref")) {
-            if (val == null) {
-                preparedStatement.setRef(pos, null);
-            } else if (val instanceof Ref) {
-                preparedStatement.setRef(pos, (Ref) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("java.sql.Ref", val.getClass().getName(), val);
+        final ParameterBinder[] binders = new ParameterBinder[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; ++i) {
+            binders[i] = newParameterBinder(parameterTypes[i]);
+            if (binders[i] == null) {
+                throw SupportMessages.MESSAGES.invalidReaderWriterProperty(
+                        null, Arrays.toString(parameterTypes), "parameterTypes");
             }
-        } else if (type.equals("RowId")) {
-            if (val == null) {
-                preparedStatement.setRowId(pos, null);
-            } else if (val instanceof RowId) {
-                preparedStatement.setRowId(pos, (RowId) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("java.sql.RowId", val.getClass().getName(), val);
+        }
+        return binders;
+    }
+
+    /**
+     * Compiles the getter of each {@link #parameterNames} property of {@link #beanType} into a {@code MethodHandle},
+     * so that each parameter value can be obtained from the bean directly, instead of converting the bean to a
+     * {@code java.util.Map} with {@code objectMapper}. Property names, and getter or field accessors, are resolved
+     * in the same way as {@code objectMapper}. If {@link #beanType} requires custom serialization, which cannot be
+     * replicated with plain accessors, null is returned, and each bean will still be converted to a {@code Map}.
+     *
+     * @return an array of {@code MethodHandle}, which may contain null elements for properties not found in
+     * {@link #beanType}; or null if {@link #beanType} cannot be handled with plain accessors
+     */
+    private MethodHandle[] compilePropertyGetters() {
+        try {
+            final JavaType javaType = objectMapper.constructType(beanType);
+            if (objectMapper.getSerializerProviderInstance().findValueSerializer(javaType).getClass()
+                    != BeanSerializer.class) {
+                return null;
             }
-        } else if (type.equals("SQLXML")) {
-            if (val == null) {
-                preparedStatement.setSQLXML(pos, null);
-            } else if (val instanceof SQLXML) {
-                preparedStatement.setSQLXML(pos, (SQLXML) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("java.sql.SQLXML", val.getClass().getName(), val);
+            final BeanDescription beanDescription = objectMapper.getSerializationConfig().introspect(javaType);
+            if (beanDescription.findAnyGetter() != null) {
+                return null;
             }
-        } else if (type.equals("Array")) {
-            if (val == null) {
-                preparedStatement.setArray(pos, null);
-            } else if (val instanceof Array) {
-                preparedStatement.setArray(pos, (Array) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("java.sql.Array", val.getClass().getName(), val);
+
+            final List<BeanPropertyDefinition> properties = beanDescription.findProperties();
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            final MethodType getterType = MethodType.methodType(Object.class, Object.class);
+            final MethodHandle[] getters = new MethodHandle[parameterNames.length];
+
+            for (int i = 0; i < parameterNames.length; ++i) {
+                for (final BeanPropertyDefinition property : properties) {
+                    if (!property.getName().equals(parameterNames[i])) {
+                        continue;
+                    }
+                    final AnnotatedMember accessor = property.getAccessor();
+                    if (accessor == null) {
+                        break;
+                    }
+                    if (accessor.hasAnnotation(JsonSerialize.class) || accessor.hasAnnotation(JsonFormat.class)
+                            || accessor.hasAnnotation(JsonUnwrapped.class)) {
+                        return null;
+                    }
+                    final Member member = accessor.getMember();
+                    ((AccessibleObject) member).setAccessible(true);
+                    final MethodHandle getter = member instanceof Method ? lookup.unreflect((Method) member) :
+                            lookup.unreflectGetter((Field) member);
+                    getters[i] = getter.asType(getterType);
+                    break;
+                }
             }
-        } else {
-            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(
-                    null, Arrays.toString(parameterTypes), "parameterTypes");
+            return getters;
+        } catch (final Exception e) {
+            SupportLogger.LOGGER.tracef(e, "Will convert each %s to Map, instead of using property accessors", beanType);
+            return null;
+        }
+    }
+
+    /**
+     * Checks if a value is serialized as is by {@code objectMapper.convertValue(item, Map.class)}.
+     *
+     * @param val the value to check
+     * @return true if the value is serialized as is; false otherwise
+     */
+    private static boolean isPlainValue(final Object val) {
+        final Class<?> cls = val.getClass();
+        return cls == String.class || cls == Integer.class || cls == Long.class || cls == Double.class
+                || cls == Boolean.class || cls == BigDecimal.class;
+    }
+
+    /**
+     * Binds a value to a parameter of {@code PreparedStatement}.
+     */
+    @FunctionalInterface
+    private interface ParameterBinder {
+        void bind(PreparedStatement ps, int pos, Object val) throws Exception;
+    }
+
+    private static final ParameterBinder OBJECT_BINDER = PreparedStatement::setObject;
+
+    /**
+     * Gets the {@link ParameterBinder} for the parameter type, which is one of the values allowed in
+     * {@link #parameterTypes}.
+     *
+     * @param type the parameter type
+     * @return the {@link ParameterBinder} for the parameter type, or null if the type is not supported
+     */
+    private static ParameterBinder newParameterBinder(final String type) {
+        switch (type) {
+            case "String":
+                return (ps, pos, val) -> ps.setString(pos, val == null ? null : val.toString());
+            case "Date":
+                return (ps, pos, val) -> {
+                    if (val == null) {
+                        ps.setDate(pos, null);
+                    } else {
+                        final java.sql.Date sqlDate;
+                        if (val instanceof java.sql.Date) {
+                            sqlDate = (java.sql.Date) val;
+                        } else if (val instanceof java.util.Date) {
+                            sqlDate = new java.sql.Date(((java.util.Date) val).getTime());
+                        } else if (val instanceof Long) {
+                            sqlDate = new java.sql.Date((Long) val);
+                        } else {
+                            sqlDate = new java.sql.Date(Long.parseLong(val.toString()));
+                        }
+                        ps.setDate(pos, sqlDate);
+                    }
+                };
+            case "Timestamp":
+                return (ps, pos, val) -> {
+                    if (val == null) {
+                        ps.setTimestamp(pos, null);
+                    } else {
+                        final Timestamp sqlTimestamp;
+                        if (val instanceof Timestamp) {
+                            sqlTimestamp = (Timestamp) val;
+                        } else if (val instanceof java.util.Date) {
+                            sqlTimestamp = new Timestamp(((java.util.Date) val).getTime());
+                        } else if (val instanceof Long) {
+                            sqlTimestamp = new Timestamp((Long) val);
+                        } else {
+                            sqlTimestamp = new Timestamp(Long.parseLong(val.toString()));
+                        }
+                        ps.setTimestamp(pos, sqlTimestamp);
+                    }
+                };
+            case "Time":
+                return (ps, pos, val) -> {
+                    if (val == null) {
+                        ps.setTime(pos, null);
+                    } else {
+                        final Time sqlTime;
+                        if (val instanceof Time) {
+                            sqlTime = (Time) val;
+                        } else if (val instanceof java.util.Date) {
+                            sqlTime = new Time(((java.util.Date) val).getTime());
+                        } else if (val instanceof Long) {
+                            sqlTime = new Time((Long) val);
+                        } else {
+                            sqlTime = new Time(Long.parseLong(val.toString()));
+                        }
+                        ps.setTime(pos, sqlTime);
+                    }
+                };
+            case "Object":
+            case "null":
+                return OBJECT_BINDER;
+            case "NString":
+                return (ps, pos, val) -> ps.setNString(pos, val == null ? null : val.toString());
+            case "Boolean":
+                return (ps, pos, val) -> ps.setBoolean(pos, (val instanceof Boolean ? (Boolean) val :
+                        val != null && Boolean.parseBoolean(val.toString())));
+            case "Int":
+                return (ps, pos, val) -> ps.setInt(pos, (val instanceof Integer ? (Integer) val :
+                        val == null ? 0 : Integer.parseInt(val.toString())));
+            case "Long":
+                return (ps, pos, val) -> ps.setLong(pos, (val instanceof Long ? (Long) val :
+                        val == null ? 0 : Long.parseLong(val.toString())));
+            case "Double":
+                return (ps, pos, val) -> ps.setDouble(pos, (val instanceof Double ? (Double) val :
+                        val == null ? 0 : Double.parseDouble(val.toString())));
+            case "Float":
+                return (ps, pos, val) -> ps.setFloat(pos, (val instanceof Float ? (Float) val :
+                        val == null ? 0 : Float.parseFloat(val.toString())));
+            case "Short":
+                return (ps, pos, val) -> ps.setShort(pos, (val instanceof Short ? (Short) val :
+                        val == null ? 0 : Short.parseShort(val.toString())));
+            case "Byte":
+                return (ps, pos, val) -> ps.setByte(pos, (val instanceof Byte ? (Byte) val :
+                        val == null ? 0 : Byte.parseByte(val.toString())));
+            case "Blob":
+                return (ps, pos, val) -> {
+                    if (val == null) {
+                        ps.setBlob(pos, (Blob) null);
+                    } else if (val instanceof Blob) {
+                        ps.setBlob(pos, (Blob) val);
+                    } else if (val instanceof InputStream) {
+                        ps.setBlob(pos, (InputStream) val);
+                    } else {
+                        throw SupportMessages.MESSAGES.unexpectedDataType("Blob | InputStream", val.getClass().getName(), val);
+                    }
+                };
+            case "Clob":
+                return (ps, pos, val) -> {
+                    if (val == null) {
+                        ps.setClob(pos, (Clob) null);
+                    } else if (val instanceof Clob) {
+                        ps.setClob(pos, (Clob) val);
+                    } else if (val instanceof Reader) {
+                        ps.setClob(pos, (Reader) val);
+                    } else {
+                        throw SupportMessages.MESSAGES.unexpectedDataType("Clob | Reader", val.getClass().getName(), val);
+                    }
+                };
+            case "NClob":
+                return (ps, pos, val) -> {
+                    if (val == null) {
+                        ps.setNClob(pos, (NClob) null);
+                    } else if (val instanceof NClob) {
+                        ps.setNClob(pos, (NClob) val);
+                    } else if (val instanceof Reader) {
+                        ps.setNClob(pos, (Reader) val);
+                    } else {
+                        throw SupportMessages.MESSAGES.unexpectedDataType("NClob | Reader", val.getClass().getName(), val);
+                    }
+                };
+            case "BigDecimal":
+                return (ps, pos, val) -> ps.setBigDecimal(pos, (val instanceof BigDecimal ? (BigDecimal) val :
+                        val == null ? null : new BigDecimal(val.toString())));
+            case "URL":
+                return (ps, pos, val) -> ps.setURL(pos, (val instanceof URL ? (URL) val :
+                        val == null ? null : (new URI(val.toString())).toURL()));
+            case "Bytes":
+                return (ps, pos, val) -> ps.setBytes(pos, (val instanceof byte[] ? (byte[]) val :
+                        val == null ? null : val.toString().getBytes()));
+            case "BinaryStream":
+                return (ps, pos, val) -> {
+                    if (val == null) {
+                        ps.setBinaryStream(pos, null);
+                    } else if (val instanceof InputStream) {
+                        ps.setBinaryStream(pos, (InputStream) val);
+                    } else {
+                        throw SupportMessages.MESSAGES.unexpectedDataType("InputStream", val.getClass().getName(), val);
+                    }
+                };
+            case "CharacterStream":
+                return (ps, pos, val) -> {
+                    if (val == null) {
+                        ps.setCharacterStream(pos, null);
+                    } else if (val instanceof Reader) {
+                        ps.setCharacterStream(pos, (Reader) val);
+                    } else {
+                        throw SupportMessages.MESSAGES.unexpectedDataType("Reader", val.getClass().getName(), val);
+                    }
+                };
+            case "NCharacterStream":
+                return (ps, pos, val) -> {
+                    if (val == null) {
+                        ps.setNCharacterStream(pos, null);
+                    } else if (val instanceof Reader) {
+                        ps.setNCharacterStream(pos, (Reader) val);
+                    } else {
+                        throw SupportMessages.MESSAGES.unexpectedDataType("Reader", val.getClass().getName(), val);
+                    }
+                };
+            case "AsciiStream":
+                return (ps, pos, val) -> {
+                    if (val == null) {
+                        ps.setAsciiStream(pos, null);
+                    } else if (val instanceof InputStream) {
+                        ps.setAsciiStream(pos, (InputStream) val);
+                    } else {
+                        throw SupportMessages.MESSAGES.unexpectedDataType("InputStream", val.getClass().getName(), val);
+                    }
+                };
+            case "Ref":
+                return (ps, pos, val) -> {
+                    if (val == null) {
+                        ps.setRef(pos, null);
+                    } else if (val instanceof Ref) {
+                        ps.setRef(pos, (Ref) val);
+                    } else {
+                        throw SupportMessages.MESSAGES.unexpectedDataType("java.sql.Ref", val.getClass().getName(), val);
+                    }
+                };
+            case "RowId":
+                return (ps, pos, val) -> {
+                    if (val == null) {
+                        ps.setRowId(pos, null);
+                    } else if (val instanceof RowId) {
+                        ps.setRowId(pos, (RowId) val);
+                    } else {
+                        throw SupportMessages.MESSAGES.unexpectedDataType("java.sql.RowId", val.getClass().getName(), val);
+                    }
+                };
+            case "SQLXML":
+                return (ps, pos, val) -> {
+                    if (val == null) {
+                        ps.setSQLXML(pos, null);
+                    } else if (val instanceof SQLXML) {
+                        ps.setSQLXML(pos, (SQLXML) val);
+                    } else {
+                        throw SupportMessages.MESSAGES.unexpectedDataType("java.sql.SQLXML", val.getClass().getName(), val);
+                    }
+                };
+            case "Array":
+                return (ps, pos, val) -> {
+                    if (val == null) {
+                        ps.setArray(pos, null);
+                    } else if (val instanceof Array) {
+                        ps.setArray(pos, (Array) val);
+                    } else {
+                        throw SupportMessages.MESSAGES.unexpectedDataType("java.sql.Array", val.getClass().getName(), val);
+                    }
+                };
+            default:
+                return null;
         }
     }
 }
@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import javax.naming.InitialContext;
+import javax.sql.DataSource;
+
+import org.jberet.support._private.SupportMessages;
+
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.api.partition.PartitionMapper;
+import jakarta.batch.api.partition.PartitionPlan;
+import jakarta.batch.api.partition.PartitionPlanImpl;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * An implementation of {@code jakarta.batch.api.partition.PartitionMapper} that splits the result of a
+ * query into key ranges, so that each partition of a chunk step reads only its own range with
+ * {@link JdbcItemReader}, typically with an index range scan.
+ * <p>
+ * This class queries the minimum and maximum value of {@link #splitColumn}, divides the range into
+ * {@link #partitionCount} sub-ranges of equal width, and creates one partition for each sub-range.
+ * Each partition has the following partition properties:
+ * <ul>
+ *     <li>{@code sql}: {@link #sql} wrapped in an outer query with a predicate that selects only the partition range;
+ *     <li>{@code partition}: the partition index, starting from 0;
+ *     <li>{@code splitStart}: the inclusive lower bound of the partition range, or empty for the first partition;
+ *     <li>{@code splitEnd}: the exclusive upper bound of the partition range, or empty for the last partition.
+ * </ul>
+ * Rows whose {@link #splitColumn} value is null are included in the first partition. Since all sub-ranges
+ * have the same width, partitions may be uneven in size if the values of {@link #splitColumn} are not evenly
+ * distributed.
+ * <p>
+ * For example,
+ * <pre>
+ * &lt;partition&gt;
+ *     &lt;mapper ref="jdbcPartitionMapper"&gt;
+ *         &lt;properties&gt;
+ *             &lt;property name="url" value="jdbc:h2:~/test"/&gt;
+ *             &lt;property name="sql" value="select * from STOCK_TRADE"/&gt;
+ *             &lt;property name="splitColumn" value="TRADEDATE"/&gt;
+ *             &lt;property name="partitionCount" value="8"/&gt;
+ *         &lt;/properties&gt;
+ *     &lt;/mapper&gt;
+ * &lt;/partition&gt;
+ * </pre>
+ * and {@code jdbcItemReader} in the same step is configured with:
+ * <pre>
+ * &lt;property name="sql" value="#{partitionPlan['sql']}"/&gt;
+ * </pre>
+ *
+ * @see JdbcItemReader
+ * @since 3.0.1
+ */
+@Named
+@Dependent
+public class JdbcPartitionMapper implements PartitionMapper {
+    /**
+     * The query to split into partitions, typically the same as {@link JdbcItemReader#sql} in a non-partitioned
+     * step. Required property.
+     */
+    @Inject
+    @BatchProperty
+    protected String sql;
+
+    /**
+     * Label of the column in the query result to split the query by. Its values must be numeric,
+     * or date, time or timestamp. Required property.
+     */
+    @Inject
+    @BatchProperty
+    protected String splitColumn;
+
+    /**
+     * The number of partitions to create. Optional property, and defaults to the number of available processors.
+     * Fewer partitions may be created if the range of {@link #splitColumn} values is too narrow.
+     */
+    @Inject
+    @BatchProperty
+    protected int partitionCount;
+
+    /**
+     * The number of threads to run partitions. Optional property, and defaults to the number of partitions.
+     */
+    @Inject
+    @BatchProperty
+    protected int threads;
+
+    /**
+     * JNDI lookup name of the {@code javax.sql.DataSource}. Optional property, and defaults to null. If specified,
+     * it will be used to look up the target {@code DataSource}, and other database connection batch properties for
+     * this class will be ignored.
+     */
+    @Inject
+    @BatchProperty
+    protected String dataSourceLookup;
+
+    /**
+     * JDBC connection url
+     */
+    @Inject
+    @BatchProperty
+    protected String url;
+
+    /**
+     * User name for the JDBC connection
+     */
+    @Inject
+    @BatchProperty
+    protected String user;
+
+    /**
+     * Password for the JDBC connection
+     */
+    @Inject
+    @BatchProperty
+    protected String password;
+
+    /**
+     * Additional properties for the JDBC connection
+     */
+    @Inject
+    @BatchProperty
+    protected Map<String, String> properties;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PartitionPlan mapPartitions() throws Exception {
+        if (sql == null || (sql = sql.trim()).isEmpty()) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, sql, "sql");
+        }
+        if (splitColumn == null || (splitColumn = splitColumn.trim()).isEmpty()) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, splitColumn, "splitColumn");
+        }
+        if (partitionCount <= 0) {
+            partitionCount = Runtime.getRuntime().availableProcessors();
+        }
+
+        Object min = null;
+        Object max = null;
+        final String minMaxSql = "SELECT MIN(" + splitColumn + "), MAX(" + splitColumn + ") FROM (" + sql + ") PARTITION_";
+        Connection connection = null;
+        Statement statement = null;
+        try {
+            final DataSource dataSource = dataSourceLookup == null ? null : InitialContext.<DataSource>doLookup(dataSourceLookup);
+            if (dataSource == null && url == null) {
+                throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, "url");
+            }
+            connection = JdbcItemReaderWriterBase.getConnection(dataSource, url,
+                    JdbcItemReaderWriterBase.getDbProperties(properties, user, password));
+            statement = connection.createStatement();
+            final ResultSet rs = statement.executeQuery(minMaxSql);
+            if (rs.next()) {
+                min = rs.getObject(1);
+                max = rs.getObject(2);
+            }
+            rs.close();
+        } finally {
+            JdbcItemReaderWriterBase.close(connection, statement);
+        }
+
+        final List<String> boundaries = new ArrayList<String>();
+        if (min != null && max != null) {
+            computeBoundaries(min, max, boundaries);
+        }
+
+        final int partitions = boundaries.size() + 1;
+        final Properties[] partitionProperties = new Properties[partitions];
+        for (int i = 0; i < partitions; ++i) {
+            final String splitStart = i == 0 ? null : boundaries.get(i - 1);
+            final String splitEnd = i == partitions - 1 ? null : boundaries.get(i);
+            final Properties p = new Properties();
+            p.setProperty("sql", partitionSql(splitStart, splitEnd));
+            p.setProperty("partition", String.valueOf(i));
+            p.setProperty("splitStart", splitStart == null ? "" : splitStart);
+            p.setProperty("splitEnd", splitEnd == null ? "" : splitEnd);
+            partitionProperties[i] = p;
+        }
+
+        final PartitionPlanImpl partitionPlan = new PartitionPlanImpl();
+        partitionPlan.setPartitions(partitions);
+        partitionPlan.setThreads(threads > 0 ? threads : partitions);
+        partitionPlan.setPartitionProperties(partitionProperties);
+        return partitionPlan;
+    }
+
+    /**
+     * Builds the sql statement for a partition, by wrapping {@link #sql} in an outer query with range predicate.
+     *
+     * @param splitStart inclusive lower bound as sql literal, or null if there is no lower bound
+     * @param splitEnd exclusive upper bound as sql literal, or null if there is no upper bound
+     * @return sql statement for the partition
+     */
+    protected String partitionSql(final String splitStart, final String splitEnd) {
+        if (splitStart == null && splitEnd == null) {
+            return sql;
+        }
+        final StringBuilder sb = new StringBuilder("SELECT * FROM (").append(sql).append(") PARTITION_ WHERE ");
+        if (splitStart == null) {
+            sb.append(splitColumn).append(" < ").append(splitEnd).append(" OR ").append(splitColumn).append(" IS NULL");
+        } else if (splitEnd == null) {
+            sb.append(splitColumn).append(" >= ").append(splitStart);
+        } else {
+            sb.append(splitColumn).append(" >= ").append(splitStart)
+                    .append(" AND ").append(splitColumn).append(" < ").append(splitEnd);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Divides the range between {@code min} and {@code max} into {@link #partitionCount} sub-ranges of
+     * equal width, and adds the boundary between each two adjacent sub-ranges, as sql literal, to
+     * {@code boundaries}.
+     *
+     * @param min the minimum value of {@link #splitColumn}
+     * @param max the maximum value of {@link #splitColumn}
+     * @param boundaries the list to add boundaries to
+     */
+    private void computeBoundaries(final Object min, final Object max, final List<String> boundaries) {
+        final boolean temporal;
+        final boolean integral;
+        final BigDecimal minValue;
+        final BigDecimal maxValue;
+        if (min instanceof Number) {
+            temporal = false;
+            integral = min instanceof Long || min instanceof Integer || min instanceof Short
+                    || min instanceof Byte || min instanceof BigInteger;
+            minValue = new BigDecimal(min.toString());
+            maxValue = new BigDecimal(max.toString());
+        } else {
+            temporal = true;
+            integral = true;
+            minValue = BigDecimal.valueOf(toTimestamp(min).getTime());
+            maxValue = BigDecimal.valueOf(toTimestamp(max).getTime());
+        }
+
+        final BigDecimal span = maxValue.subtract(minValue);
+        final BigDecimal count = BigDecimal.valueOf(partitionCount);
+        BigDecimal previous = minValue;
+        for (int i = 1; i < partitionCount; ++i) {
+            BigDecimal boundary = minValue.add(span.multiply(BigDecimal.valueOf(i))
+                    .divide(count, MathContext.DECIMAL128));
+            if (integral) {
+                boundary = boundary.setScale(0, RoundingMode.CEILING);
+            }
+            if (boundary.compareTo(previous) <= 0 || boundary.compareTo(maxValue) > 0) {
+                continue;
+            }
+            previous = boundary;
+            boundaries.add(temporal ? "{ts '" + new Timestamp(boundary.longValue()) + "'}" : boundary.toPlainString());
+        }
+    }
+
+    private static Timestamp toTimestamp(final Object val) {
+        if (val instanceof java.util.Date) {
+            return new Timestamp(((java.util.Date) val).getTime());
+        }
+        if (val instanceof LocalDateTime) {
+            return Timestamp.valueOf((LocalDateTime) val);
+        }
+        if (val instanceof LocalDate) {
+            return Timestamp.valueOf(((LocalDate) val).atStartOfDay());
+        }
+        if (val instanceof OffsetDateTime) {
+            return Timestamp.from(((OffsetDateTime) val).toInstant());
+        }
+        throw SupportMessages.MESSAGES.unexpectedDataType(
+                "Number | java.util.Date | LocalDate | LocalDateTime | OffsetDateTime", val.getClass().getName(), val);
+    }
+}
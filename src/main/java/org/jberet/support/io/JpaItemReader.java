@@ -11,8 +11,10 @@
 package org.jberet.support.io;
 
 import java.io.Serializable;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import jakarta.batch.api.BatchProperty;
 import jakarta.batch.api.chunk.ItemReader;
@@ -117,6 +119,36 @@ public class JpaItemReader extends JpaItemReaderWriterBase implements ItemReader
     @BatchProperty
     protected int maxResults;
 
+    /**
+     * Whether to read query results lazily with {@code jakarta.persistence.Query#getResultStream()},
+     * instead of loading all results into memory with {@code getResultList()}. Optional property, and
+     * defaults to false. In streaming mode, upon restart the query is re-executed with its first result
+     * positioned right after the last checkpointed item, so the checkpoint data is the same as in
+     * non-streaming mode. For the restart position to be reliable, the query should have a deterministic
+     * order (e.g., an {@code order by} clause on a unique key).
+     * <p>
+     * To keep memory usage flat when reading a large number of entities, also consider configuring
+     * {@link #clearInterval}, and a fetch size hint (e.g., {@code org.hibernate.fetchSize}) in {@link #hints}.
+     *
+     * @since 3.0.1
+     */
+    @Inject
+    @BatchProperty
+    protected boolean stream;
+
+    /**
+     * Number of items to read before clearing the persistence context with
+     * {@code jakarta.persistence.EntityManager#clear()}, so that entities already read are detached
+     * and can be garbage collected. Optional property, and defaults to 0 (never clear). Only applicable
+     * when {@link #stream} is true. Note that items returned by this reader may have been detached by
+     * the time they are passed to the item processor or writer.
+     *
+     * @since 3.0.1
+     */
+    @Inject
+    @BatchProperty
+    protected int clearInterval;
+
     /**
      * The JPA query object
      */
@@ -127,6 +159,16 @@ public class JpaItemReader extends JpaItemReaderWriterBase implements ItemReader
      */
     protected List<?> resultList;
 
+    /**
+     * Stream of query result objects, used when {@link #stream} is true
+     */
+    protected Stream<?> resultStream;
+
+    /**
+     * Iterator over {@link #resultStream}, used when {@link #stream} is true
+     */
+    protected Iterator<?> resultIterator;
+
     /**
      * Current read position
      */
@@ -146,12 +188,25 @@ public class JpaItemReader extends JpaItemReaderWriterBase implements ItemReader
             query.setMaxResults(maxResults);
         }
 
-        resultList = query.getResultList();
         if (checkpoint == null) {
             readPosition = 0;
         } else {
             readPosition = (Integer) checkpoint;
         }
+
+        if (stream) {
+            if (readPosition > 0) {
+                //skip the items already read in previous run(s) in the database, instead of in this reader
+                query.setFirstResult(firstResult + readPosition);
+                if (maxResults != 0) {
+                    query.setMaxResults(Math.max(maxResults - readPosition, 0));
+                }
+            }
+            resultStream = query.getResultStream();
+            resultIterator = resultStream.iterator();
+        } else {
+            resultList = query.getResultList();
+        }
     }
 
     /**
@@ -159,6 +214,11 @@ public class JpaItemReader extends JpaItemReaderWriterBase implements ItemReader
      */
     @Override
     public void close() throws Exception {
+        if (resultStream != null) {
+            resultStream.close();
+            resultStream = null;
+            resultIterator = null;
+        }
     }
 
     /**
@@ -166,6 +226,16 @@ public class JpaItemReader extends JpaItemReaderWriterBase implements ItemReader
      */
     @Override
     public Object readItem() throws Exception {
+        if (stream) {
+            if (clearInterval > 0 && readPosition > 0 && readPosition % clearInterval == 0) {
+                em.clear();
+            }
+            if (!resultIterator.hasNext()) {
+                return null;
+            }
+            readPosition++;
+            return resultIterator.next();
+        }
         if (readPosition >= resultList.size()) {
             return null;
         }
@@ -10,6 +10,11 @@
 
 package org.jberet.support.io;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.io.SequenceInputStream;
 import java.io.Serializable;
 import java.util.Map;
 
@@ -32,6 +37,12 @@ import jakarta.inject.Named;
  * user-provided bean type that represents individual data item in the source Json resource. The data item may also
  * be bound to {@code java.util.Map} or {@code com.fasterxml.jackson.databind.JsonNode} for applications that do not
  * need application bean type.
+ * <p>
+ * The checkpoint info of this reader is an {@link OffsetCheckpoint}, which contains the byte offset after the last
+ * data item read, so that a restart can position the input stream at the next data item directly, instead of
+ * parsing all preceding data items. If the byte offset is not available (e.g., when {@link #inputDecorator} is
+ * configured, or the resource is not UTF-8 encoded), or when restarting from a row number checkpoint saved by
+ * previous versions, the reader skips data items one by one to the start position.
  *
  * @see     JsonItemWriter
  * @see     JsonItemReaderWriterBase
@@ -70,6 +81,17 @@ public class JsonItemReader extends JsonItemReaderWriterBase implements ItemRead
     @BatchProperty
     protected int end;
 
+    /**
+     * The number of data items to read ahead and deserialize in a background thread. Optional property, and defaults
+     * to 0 (no read-ahead). Not supported by {@link ArrayItemReader}, which reads all values when opened.
+     *
+     * @see CsvItemReader#readAhead
+     * @since 3.0.1
+     */
+    @Inject
+    @BatchProperty
+    protected int readAhead;
+
     /**
      * A comma-separated list of key-value pairs that specify {@code com.fasterxml.jackson.core.JsonParser} features.
      * Optional property and defaults to null. For example,
@@ -123,23 +145,65 @@ public class JsonItemReader extends JsonItemReaderWriterBase implements ItemRead
     private JsonToken token;
     protected int rowNumber;
 
+    /**
+     * The byte offset in {@link #resource} that corresponds to byte offset 0 of {@link #jsonParser}.
+     */
+    private long offsetBase;
+
+    private ReadAheadQueue readAheadQueue;
+
     @Override
     public void open(final Serializable checkpoint) throws Exception {
         if (end == 0) {
             end = Integer.MAX_VALUE;
         }
-        if (checkpoint != null) {
+        final OffsetCheckpoint offsetCheckpoint = checkpoint instanceof OffsetCheckpoint ? (OffsetCheckpoint) checkpoint : null;
+        final Integer checkpointRowNumber = offsetCheckpoint != null ? Integer.valueOf(offsetCheckpoint.getRowNumber()) :
+                (Integer) checkpoint;
+        if (offsetCheckpoint == null && checkpoint != null) {
             start = (Integer) checkpoint;
         }
         if (start > end) {
-            throw SupportMessages.MESSAGES.invalidStartPosition((Integer) checkpoint, start, end);
+            throw SupportMessages.MESSAGES.invalidStartPosition(checkpointRowNumber, start, end);
         }
         initJsonFactoryAndObjectMapper();
-        jsonParser = configureJsonParser(this, inputDecorator, deserializationProblemHandlers, jsonParserFeatures);
+
+        InputStream inputStream = openInputStream(false);
+        if (offsetCheckpoint != null) {
+            final InputStream positioned = inputDecorator == null ?
+                    positionInputStream(inputStream, offsetCheckpoint.getOffset()) : null;
+            if (positioned != null) {
+                //data items before the checkpoint are skipped by seeking, instead of parsing
+                inputStream = positioned;
+                rowNumber = offsetCheckpoint.getRowNumber();
+            } else {
+                inputStream.close();
+                inputStream = openInputStream(false);
+                start = Math.max(start, offsetCheckpoint.getRowNumber() + 1);
+            }
+        }
+        jsonParser = configureJsonParser(this, inputDecorator, deserializationProblemHandlers, jsonParserFeatures,
+                inputStream);
     }
 
     @Override
     public Object readItem() throws Exception {
+        if (readAhead > 0) {
+            if (readAheadQueue == null) {
+                readAheadQueue = new ReadAheadQueue(readAhead, this::readItem0, this::checkpointInfo0,
+                        getClass().getSimpleName());
+            }
+            return readAheadQueue.next();
+        }
+        return readItem0();
+    }
+
+    @Override
+    public Serializable checkpointInfo() throws Exception {
+        return readAheadQueue == null ? checkpointInfo0() : readAheadQueue.checkpointInfo();
+    }
+
+    private Object readItem0() throws Exception {
         if (rowNumber >= end) {
             return null;
         }
@@ -169,13 +233,22 @@ public class JsonItemReader extends JsonItemReaderWriterBase implements ItemRead
         return readValue;
     }
 
-    @Override
-    public Serializable checkpointInfo() throws Exception {
+    private Serializable checkpointInfo0() throws Exception {
+        if (inputDecorator == null && jsonParser != null) {
+            final long byteOffset = jsonParser.currentLocation().getByteOffset();
+            if (byteOffset >= 0) {
+                return new OffsetCheckpoint(rowNumber, offsetBase + byteOffset);
+            }
+        }
         return rowNumber;
     }
 
     @Override
     public void close() throws Exception {
+        if (readAheadQueue != null) {
+            readAheadQueue.close();
+            readAheadQueue = null;
+        }
         if (jsonParser != null) {
             SupportLogger.LOGGER.closingResource(resource, this.getClass());
             if (deserializationProblemHandlers != null) {
@@ -186,17 +259,72 @@ public class JsonItemReader extends JsonItemReaderWriterBase implements ItemRead
         }
     }
 
+    /**
+     * Positions the input stream at the data item after {@code offset}, which is a byte offset previously saved in
+     * {@link OffsetCheckpoint}, so that a new parser can continue to parse the remaining data items. If the data items
+     * are elements of a Json array, a start-array token is prepended to the returned stream in place of the comma
+     * separator, or before the end-array token, so that the parser continues in the array context. An offset at the
+     * start of a Json array, e.g., 0 if no data item was read, is used as is.
+     *
+     * @param inputStream the input stream of the resource, positioned at the beginning
+     * @param offset the byte offset saved in a checkpoint
+     * @return the input stream to create a parser from, or null if the data at {@code offset} is not recognized
+     * @throws IOException if failed to read the input stream
+     */
+    private InputStream positionInputStream(final InputStream inputStream, final long offset) throws IOException {
+        if (!FileChannelInputStream.seek(inputStream, offset)) {
+            return null;
+        }
+
+        final PushbackInputStream in = new PushbackInputStream(inputStream, 1);
+        long position = offset;
+        int b;
+        while ((b = in.read()) == ' ' || b == '\t' || b == '\r' || b == '\n') {
+            position++;
+        }
+        if (b == ',') {
+            offsetBase = position;
+            return new SequenceInputStream(new ByteArrayInputStream(new byte[]{'['}), in);
+        }
+        if (b < 0) {
+            in.close();
+            offsetBase = offset;
+            return new ByteArrayInputStream(new byte[0]);
+        }
+        if (b == ']') {
+            //keep any Json values after the end of the array
+            in.unread(b);
+            offsetBase = position - 1;
+            return new SequenceInputStream(new ByteArrayInputStream(new byte[]{'['}), in);
+        }
+        if (b == '{' || b == '[') {
+            in.unread(b);
+            offsetBase = position;
+            return in;
+        }
+        return null;
+    }
+
     protected static JsonParser configureJsonParser(final JsonItemReaderWriterBase batchReaderArtifact,
                                                     final Class<?> inputDecorator,
                                                     final String deserializationProblemHandlers,
                                                     final Map<String, String> jsonParserFeatures) throws Exception {
+        return configureJsonParser(batchReaderArtifact, inputDecorator, deserializationProblemHandlers,
+                jsonParserFeatures, batchReaderArtifact.openInputStream(false));
+    }
+
+    protected static JsonParser configureJsonParser(final JsonItemReaderWriterBase batchReaderArtifact,
+                                                    final Class<?> inputDecorator,
+                                                    final String deserializationProblemHandlers,
+                                                    final Map<String, String> jsonParserFeatures,
+                                                    final InputStream inputStream) throws Exception {
         final JsonParser jsonParser;
         if (inputDecorator != null) {
             batchReaderArtifact.jsonFactory.setInputDecorator(
                     (InputDecorator) inputDecorator.getDeclaredConstructor().newInstance());
         }
 
-        jsonParser = batchReaderArtifact.jsonFactory.createParser(getInputStream(batchReaderArtifact.resource, false));
+        jsonParser = batchReaderArtifact.jsonFactory.createParser(inputStream);
 
         if (deserializationProblemHandlers != null) {
             MappingJsonFactoryObjectFactory.configureDeserializationProblemHandlers(
@@ -12,6 +12,7 @@ package org.jberet.support.io;
 
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.nio.channels.FileChannel;
 import java.util.List;
 import java.util.Map;
 
@@ -32,6 +33,14 @@ import jakarta.inject.Named;
 /**
  * An implementation of {@code jakarta.batch.api.chunk.ItemWriter} that writes a list of same-typed objects to Json resource.
  * Each object is written as part of the root Json array.
+ * <p>
+ * The checkpoint info of this writer is an {@link OffsetCheckpoint}, which contains the byte offset of data flushed
+ * to the resource at the end of each chunk. During a restart, the resource is truncated to that offset, and the
+ * remaining items are written into the same Json array. If {@link #outputDecorator} is configured, no checkpoint info
+ * is saved, and the resource is written according to {@link #writeMode} during a restart.
+ * <p>
+ * When rolling over to new files after {@link #rollRecords} or {@link #rollBytes}, each file contains its own Json
+ * array, and the checkpoint info is a {@link RollingCheckpoint}.
  *
  * @see JsonItemReader
  * @see JsonItemReaderWriterBase
@@ -99,46 +108,144 @@ public class JsonItemWriter extends JsonItemReaderWriterBase implements ItemWrit
 
     protected JsonGenerator jsonGenerator;
 
+    /**
+     * The file channel of the resource, used to get the byte offset for checkpoint info, or null if not available.
+     */
+    private FileChannel outputChannel;
+
+    /**
+     * The output stream of the resource, which may write data asynchronously.
+     */
+    private OutputStream outputStream;
+
+    /**
+     * The number of items written to the current file, including those written before the checkpoint in previous
+     * executions.
+     */
+    private int itemCount;
+
+    /**
+     * The rolling files, or null if not rolling over to new files.
+     */
+    private RollingResource rollingResource;
+
+    /**
+     * The file being written, which is {@link #resource}, or the current rolling file.
+     */
+    private String currentResource;
+
     @Override
     public void open(final Serializable checkpoint) throws Exception {
-        SupportLogger.LOGGER.tracef("Open JsonItemWriter with checkpoint %s, which is ignored for JsonItemWriter.%n", checkpoint);
+        SupportLogger.LOGGER.tracef("Open JsonItemWriter with checkpoint %s%n", checkpoint);
         initJsonFactoryAndObjectMapper();
 
-        jsonGenerator = configureJsonGenerator(jsonFactory, getOutputStream(writeMode), outputDecorator, jsonGeneratorFeatures);
-        SupportLogger.LOGGER.openingResource(resource, this.getClass());
-
-        if (prettyPrinter == null) {
-            jsonGenerator.useDefaultPrettyPrinter();
+        if (rollingResource == null) {
+            rollingResource = newRollingResource(outputDecorator);
+        }
+        if (rollingResource == null) {
+            openResource(checkpoint);
         } else {
-            jsonGenerator.setPrettyPrinter((PrettyPrinter) prettyPrinter.getDeclaredConstructor().newInstance());
+            openResource(rollingResource.restart(checkpoint));
         }
-
-        //write { regardless of the value of skipWritingHeader, since any existing content already ends with }
-        jsonGenerator.writeStartArray();
     }
 
     @Override
     public void writeItems(final List<Object> items) throws Exception {
         for (final Object o : items) {
+            if (rollingResource != null && rollingResource.shouldRoll(itemCount, jsonGenerator.getOutputBuffered())) {
+                rollOver();
+            }
             jsonGenerator.writeObject(o);
+            itemCount++;
         }
         jsonGenerator.flush();
     }
 
     @Override
     public Serializable checkpointInfo() throws Exception {
-        return null;
+        jsonGenerator.flush();
+        syncOutputStream(outputStream);
+        final OffsetCheckpoint offsetCheckpoint =
+                outputChannel == null ? null : new OffsetCheckpoint(itemCount, outputChannel.position());
+        return rollingResource == null ? offsetCheckpoint : rollingResource.checkpoint(offsetCheckpoint);
     }
 
     @Override
     public void close() throws Exception {
         if (jsonGenerator != null) {
-            SupportLogger.LOGGER.closingResource(resource, this.getClass());
-            jsonGenerator.close();
-            jsonGenerator = null;
+            closeResource();
+            if (rollingResource != null) {
+                rollingResource.writeManifest();
+            }
         }
     }
 
+    /**
+     * Opens {@link #resource}, or the current rolling file, for writing.
+     *
+     * @param checkpoint the checkpoint info within the file, may be null
+     * @throws Exception if failed to open the resource
+     */
+    private void openResource(final Serializable checkpoint) throws Exception {
+        currentResource = rollingResource == null ? resource : rollingResource.getResource();
+        final OffsetCheckpoint offsetCheckpoint = outputDecorator == null && checkpoint instanceof OffsetCheckpoint ?
+                (OffsetCheckpoint) checkpoint : null;
+        final OutputStream fileOutputStream = getOutputStream(currentResource, writeMode, offsetCheckpoint);
+        if (outputDecorator == null) {
+            outputChannel = getFileChannel(fileOutputStream);
+        }
+        outputStream = getAsyncOutputStream(fileOutputStream);
+        final OutputStream generatorOutputStream = rollingResource == null ? outputStream :
+                rollingResource.countBytes(outputStream, offsetCheckpoint == null ? 0 : offsetCheckpoint.getOffset());
+        final ReplayOutputStream replayOutputStream =
+                offsetCheckpoint == null ? null : new ReplayOutputStream(generatorOutputStream);
+        jsonGenerator = configureJsonGenerator(jsonFactory, replayOutputStream == null ?
+                generatorOutputStream : replayOutputStream, outputDecorator, jsonGeneratorFeatures);
+        SupportLogger.LOGGER.openingResource(currentResource, this.getClass());
+
+        if (prettyPrinter == null) {
+            jsonGenerator.useDefaultPrettyPrinter();
+        } else {
+            jsonGenerator.setPrettyPrinter((PrettyPrinter) prettyPrinter.getDeclaredConstructor().newInstance());
+        }
+
+        //write { regardless of the value of skipWritingHeader, since any existing content already ends with }
+        jsonGenerator.writeStartArray();
+
+        if (replayOutputStream != null) {
+            //the array has been started, and any items written, before the checkpoint. Replay them so the generator
+            //writes separators properly after the checkpoint.
+            itemCount = offsetCheckpoint.getRowNumber();
+            if (itemCount > 0) {
+                jsonGenerator.writeNull();
+            }
+            jsonGenerator.flush();
+            replayOutputStream.endReplay();
+        }
+    }
+
+    private void closeResource() throws Exception {
+        SupportLogger.LOGGER.closingResource(currentResource, this.getClass());
+        jsonGenerator.close();
+        jsonGenerator = null;
+        outputChannel = null;
+        outputStream = null;
+    }
+
+    /**
+     * Finishes the current rolling file, making it durable as at a checkpoint, and opens the next file.
+     *
+     * @throws Exception if failed to finish the current file or open the next file
+     */
+    private void rollOver() throws Exception {
+        jsonGenerator.flush();
+        syncOutputStream(outputStream);
+        closeResource();
+        rollingResource.next();
+        itemCount = 0;
+        openResource(null);
+    }
+
     protected static JsonGenerator configureJsonGenerator(final JsonFactory jsonFactory,
                                                           final OutputStream outputStream,
                                                           final Class<?> outputDecorator,
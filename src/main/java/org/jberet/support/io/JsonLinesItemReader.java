@@ -0,0 +1,386 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.naming.InitialContext;
+
+import org.jberet.support._private.SupportLogger;
+import org.jberet.support._private.SupportMessages;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.api.chunk.ItemReader;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * An implementation of {@code jakarta.batch.api.chunk.ItemReader} that reads from a newline-delimited Json resource
+ * (also known as NDJSON or JSON Lines), where each line is a complete Json value representing one data item. Blank
+ * lines are ignored. The resource must be encoded in UTF-8.
+ * <p>
+ * Since each line can be decoded independently, this reader can read {@link #batchSize} lines at a time, and decode
+ * them with {@link #threads} threads in parallel. Data items are still returned from {@link #readItem()} in the same
+ * order as in the resource.
+ * <p>
+ * The checkpoint info of this reader is an {@link OffsetCheckpoint}, which contains the byte offset of the line
+ * after the last data item read, so that a restart can seek to the line directly.
+ *
+ * @see     JsonLinesItemWriter
+ * @see     JsonItemReader
+ * @since   3.0.1
+ */
+@Named
+@Dependent
+public class JsonLinesItemReader extends JsonItemReaderWriterBase implements ItemReader {
+    /**
+     * The bean type that represents individual data item in the source Json {@link #resource}. Required property, and
+     * valid values are:
+     * <p>
+     * <ul>
+     *    <li>any custom bean type, for example {@code org.jberet.support.io.StockTrade}
+     *    <li>{@code java.util.Map}
+     *    <li>{@code com.fasterxml.jackson.databind.JsonNode}
+     * </ul>
+     */
+    @Inject
+    @BatchProperty
+    @SuppressWarnings("rawtypes")  //the producer of @BatchProperty Class values returns a raw type
+    protected Class beanType;
+
+    /**
+     * Specifies the start position (a positive integer starting from 1) to read the data. If reading from the beginning
+     * of the input Json resource, there is no need to specify this property.
+     */
+    @Inject
+    @BatchProperty
+    protected int start;
+
+    /**
+     * Specify the end position in the data set (inclusive). Optional property, and defaults to {@code Integer.MAX_VALUE}.
+     * If reading till the end of the input Json resource, there is no need to specify this property.
+     */
+    @Inject
+    @BatchProperty
+    protected int end;
+
+    /**
+     * The number of threads to decode lines. Optional property, and defaults to 1, i.e., lines are decoded one at a
+     * time in the thread calling {@link #readItem()}. If greater than 1, {@link #batchSize} lines are decoded in
+     * parallel, with tasks submitted to the executor looked up with {@link #executorServiceLookup}, or to a thread
+     * pool owned by this reader.
+     */
+    @Inject
+    @BatchProperty
+    protected int threads;
+
+    /**
+     * JNDI lookup name of a {@code java.util.concurrent.ExecutorService}, typically a
+     * {@code jakarta.enterprise.concurrent.ManagedExecutorService} such as
+     * {@code java:comp/DefaultManagedExecutorService}, to decode lines when {@link #threads} is greater than 1.
+     * Optional property, and defaults to null. If not specified, lines are decoded in a thread pool of
+     * {@link #threads} daemon threads owned by this reader, which is shut down when this reader is closed.
+     */
+    @Inject
+    @BatchProperty
+    protected String executorServiceLookup;
+
+    /**
+     * The number of lines to read ahead and decode together. Optional property, and defaults to 1024.
+     */
+    @Inject
+    @BatchProperty
+    protected int batchSize;
+
+    /**
+     * A comma-separated list of key-value pairs that specify {@code com.fasterxml.jackson.core.JsonParser} features.
+     * Optional property and defaults to null. For example,
+     * <p>
+     * <pre>
+     * ALLOW_COMMENTS=true, ALLOW_NUMERIC_LEADING_ZEROS=true, STRICT_DUPLICATE_DETECTION=true
+     * </pre>
+     * @see "com.fasterxml.jackson.core.JsonParser.Feature"
+     */
+    @Inject
+    @BatchProperty
+    protected Map<String, String> jsonParserFeatures;
+
+    /**
+     * A comma-separated list of fully-qualified names of classes that implement
+     * {@code com.fasterxml.jackson.databind.deser.DeserializationProblemHandler}, which can be registered to get
+     * called when a potentially recoverable problem is encountered during deserialization process.
+     * Optional property and defaults to null.
+     *
+     * @see JsonItemReader#deserializationProblemHandlers
+     */
+    @Inject
+    @BatchProperty
+    protected String deserializationProblemHandlers;
+
+    protected ObjectReader objectReader;
+
+    protected int rowNumber;
+
+    private OffsetTrackingReader offsetTrackingReader;
+
+    private BufferedReader lineReader;
+
+    private ExecutorService executor;
+
+    private ExecutorService ownExecutor;
+
+    /**
+     * Lines read in the current batch, which are released once decoded.
+     */
+    private String[] lines;
+
+    /**
+     * Data items decoded from {@link #lines}.
+     */
+    private Object[] values;
+
+    /**
+     * Exceptions from decoding {@link #lines}, which are thrown when the corresponding data item is to be returned.
+     */
+    private Exception[] errors;
+
+    /**
+     * Byte offset after each line in {@link #lines}.
+     */
+    private long[] offsets;
+
+    private int batchCount;
+
+    private int batchIndex;
+
+    /**
+     * Byte offset after the line of the last data item returned.
+     */
+    private long position;
+
+    @Override
+    public void open(final Serializable checkpoint) throws Exception {
+        if (end == 0) {
+            end = Integer.MAX_VALUE;
+        }
+        if (checkpoint != null && !(checkpoint instanceof OffsetCheckpoint)) {
+            throw SupportMessages.MESSAGES.invalidCheckpoint(checkpoint);
+        }
+        if (start > end) {
+            throw SupportMessages.MESSAGES.invalidStartPosition(
+                    checkpoint == null ? null : ((OffsetCheckpoint) checkpoint).getRowNumber(), start, end);
+        }
+        if (beanType == null) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, "beanType");
+        }
+        if (threads <= 0) {
+            threads = 1;
+        }
+        if (batchSize <= 0) {
+            batchSize = 1024;
+        }
+        initJsonFactoryAndObjectMapper();
+        if (deserializationProblemHandlers != null) {
+            MappingJsonFactoryObjectFactory.configureDeserializationProblemHandlers(
+                    objectMapper, deserializationProblemHandlers, getClass().getClassLoader());
+        }
+        objectReader = configureObjectReader(objectMapper.readerFor(beanType), jsonParserFeatures);
+
+        offsetTrackingReader = new OffsetTrackingReader(openInputStream(false), StandardCharsets.UTF_8);
+        lineReader = new BufferedReader(offsetTrackingReader);
+        SupportLogger.LOGGER.openingResource(resource, this.getClass());
+
+        if (checkpoint != null) {
+            final OffsetCheckpoint offsetCheckpoint = (OffsetCheckpoint) checkpoint;
+            offsetTrackingReader.seek(offsetCheckpoint.getOffset());
+            position = offsetCheckpoint.getOffset();
+            rowNumber = offsetCheckpoint.getRowNumber();
+        } else {
+            while (rowNumber < start - 1 && nextLine() != null) {
+                rowNumber++;
+            }
+            position = offsetTrackingReader.getPosition();
+        }
+
+        if (threads > 1) {
+            if (executorServiceLookup != null) {
+                executor = InitialContext.doLookup(executorServiceLookup);
+            } else {
+                ownExecutor = Executors.newFixedThreadPool(threads, r -> {
+                    final Thread thread = new Thread(r, JsonLinesItemReader.class.getSimpleName());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                executor = ownExecutor;
+            }
+        } else {
+            batchSize = 1;
+        }
+        lines = new String[batchSize];
+        values = new Object[batchSize];
+        errors = new Exception[batchSize];
+        offsets = new long[batchSize];
+    }
+
+    @Override
+    public Object readItem() throws Exception {
+        if (batchIndex == batchCount && !readBatch()) {
+            return null;
+        }
+        final int i = batchIndex++;
+        final Object value = values[i];
+        final Exception error = errors[i];
+        values[i] = null;
+        errors[i] = null;
+        position = offsets[i];
+        rowNumber++;
+        if (error != null) {
+            throw error;
+        }
+        if (!skipBeanValidation) {
+            ItemReaderWriterBase.validate(value);
+        }
+        return value;
+    }
+
+    @Override
+    public Serializable checkpointInfo() throws Exception {
+        return new OffsetCheckpoint(rowNumber, position);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (ownExecutor != null) {
+            ownExecutor.shutdownNow();
+            ownExecutor = null;
+        }
+        executor = null;
+        if (lineReader != null) {
+            SupportLogger.LOGGER.closingResource(resource, this.getClass());
+            if (deserializationProblemHandlers != null) {
+                objectMapper.clearProblemHandlers();
+            }
+            lineReader.close();
+            lineReader = null;
+            offsetTrackingReader = null;
+        }
+    }
+
+    /**
+     * Reads the next batch of lines, and decodes them into {@link #values}.
+     *
+     * @return false if there is no more data item to read
+     * @throws Exception if failed to read lines, or interrupted while decoding
+     */
+    private boolean readBatch() throws Exception {
+        batchIndex = 0;
+        batchCount = 0;
+        String line;
+        while (batchCount < batchSize && rowNumber + batchCount < end && (line = nextLine()) != null) {
+            lines[batchCount] = line;
+            offsets[batchCount] = offsetTrackingReader.getPosition();
+            batchCount++;
+        }
+        if (batchCount == 0) {
+            return false;
+        }
+
+        if (executor == null || batchCount == 1) {
+            decode(0, batchCount);
+        } else {
+            final int tasks = Math.min(threads, batchCount);
+            final List<Future<?>> futures = new ArrayList<Future<?>>(tasks);
+            for (int t = 0; t < tasks; t++) {
+                final int from = batchCount * t / tasks;
+                final int to = batchCount * (t + 1) / tasks;
+                futures.add(executor.submit(() -> decode(from, to)));
+            }
+            try {
+                for (final Future<?> f : futures) {
+                    f.get();
+                }
+            } catch (final ExecutionException e) {
+                final Throwable cause = e.getCause();
+                throw cause instanceof Exception ? (Exception) cause : e;
+            } finally {
+                //a shared executor is not shut down on close, so do not leave tasks of a failed batch behind
+                for (final Future<?> f : futures) {
+                    f.cancel(true);
+                }
+            }
+        }
+        return true;
+    }
+
+    private void decode(final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            try {
+                values[i] = objectReader.readValue(lines[i]);
+            } catch (final Exception e) {
+                errors[i] = e;
+            }
+            lines[i] = null;
+        }
+    }
+
+    /**
+     * Reads the next non-blank line.
+     *
+     * @return the next non-blank line, or null if the end of resource is reached
+     * @throws IOException if failed to read the resource
+     */
+    private String nextLine() throws IOException {
+        String line;
+        do {
+            line = lineReader.readLine();
+        } while (line != null && line.trim().isEmpty());
+        return line;
+    }
+
+    private static ObjectReader configureObjectReader(final ObjectReader reader,
+                                                      final Map<String, String> jsonParserFeatures) {
+        ObjectReader objectReader = reader;
+        if (jsonParserFeatures != null) {
+            for (final Map.Entry<String, String> e : jsonParserFeatures.entrySet()) {
+                final String key = e.getKey();
+                final String value = e.getValue();
+                final JsonParser.Feature feature;
+                try {
+                    feature = JsonParser.Feature.valueOf(key);
+                } catch (final Exception e1) {
+                    throw SupportMessages.MESSAGES.unrecognizedReaderWriterProperty(key, value);
+                }
+                if ("true".equals(value)) {
+                    objectReader = objectReader.with(feature);
+                } else if ("false".equals(value)) {
+                    objectReader = objectReader.without(feature);
+                } else {
+                    throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, value, key);
+                }
+            }
+        }
+        return objectReader;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.Serializable;
+import java.nio.channels.FileChannel;
+import java.util.List;
+import java.util.Map;
+
+import org.jberet.support._private.SupportLogger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.api.chunk.ItemWriter;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * An implementation of {@code jakarta.batch.api.chunk.ItemWriter} that writes a list of same-typed objects to a
+ * newline-delimited Json resource (also known as NDJSON or JSON Lines). Each object is written as a compact Json value
+ * on its own line, without any pretty printer, so that the output can be split by lines and read by
+ * {@link JsonLinesItemReader} or other JSON Lines tools.
+ * <p>
+ * The checkpoint info of this writer is an {@link OffsetCheckpoint}, which contains the byte offset of data flushed
+ * to the resource at the end of each chunk. During a restart, the resource is truncated to that offset, and the
+ * remaining items are written after it. If {@link #outputDecorator} is configured, no checkpoint info is saved.
+ *
+ * @see     JsonLinesItemReader
+ * @see     JsonItemWriter
+ * @since   3.0.1
+ */
+@Named
+@Dependent
+public class JsonLinesItemWriter extends JsonItemReaderWriterBase implements ItemWriter {
+    /**
+     * Instructs this class, when the target Json resource already exists, whether to append to, or overwrite
+     * the existing resource, or fail. Valid values are {@code append}, {@code overwrite}, and {@code failIfExists}.
+     * Optional property, and defaults to {@code append}.
+     */
+    @Inject
+    @BatchProperty
+    protected String writeMode;
+
+    /**
+     * A comma-separated list of key-value pairs that specify {@code com.fasterxml.jackson.core.JsonGenerator} features.
+     * Optional property and defaults to null. Keys and values must be defined in
+     * {@code com.fasterxml.jackson.core.JsonGenerator.Feature}.
+     *
+     * @see JsonItemWriter#jsonGeneratorFeatures
+     */
+    @Inject
+    @BatchProperty
+    protected Map<String, String> jsonGeneratorFeatures;
+
+    /**
+     * Fully-qualified name of a class that implements {@code com.fasterxml.jackson.core.io.OutputDecorator}, which
+     * can be used to decorate output destinations. Optional property and defaults to null.
+     *
+     * @see JsonItemWriter#outputDecorator
+     */
+    @Inject
+    @BatchProperty
+    @SuppressWarnings("rawtypes")  //the producer of @BatchProperty Class values returns a raw type
+    protected Class outputDecorator;
+
+    protected JsonGenerator jsonGenerator;
+
+    protected ObjectWriter objectWriter;
+
+    /**
+     * The file channel of the resource, used to get the byte offset for checkpoint info, or null if not available.
+     */
+    private FileChannel outputChannel;
+
+    /**
+     * The number of items written, including those written before the checkpoint in previous executions.
+     */
+    private int itemCount;
+
+    @Override
+    public void open(final Serializable checkpoint) throws Exception {
+        SupportLogger.LOGGER.tracef("Open JsonLinesItemWriter with checkpoint %s%n", checkpoint);
+        initJsonFactoryAndObjectMapper();
+
+        final OffsetCheckpoint offsetCheckpoint = outputDecorator == null && checkpoint instanceof OffsetCheckpoint ?
+                (OffsetCheckpoint) checkpoint : null;
+        final OutputStream outputStream = getOutputStream(writeMode, offsetCheckpoint);
+        if (outputDecorator == null) {
+            outputChannel = getFileChannel(outputStream);
+        }
+        if (offsetCheckpoint != null) {
+            itemCount = offsetCheckpoint.getRowNumber();
+        }
+        jsonGenerator = JsonItemWriter.configureJsonGenerator(
+                jsonFactory, outputStream, outputDecorator, jsonGeneratorFeatures);
+        SupportLogger.LOGGER.openingResource(resource, this.getClass());
+
+        //line breaks are written after each value, instead of the default root value separator (a space)
+        jsonGenerator.setRootValueSeparator(null);
+        objectWriter = objectMapper.writer()
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public void writeItems(final List<Object> items) throws Exception {
+        for (final Object o : items) {
+            objectWriter.writeValue(jsonGenerator, o);
+            jsonGenerator.writeRaw('\n');
+        }
+        jsonGenerator.flush();
+        itemCount += items.size();
+    }
+
+    @Override
+    public Serializable checkpointInfo() throws Exception {
+        if (outputChannel == null) {
+            return null;
+        }
+        jsonGenerator.flush();
+        return new OffsetCheckpoint(itemCount, outputChannel.position());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Each line written by this class already ends with a line break, so a line break is only added if the
+     * existing content does not end with one. The last byte of a compressed resource is compressed data, so no
+     * line break is added when appending to it, and the existing content is assumed to be written by this class.
+     */
+    @Override
+    protected byte[] getAppendSeparator(final File file) throws IOException {
+        if (Compression.of(compression, file.getPath()) != Compression.NONE) {
+            return new byte[0];
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            raf.seek(raf.length() - 1);
+            return raf.read() == '\n' ? new byte[0] : new byte[]{'\n'};
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (jsonGenerator != null) {
+            SupportLogger.LOGGER.closingResource(resource, this.getClass());
+            jsonGenerator.close();
+            jsonGenerator = null;
+            outputChannel = null;
+        }
+    }
+}
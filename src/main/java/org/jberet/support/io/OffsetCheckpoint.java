@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.Serializable;
+
+/**
+ * Checkpoint info of a file-based item reader, consisting of the row number of the last item read, and the
+ * byte offset in the resource where the next item starts. During a restart, the reader seeks to the byte offset
+ * directly, instead of reading and discarding all items before the row number.
+ * <p>
+ * It is also used as checkpoint info of file-based item writers, where the row number is the number of items
+ * written, and the byte offset is the end of data flushed to the resource. During a restart, the writer truncates
+ * the resource to the byte offset, and continues writing after it.
+ *
+ * @see CsvItemReader
+ * @see JsonItemReader
+ * @see ItemReaderWriterBase#getOutputStream(String, Serializable)
+ * @since 3.0.1
+ */
+public final class OffsetCheckpoint implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final int rowNumber;
+
+    private final long offset;
+
+    /**
+     * Creates a new {@code OffsetCheckpoint}.
+     *
+     * @param rowNumber the row number of the last item read
+     * @param offset the byte offset where the next item starts
+     */
+    public OffsetCheckpoint(final int rowNumber, final long offset) {
+        this.rowNumber = rowNumber;
+        this.offset = offset;
+    }
+
+    /**
+     * Gets the row number of the last item read, which is the same as the row number checkpoint info saved by
+     * previous versions of the reader.
+     *
+     * @return the row number of the last item read
+     */
+    public int getRowNumber() {
+        return rowNumber;
+    }
+
+    /**
+     * Gets the byte offset in the resource where the next item starts.
+     *
+     * @return the byte offset of the next item
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    @Override
+    public String toString() {
+        return "OffsetCheckpoint{rowNumber=" + rowNumber + ", offset=" + offset + '}';
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * A {@code java.io.Reader} that decodes bytes from an input stream, and keeps track of the byte offset of the
+ * data it has returned. Each {@code read} call returns characters from at most one line, so that a
+ * {@code java.io.BufferedReader} wrapping this reader never buffers beyond the line it is reading, and
+ * {@link #getPosition()} after a complete line is read is the byte offset where the next line starts.
+ * <p>
+ * Only charsets that encode carriage return and line feed as single bytes 0x0D and 0x0A are supported
+ * (see {@link #isSupported(Charset)}). A UTF-8 byte order mark at the beginning of the input is skipped, as
+ * {@link UnicodeBOMInputStream} would do.
+ *
+ * @see CsvItemReader
+ * @since 3.0.1
+ */
+final class OffsetTrackingReader extends Reader {
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final byte[] UTF_8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final InputStream in;
+
+    /**
+     * Whether {@link #in} can be repositioned to any byte offset, including backward.
+     */
+    private final boolean seekable;
+
+    private final CharsetDecoder decoder;
+
+    /**
+     * Bytes read from {@link #in} but not yet decoded, in read mode.
+     */
+    private final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+
+    /**
+     * Characters decoded but not yet returned, in read mode.
+     */
+    private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+
+    /**
+     * Byte offset of the first byte in {@link #bytes}.
+     */
+    private long position;
+
+    private boolean eof;
+
+    OffsetTrackingReader(final InputStream in, final Charset charset) {
+        this.in = in;
+        this.seekable = in instanceof FileChannelInputStream || in instanceof FileInputStream;
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        bytes.flip();
+        chars.flip();
+    }
+
+    /**
+     * Checks if the charset can be used with this class.
+     *
+     * @param charset the charset to check
+     * @return true if {@code charset} encodes line terminators as single bytes and is not stateful
+     */
+    static boolean isSupported(final Charset charset) {
+        if (!charset.canEncode() || charset.name().contains("2022")) {
+            return false;
+        }
+        final byte[] lineTerminators = "\r\n".getBytes(charset);
+        return lineTerminators.length == 2 && lineTerminators[0] == '\r' && lineTerminators[1] == '\n';
+    }
+
+    /**
+     * Gets the byte offset of the data after the last line terminator returned by this reader.
+     * This method is only meaningful when the caller has consumed a complete line.
+     *
+     * @return the byte offset where the next line starts
+     */
+    long getPosition() {
+        return position;
+    }
+
+    /**
+     * Repositions this reader to the byte offset {@code target}, which should be the start of a line, typically
+     * a value previously returned from {@link #getPosition()}. Any buffered data is discarded.
+     *
+     * @param target the byte offset to seek to
+     * @throws IOException if failed to reposition the underlying input stream
+     */
+    void seek(final long target) throws IOException {
+        final long bufferEnd = position + bytes.remaining();
+        if (target >= position && target <= bufferEnd) {
+            bytes.position(bytes.position() + (int) (target - position));
+        } else {
+            if (seekable) {
+                FileChannelInputStream.seek(in, target);
+            } else if (target > bufferEnd) {
+                FileChannelInputStream.seek(in, target - bufferEnd);
+            } else {
+                throw new IOException("Cannot seek backward to position " + target);
+            }
+            bytes.clear().flip();
+            eof = false;
+        }
+        position = target;
+        chars.clear().flip();
+        decoder.reset();
+    }
+
+    @Override
+    public int read(final char[] cbuf, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!chars.hasRemaining() && !decodeLine()) {
+            return -1;
+        }
+        final int n = Math.min(len, chars.remaining());
+        chars.get(cbuf, off, n);
+        return n;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * Decodes bytes up to and including the next line terminator into {@link #chars}. If the line is longer
+     * than what fits in the buffers, only part of the line is decoded.
+     *
+     * @return false if end of input is reached and there is nothing to decode
+     */
+    private boolean decodeLine() throws IOException {
+        int end = findLineEnd();
+        while (end < 0 && !eof && bytes.remaining() < bytes.capacity()) {
+            fill();
+            end = findLineEnd();
+        }
+        if (end < 0) {
+            end = bytes.limit();
+        }
+        if (end == bytes.position()) {
+            return false;
+        }
+
+        final int start = bytes.position();
+        final ByteBuffer line = bytes.duplicate();
+        line.limit(end);
+        chars.clear();
+        final boolean endOfInput = eof && end == bytes.limit();
+        decoder.decode(line, chars, endOfInput);
+        if (endOfInput && !line.hasRemaining()) {
+            decoder.flush(chars);
+        }
+        chars.flip();
+        bytes.position(line.position());
+        position += line.position() - start;
+        return chars.hasRemaining() || decodeLine();
+    }
+
+    /**
+     * Finds the line terminator in {@link #bytes}.
+     *
+     * @return the index after the line terminator, or -1 if not found, or if a carriage return at the end of
+     * {@link #bytes} may be followed by a line feed that has not been read yet
+     */
+    private int findLineEnd() {
+        final byte[] array = bytes.array();
+        final int limit = bytes.limit();
+        for (int i = bytes.position(); i < limit; i++) {
+            final byte b = array[i];
+            if (b == '\n') {
+                return i + 1;
+            }
+            if (b == '\r') {
+                if (i + 1 < limit) {
+                    return array[i + 1] == '\n' ? i + 2 : i + 1;
+                }
+                return eof ? i + 1 : -1;
+            }
+        }
+        return -1;
+    }
+
+    private void fill() throws IOException {
+        bytes.compact();
+        final int n = in.read(bytes.array(), bytes.position(), bytes.remaining());
+        if (n < 0) {
+            eof = true;
+        } else {
+            bytes.position(bytes.position() + n);
+        }
+        bytes.flip();
+        if (position == 0 && bytes.remaining() >= UTF_8_BOM.length && bytes.position() == 0
+                && bytes.get(0) == UTF_8_BOM[0] && bytes.get(1) == UTF_8_BOM[1] && bytes.get(2) == UTF_8_BOM[2]) {
+            bytes.position(UTF_8_BOM.length);
+            position = UTF_8_BOM.length;
+        }
+    }
+}
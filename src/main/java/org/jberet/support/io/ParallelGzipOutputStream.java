@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * An {@code java.io.OutputStream} that writes data in gzip format, compressing blocks of data in parallel, in the
+ * same way as pigz. Each block is compressed by a separate {@code java.util.zip.Deflater}, using the last 32 KB of
+ * the previous block as the preset dictionary, and ends with a sync flush, so that the compressed blocks together
+ * form a single deflate stream. The output can be read by any gzip implementation.
+ * <p>
+ * Calling {@link #flush()} writes all blocks that have been compressed, but does not end the current block early,
+ * which would reduce the compression ratio.
+ * <p>
+ * Blocks are compressed by tasks submitted to a given executor, or to a thread pool owned by this stream. The owned
+ * thread pool is shut down when this stream is closed, or fails.
+ *
+ * @see Compression#GZIP
+ * @since 3.0.1
+ */
+final class ParallelGzipOutputStream extends OutputStream {
+    private static final int BLOCK_SIZE = 128 * 1024;
+
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+
+    private static final byte[] HEADER = {0x1F, (byte) 0x8B, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xFF};
+
+    private final OutputStream out;
+
+    private final ExecutorService executor;
+
+    /**
+     * The thread pool created by this stream, or null if blocks are compressed by a given executor.
+     */
+    private final ExecutorService ownExecutor;
+
+    /**
+     * The maximum number of blocks being compressed, or compressed but not yet written to {@link #out}.
+     */
+    private final int maxPending;
+
+    private final Deque<Future<byte[]>> pending = new ArrayDeque<Future<byte[]>>();
+
+    private final CRC32 crc = new CRC32();
+
+    private long totalIn;
+
+    private byte[] block = new byte[BLOCK_SIZE];
+
+    private int count;
+
+    /**
+     * The last 32 KB of uncompressed data submitted for compression, or null if no data has been submitted.
+     */
+    private byte[] dictionary;
+
+    private boolean closed;
+
+    /**
+     * Set when compressing or writing a block failed, after which no more data can be written.
+     */
+    private boolean failed;
+
+    /**
+     * Creates a gzip output stream that compresses blocks in parallel.
+     *
+     * @param out the output stream to write compressed data to
+     * @param threads the number of blocks to compress in parallel
+     * @param executor the executor to compress blocks, or null to create a thread pool of {@code threads} threads
+     * @throws IOException if failed to write the gzip header
+     */
+    ParallelGzipOutputStream(final OutputStream out, final int threads, final ExecutorService executor)
+            throws IOException {
+        this.out = out;
+        this.maxPending = threads * 2;
+        if (executor != null) {
+            this.ownExecutor = null;
+            this.executor = executor;
+        } else {
+            this.ownExecutor = Executors.newFixedThreadPool(threads, r -> {
+                final Thread thread = new Thread(r, ParallelGzipOutputStream.class.getSimpleName());
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.executor = ownExecutor;
+        }
+        try {
+            out.write(HEADER);
+        } catch (final IOException | RuntimeException e) {
+            shutdown();
+            throw e;
+        }
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        block[count++] = (byte) b;
+        if (count == BLOCK_SIZE) {
+            submit(false);
+        }
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        int offset = off;
+        int remaining = len;
+        while (remaining > 0) {
+            final int n = Math.min(remaining, BLOCK_SIZE - count);
+            System.arraycopy(b, offset, block, count, n);
+            count += n;
+            offset += n;
+            remaining -= n;
+            if (count == BLOCK_SIZE) {
+                submit(false);
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        while (!pending.isEmpty() && pending.peekFirst().isDone()) {
+            writeCompleted();
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (!failed) {
+                submit(true);
+                while (!pending.isEmpty()) {
+                    writeCompleted();
+                }
+                final long crcValue = crc.getValue();
+                final byte[] trailer = new byte[8];
+                for (int i = 0; i < 4; i++) {
+                    trailer[i] = (byte) (crcValue >>> (i * 8));
+                    trailer[i + 4] = (byte) (totalIn >>> (i * 8));
+                }
+                out.write(trailer);
+            }
+        } finally {
+            shutdown();
+            out.close();
+        }
+    }
+
+    /**
+     * Cancels blocks still being compressed, and shuts down the thread pool owned by this stream, if any.
+     */
+    private void shutdown() {
+        for (final Future<byte[]> f : pending) {
+            f.cancel(true);
+        }
+        pending.clear();
+        if (ownExecutor != null) {
+            ownExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Marks this stream as failed, and releases its compression threads.
+     */
+    private void fail() {
+        failed = true;
+        shutdown();
+    }
+
+    /**
+     * Submits the current block for compression.
+     *
+     * @param last whether this is the last block
+     * @throws IOException if failed to write blocks compressed earlier
+     */
+    private void submit(final boolean last) throws IOException {
+        if (failed) {
+            throw new IOException("Failed to compress or write an earlier block");
+        }
+        if (pending.size() >= maxPending) {
+            writeCompleted();
+        }
+        final byte[] data = block;
+        final int length = count;
+        final byte[] presetDictionary = dictionary;
+        crc.update(data, 0, length);
+        totalIn += length;
+        if (length >= DICTIONARY_SIZE) {
+            dictionary = Arrays.copyOfRange(data, length - DICTIONARY_SIZE, length);
+        } else if (length > 0) {
+            final int keep = presetDictionary == null ? 0 : Math.min(presetDictionary.length, DICTIONARY_SIZE - length);
+            dictionary = new byte[keep + length];
+            if (keep > 0) {
+                System.arraycopy(presetDictionary, presetDictionary.length - keep, dictionary, 0, keep);
+            }
+            System.arraycopy(data, 0, dictionary, keep, length);
+        }
+        try {
+            pending.addLast(executor.submit(() -> deflate(data, length, presetDictionary, last)));
+        } catch (final RejectedExecutionException e) {
+            fail();
+            throw new IOException(e);
+        }
+        block = new byte[BLOCK_SIZE];
+        count = 0;
+    }
+
+    /**
+     * Waits for the oldest submitted block to be compressed, and writes it to {@link #out}.
+     *
+     * @throws IOException if failed to compress or write the block
+     */
+    private void writeCompleted() throws IOException {
+        try {
+            out.write(pending.removeFirst().get());
+        } catch (final InterruptedException e) {
+            fail();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        } catch (final ExecutionException e) {
+            fail();
+            throw new IOException(e.getCause());
+        } catch (final IOException | RuntimeException e) {
+            fail();
+            throw e;
+        }
+    }
+
+    private static byte[] deflate(final byte[] data, final int length, final byte[] presetDictionary,
+                                  final boolean last) {
+        final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            if (presetDictionary != null) {
+                deflater.setDictionary(presetDictionary);
+            }
+            deflater.setInput(data, 0, length);
+            final ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 2 + 64);
+            final byte[] buffer = new byte[16 * 1024];
+            if (last) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    compressed.write(buffer, 0, deflater.deflate(buffer));
+                }
+            } else {
+                int n;
+                do {
+                    n = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                    compressed.write(buffer, 0, n);
+                } while (n == buffer.length || !deflater.needsInput());
+            }
+            return compressed.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.Serializable;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+
+/**
+ * A bounded queue of data items read ahead by a background thread, on behalf of an item reader. The background
+ * thread repeatedly calls the reader's own read and checkpoint logic, and queues each data item together with the
+ * checkpoint info after it. {@link #next()} takes the next data item from the queue, and {@link #checkpointInfo()}
+ * returns the checkpoint info after the last data item taken, so that the checkpoint info is the same as if the
+ * data items were read without this class.
+ * <p>
+ * When reading a data item fails, the background thread stops after queueing the exception, and only continues
+ * after the exception has been thrown from {@link #next()} and {@link #next()} is called again, for example,
+ * after the exception is skipped. An {@code Error} from reading, such as {@code OutOfMemoryError}, stops the
+ * background thread, and is thrown from every later call to {@link #next()}, so that the reader never waits for
+ * data items that will not come.
+ *
+ * @since 3.0.1
+ */
+final class ReadAheadQueue {
+    private final BlockingQueue<Entry> queue;
+
+    /**
+     * Permits the background thread to continue reading after a failure.
+     */
+    private final Semaphore resume = new Semaphore(0);
+
+    private final Thread thread;
+
+    private Serializable checkpoint;
+
+    private boolean failed;
+
+    private boolean ended;
+
+    /**
+     * The error that stopped the background thread, after it is taken from the queue.
+     */
+    private Error error;
+
+    /**
+     * Creates and starts a read-ahead queue.
+     *
+     * @param capacity the maximum number of data items to read ahead
+     * @param reader reads the next data item, or returns null at the end of data
+     * @param checkpointer gets the checkpoint info of {@code reader}
+     * @param name the name of the reader, used to name the background thread
+     * @throws Exception if failed to get the current checkpoint info
+     */
+    ReadAheadQueue(final int capacity,
+                   final Callable<Object> reader,
+                   final Callable<Serializable> checkpointer,
+                   final String name) throws Exception {
+        this.queue = new ArrayBlockingQueue<Entry>(capacity);
+        this.checkpoint = checkpointer.call();
+        this.thread = new Thread(() -> readAhead(reader, checkpointer), name + "-read-ahead");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Takes the next data item read by the background thread, waiting if it is not available yet.
+     *
+     * @return the next data item, or null at the end of data
+     * @throws Exception the exception from reading this data item
+     * @throws Error the error that stopped the background thread
+     */
+    Object next() throws Exception {
+        if (error != null) {
+            throw error;
+        }
+        if (failed) {
+            failed = false;
+            resume.release();
+        }
+        if (ended) {
+            return null;
+        }
+        final Entry entry = queue.take();
+        if (entry.checkpoint != null) {
+            checkpoint = entry.checkpoint;
+        }
+        if (entry.exception instanceof Error) {
+            error = (Error) entry.exception;
+            throw error;
+        }
+        if (entry.exception != null) {
+            failed = true;
+            throw (Exception) entry.exception;
+        }
+        if (entry.item == null) {
+            ended = true;
+        }
+        return entry.item;
+    }
+
+    /**
+     * Gets the checkpoint info after the last data item returned from {@link #next()}.
+     *
+     * @return the checkpoint info
+     */
+    Serializable checkpointInfo() {
+        return checkpoint;
+    }
+
+    /**
+     * Stops the background thread, and waits for it to finish, after which the reader can be closed.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void close() throws InterruptedException {
+        thread.interrupt();
+        thread.join();
+    }
+
+    private void readAhead(final Callable<Object> reader, final Callable<Serializable> checkpointer) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Object item = null;
+                Throwable exception = null;
+                Serializable itemCheckpoint = null;
+                try {
+                    item = reader.call();
+                    itemCheckpoint = checkpointer.call();
+                } catch (final Throwable e) {
+                    exception = e;
+                }
+                if (exception != null && Thread.currentThread().isInterrupted()) {
+                    //the failure is caused by close()
+                    return;
+                }
+                queue.put(new Entry(item, itemCheckpoint, exception));
+                if (exception instanceof Error) {
+                    return;
+                }
+                if (exception != null) {
+                    resume.acquire();
+                } else if (item == null) {
+                    return;
+                }
+            }
+        } catch (final InterruptedException e) {
+            //closed
+        }
+    }
+
+    private static final class Entry {
+        private final Object item;
+        private final Serializable checkpoint;
+        private final Throwable exception;
+
+        private Entry(final Object item, final Serializable checkpoint, final Throwable exception) {
+            this.item = item;
+            this.checkpoint = checkpoint;
+            this.exception = exception;
+        }
+    }
+}
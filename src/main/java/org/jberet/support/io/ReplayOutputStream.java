@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An output stream that discards all data until {@link #endReplay()} is called. When a writer restarts from an
+ * {@link OffsetCheckpoint}, it replays the output that precedes the checkpoint (e.g., the start of a Json array or
+ * the Xml root element) to this stream, so that its generator is in the same state as before, without writing the
+ * same content to the resource again.
+ *
+ * @see JsonItemWriter
+ * @see XmlItemWriter
+ * @since 3.0.1
+ */
+final class ReplayOutputStream extends FilterOutputStream {
+    private boolean replaying = true;
+
+    ReplayOutputStream(final OutputStream out) {
+        super(out);
+    }
+
+    /**
+     * Stops discarding data, and passes all subsequent data to the underlying output stream. The caller should
+     * flush any buffered data before calling this method.
+     */
+    void endReplay() {
+        replaying = false;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        if (!replaying) {
+            out.write(b);
+        }
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        if (!replaying) {
+            out.write(b, off, len);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (!replaying) {
+            out.flush();
+        }
+    }
+}
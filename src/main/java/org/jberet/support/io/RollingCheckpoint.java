@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.Serializable;
+
+/**
+ * Checkpoint info of a file-based item writer that rolls over to a new file after a number of records or bytes,
+ * consisting of the sequence number of the file being written, and the checkpoint info within that file. During a
+ * restart, the writer deletes any files after that sequence number, which were written after the checkpoint, and
+ * continues writing the file from its own checkpoint info.
+ *
+ * @see ItemReaderWriterBase#rollRecords
+ * @see ItemReaderWriterBase#rollBytes
+ * @since 3.0.1
+ */
+public final class RollingCheckpoint implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final int sequence;
+
+    private final OffsetCheckpoint fileCheckpoint;
+
+    /**
+     * Creates a new {@code RollingCheckpoint}.
+     *
+     * @param sequence the sequence number of the file being written, starting from 0
+     * @param fileCheckpoint the checkpoint info within the file, or null if not available
+     */
+    public RollingCheckpoint(final int sequence, final OffsetCheckpoint fileCheckpoint) {
+        this.sequence = sequence;
+        this.fileCheckpoint = fileCheckpoint;
+    }
+
+    /**
+     * Gets the sequence number of the file being written.
+     *
+     * @return the sequence number of the file, starting from 0
+     */
+    public int getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Gets the checkpoint info within the file being written, where the row number is the number of items written to
+     * this file, and the byte offset is the end of data flushed to this file.
+     *
+     * @return the checkpoint info within the file, or null if the file does not support byte offset checkpoint info,
+     * e.g., if it is compressed
+     */
+    public OffsetCheckpoint getFileCheckpoint() {
+        return fileCheckpoint;
+    }
+
+    @Override
+    public String toString() {
+        return "RollingCheckpoint{sequence=" + sequence + ", fileCheckpoint=" + fileCheckpoint + '}';
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.File;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jberet.support._private.SupportLogger;
+import org.jberet.support._private.SupportMessages;
+
+/**
+ * The sequence of files written by a writer that rolls over to a new file after a number of records or bytes. The
+ * name of each file is resolved from a name template, where {@value #PARTITION} is replaced with the partition id,
+ * and {@value #SEQUENCE} is replaced with the 5-digit sequence number of the file, starting from {@code 00000}.
+ * If the template does not contain {@value #SEQUENCE}, {@code -}{@value #SEQUENCE} is inserted before the file
+ * extension. When the writer is closed, the names of all files written are saved to a manifest file, one per line.
+ *
+ * @see ItemReaderWriterBase#rollRecords
+ * @see ItemReaderWriterBase#rollBytes
+ * @see RollingCheckpoint
+ * @since 3.0.1
+ */
+final class RollingResource {
+    static final String PARTITION = "{partition}";
+
+    static final String SEQUENCE = "{sequence}";
+
+    static final String PARTITION_ID_KEY = "partitionId";
+
+    /**
+     * The default name of the manifest file, in the directory of the first file. The leading underscore makes Hadoop,
+     * Spark and Presto ignore it when reading the directory.
+     */
+    private static final String DEFAULT_MANIFEST = "_MANIFEST";
+
+    private final String template;
+
+    private final int rollRecords;
+
+    private final long rollBytes;
+
+    private final File manifestFile;
+
+    private int sequence;
+
+    private ByteCountingOutputStream byteCountingOutputStream;
+
+    /**
+     * Creates a rolling resource.
+     *
+     * @param template the name template of the files
+     * @param partitionId the partition id to replace {@value #PARTITION} in {@code template} and {@code manifest},
+     *                    may be null if they do not contain {@value #PARTITION}
+     * @param rollRecords the number of records in each file, or 0 if not rolling by number of records
+     * @param rollBytes the number of bytes after which to roll over, or 0 if not rolling by number of bytes
+     * @param manifest the name template of the manifest file, or null to use the default
+     */
+    RollingResource(final String template,
+                    final String partitionId,
+                    final int rollRecords,
+                    final long rollBytes,
+                    final String manifest) {
+        final String resolved = resolvePartition(template, partitionId);
+        if (resolved.contains(SEQUENCE)) {
+            this.template = resolved;
+        } else {
+            final int nameStart = Math.max(resolved.lastIndexOf('/'), resolved.lastIndexOf(File.separatorChar)) + 1;
+            final int extension = resolved.indexOf('.', nameStart + 1);
+            this.template = extension < 0 ? resolved + '-' + SEQUENCE :
+                    resolved.substring(0, extension) + '-' + SEQUENCE + resolved.substring(extension);
+        }
+        this.rollRecords = rollRecords;
+        this.rollBytes = rollBytes;
+        if (manifest != null) {
+            manifestFile = new File(resolvePartition(manifest, partitionId));
+        } else {
+            manifestFile = new File(new File(getResource()).getAbsoluteFile().getParentFile(),
+                    partitionId == null ? DEFAULT_MANIFEST : DEFAULT_MANIFEST + '-' + partitionId);
+        }
+    }
+
+    /**
+     * Gets the name of the current file.
+     *
+     * @return the name of the current file
+     */
+    String getResource() {
+        return getResource(sequence);
+    }
+
+    /**
+     * Positions to the file being written at the writer checkpoint, and deletes any files after it, which were
+     * written after the checkpoint in the previous execution.
+     *
+     * @param checkpoint the writer checkpoint info, may be null
+     * @return the checkpoint info within the current file, or null if not restarting
+     */
+    OffsetCheckpoint restart(final Serializable checkpoint) {
+        if (checkpoint == null) {
+            return null;
+        }
+        if (!(checkpoint instanceof RollingCheckpoint)) {
+            throw SupportMessages.MESSAGES.invalidCheckpoint(checkpoint);
+        }
+        final RollingCheckpoint rollingCheckpoint = (RollingCheckpoint) checkpoint;
+        if (rollingCheckpoint.getFileCheckpoint() == null) {
+            //the file cannot be continued without the byte offset at the checkpoint
+            throw SupportMessages.MESSAGES.invalidCheckpoint(checkpoint);
+        }
+        sequence = rollingCheckpoint.getSequence();
+        for (int i = sequence + 1; ; i++) {
+            final File file = new File(getResource(i));
+            if (!file.delete()) {
+                break;
+            }
+            SupportLogger.LOGGER.tracef("Deleted file %s written after checkpoint %s%n", file, checkpoint);
+        }
+        return rollingCheckpoint.getFileCheckpoint();
+    }
+
+    /**
+     * Moves on to the next file.
+     *
+     * @return the name of the next file
+     */
+    String next() {
+        sequence++;
+        return getResource();
+    }
+
+    /**
+     * Wraps {@code out}, the output stream of the current file, to count the bytes written to it, if rolling by
+     * number of bytes.
+     *
+     * @param out the output stream of the current file
+     * @param initialCount the number of bytes already in the file, when restarting within the file
+     * @return the byte-counting output stream, or {@code out} if not rolling by number of bytes
+     */
+    OutputStream countBytes(final OutputStream out, final long initialCount) {
+        if (rollBytes <= 0) {
+            return out;
+        }
+        byteCountingOutputStream = new ByteCountingOutputStream(out, initialCount);
+        return byteCountingOutputStream;
+    }
+
+    /**
+     * Checks whether to roll over to the next file before writing the next record. The byte count includes the
+     * bytes passed to the output stream from {@link #countBytes(OutputStream, long)}, and the bytes buffered by the
+     * writer, which are not known for all writers. So a file may exceed {@link ItemReaderWriterBase#rollBytes} by the
+     * size of the writer's buffer.
+     *
+     * @param records the number of records written to the current file
+     * @param bufferedBytes the number of bytes buffered by the writer, or a negative value if not known
+     * @return true if the next record should be written to a new file
+     */
+    boolean shouldRoll(final int records, final int bufferedBytes) {
+        if (records == 0) {
+            return false;
+        }
+        if (rollRecords > 0 && records >= rollRecords) {
+            return true;
+        }
+        return byteCountingOutputStream != null &&
+                byteCountingOutputStream.count + Math.max(bufferedBytes, 0) >= rollBytes;
+    }
+
+    /**
+     * Creates the writer checkpoint info.
+     *
+     * @param fileCheckpoint the checkpoint info within the current file, may be null
+     * @return the writer checkpoint info
+     */
+    RollingCheckpoint checkpoint(final OffsetCheckpoint fileCheckpoint) {
+        return new RollingCheckpoint(sequence, fileCheckpoint);
+    }
+
+    /**
+     * Writes the names of all files written so far to the manifest file.
+     *
+     * @throws IOException if failed to write the manifest file
+     */
+    void writeManifest() throws IOException {
+        final List<String> lines = new ArrayList<String>(sequence + 1);
+        for (int i = 0; i <= sequence; i++) {
+            lines.add(getResource(i));
+        }
+        Files.write(manifestFile.toPath(), lines, StandardCharsets.UTF_8);
+    }
+
+    private String getResource(final int sequence) {
+        return template.replace(SEQUENCE, String.format("%05d", sequence));
+    }
+
+    private static String resolvePartition(final String template, final String partitionId) {
+        if (!template.contains(PARTITION)) {
+            return template;
+        }
+        if (partitionId == null) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, PARTITION_ID_KEY);
+        }
+        return template.replace(PARTITION, partitionId);
+    }
+
+    private static final class ByteCountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        private ByteCountingOutputStream(final OutputStream out, final long initialCount) {
+            super(out);
+            this.count = initialCount;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * The shared strings table of an xlsx workbook, which is parsed lazily, only as far as the largest index looked up
+ * so far. The first {@code memoryLimit} strings are kept in memory, and any further strings are saved to a
+ * temporary file, with only their offsets in memory, so that a huge table does not have to fit in the heap. The
+ * temporary file is deleted when this store is closed.
+ *
+ * @see ExcelStreamingItemReader#sharedStringsMemoryLimit
+ * @since 3.0.1
+ */
+final class SharedStringsStore implements Closeable {
+    /**
+     * The number of recently read strings from the temporary file to cache, which must be a power of 2.
+     */
+    private static final int FILE_CACHE_SIZE = 1024;
+
+    private final Callable<InputStream> partOpener;
+
+    private final int memoryLimit;
+
+    private final List<String> strings = new ArrayList<String>();
+
+    private InputStream partInputStream;
+
+    private XMLStreamReader partStreamReader;
+
+    private boolean parsed;
+
+    private final StringBuilder textBuilder = new StringBuilder();
+
+    private File file;
+
+    private OutputStream fileOutputStream;
+
+    private FileChannel fileChannel;
+
+    /**
+     * The offset in {@link #file} of each string after the first {@link #memoryLimit} strings, followed by the end
+     * offset of the last string.
+     */
+    private long[] fileOffsets;
+
+    private int fileCount;
+
+    private long fileSize;
+
+    private long flushedSize;
+
+    private int[] cachedIndexes;
+
+    private String[] cachedStrings;
+
+    /**
+     * Creates a shared strings store.
+     *
+     * @param partOpener opens the shared strings part when the first string is looked up
+     * @param memoryLimit the number of strings to keep in memory, or a negative value to keep all strings in memory
+     */
+    SharedStringsStore(final Callable<InputStream> partOpener, final int memoryLimit) {
+        this.partOpener = partOpener;
+        this.memoryLimit = memoryLimit < 0 ? Integer.MAX_VALUE : memoryLimit;
+    }
+
+    /**
+     * Gets the shared string at {@code index}, parsing the table up to it if needed.
+     *
+     * @param index the 0-based index of the shared string
+     * @return the shared string
+     * @throws Exception if failed to parse the table, or {@code index} is beyond the end of the table
+     */
+    String getItemAt(final int index) throws Exception {
+        while (index >= strings.size() + fileCount) {
+            if (!parseNext()) {
+                throw new IndexOutOfBoundsException(String.valueOf(index));
+            }
+        }
+        if (index < strings.size()) {
+            return strings.get(index);
+        }
+        final int fileIndex = index - memoryLimit;
+        final int slot = fileIndex & (FILE_CACHE_SIZE - 1);
+        if (cachedIndexes[slot] == index) {
+            return cachedStrings[slot];
+        }
+        if (fileOffsets[fileIndex + 1] > flushedSize) {
+            fileOutputStream.flush();
+            flushedSize = fileSize;
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate((int) (fileOffsets[fileIndex + 1] - fileOffsets[fileIndex]));
+        long position = fileOffsets[fileIndex];
+        while (buffer.hasRemaining()) {
+            final int n = fileChannel.read(buffer, position);
+            if (n < 0) {
+                throw new IOException(file.getPath());
+            }
+            position += n;
+        }
+        final String result = new String(buffer.array(), StandardCharsets.UTF_8);
+        cachedIndexes[slot] = index;
+        cachedStrings[slot] = result;
+        return result;
+    }
+
+    @Override
+    public void close() {
+        closePart();
+        if (file != null) {
+            try {
+                fileOutputStream.close();
+                fileChannel.close();
+            } catch (final Exception e) {
+                //ignore
+            }
+            if (!file.delete()) {
+                file.deleteOnExit();
+            }
+            file = null;
+        }
+    }
+
+    /**
+     * Parses the next {@code si} element of the table.
+     *
+     * @return false if the end of the table is reached
+     */
+    private boolean parseNext() throws Exception {
+        if (parsed) {
+            return false;
+        }
+        if (partStreamReader == null) {
+            partInputStream = partOpener.call();
+            partStreamReader = XMLInputFactory.newInstance().createXMLStreamReader(partInputStream);
+        }
+
+        /*
+        sample shared string items, where the text of a rich text string is the concatenation of its runs, excluding
+        phonetic runs:
+        <si><t>Date</t></si>
+        <si><r><t>Open</t></r><r><rPr><b/></rPr><t xml:space="preserve"> Price</t></r><rPh sb="0" eb="1"><t>o</t></rPh></si>
+         */
+        while (partStreamReader.hasNext()) {
+            if (partStreamReader.next() == XMLStreamConstants.START_ELEMENT && "si".equals(partStreamReader.getLocalName())) {
+                add(readItem());
+                return true;
+            }
+        }
+        parsed = true;
+        closePart();
+        return false;
+    }
+
+    private String readItem() throws XMLStreamException {
+        textBuilder.setLength(0);
+        int depth = 1;
+        while (depth > 0) {
+            final int event = partStreamReader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                final String name = partStreamReader.getLocalName();
+                if ("t".equals(name)) {
+                    textBuilder.append(partStreamReader.getElementText());
+                } else if ("rPh".equals(name)) {
+                    skipElement();
+                } else {
+                    depth++;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+        return utfDecode(textBuilder);
+    }
+
+    private void skipElement() throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            final int event = partStreamReader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private void add(final String value) throws IOException {
+        if (strings.size() < memoryLimit) {
+            strings.add(value);
+            return;
+        }
+        if (file == null) {
+            file = File.createTempFile("jberet-shared-strings", ".tmp");
+            fileOutputStream = new BufferedOutputStream(new FileOutputStream(file), 64 * 1024);
+            fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+            fileOffsets = new long[1024];
+            cachedIndexes = new int[FILE_CACHE_SIZE];
+            Arrays.fill(cachedIndexes, -1);
+            cachedStrings = new String[FILE_CACHE_SIZE];
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        fileOutputStream.write(bytes);
+        fileSize += bytes.length;
+        fileCount++;
+        if (fileCount == fileOffsets.length) {
+            fileOffsets = Arrays.copyOf(fileOffsets, fileOffsets.length * 2);
+        }
+        fileOffsets[fileCount] = fileSize;
+    }
+
+    private void closePart() {
+        if (partStreamReader != null) {
+            try {
+                partStreamReader.close();
+            } catch (final Exception e) {
+                //ignore
+            }
+            partStreamReader = null;
+        }
+        if (partInputStream != null) {
+            try {
+                partInputStream.close();
+            } catch (final Exception e) {
+                //ignore
+            }
+            partInputStream = null;
+        }
+    }
+
+    /**
+     * Decodes characters escaped as {@code _xHHHH_} in SpreadsheetML text, e.g., {@code _x000D_} for carriage
+     * return, in the same way as {@code org.apache.poi.xssf.usermodel.XSSFRichTextString}.
+     */
+    static String utfDecode(final CharSequence value) {
+        final int length = value.length();
+        StringBuilder result = null;
+        int copied = 0;
+        for (int i = 0; i + 6 < length; i++) {
+            if (value.charAt(i) == '_' && value.charAt(i + 1) == 'x' && value.charAt(i + 6) == '_') {
+                int c = 0;
+                int j = i + 2;
+                for (; j < i + 6; j++) {
+                    final int digit = Character.digit(value.charAt(j), 16);
+                    if (digit < 0) {
+                        break;
+                    }
+                    c = c * 16 + digit;
+                }
+                if (j == i + 6) {
+                    if (result == null) {
+                        result = new StringBuilder(length);
+                    }
+                    result.append(value, copied, i).append((char) c);
+                    copied = i + 7;
+                    i += 6;
+                }
+            }
+        }
+        if (result == null) {
+            return value.toString();
+        }
+        return result.append(value, copied, length).toString();
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Skips the rows of an xlsx worksheet part before a given row, by scanning the raw bytes for {@code <row} tags
+ * instead of parsing them into StAX events. The bytes up to and including the {@code <sheetData>} tag, i.e., the
+ * XML declaration, the root element with its namespace declarations, and any elements before the sheet data, are
+ * kept, so that the resulting stream is a well-formed worksheet without the skipped rows.
+ * <p>
+ * Only worksheet parts encoded in UTF-8, as written by all known spreadsheet applications, are scanned. For other
+ * encodings, or if a row has no {@code r} attribute, the stream is returned without skipping any more rows, and
+ * {@link #isPositioned()} returns false.
+ *
+ * @since 3.0.1
+ */
+final class SheetRowSkipper {
+    private static final byte[] SHEET_DATA = {'s', 'h', 'e', 'e', 't', 'D', 'a', 't', 'a'};
+
+    private static final byte[] ROW = {'r', 'o', 'w'};
+
+    private final InputStream in;
+
+    private final byte[] buffer = new byte[64 * 1024];
+
+    private int position;
+
+    private int limit;
+
+    /**
+     * The bytes before the sheet data, followed by the tag at which scanning stopped.
+     */
+    private final ByteArrayOutputStream kept = new ByteArrayOutputStream();
+
+    private byte[] tag = new byte[256];
+
+    private int tagLength;
+
+    private boolean positioned;
+
+    /**
+     * Creates a skipper for a worksheet part.
+     *
+     * @param in the input stream of the worksheet part, which is closed when the stream returned from
+     *           {@link #skipTo(int)} is closed
+     */
+    SheetRowSkipper(final InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * Skips the rows before {@code rowNumber}.
+     *
+     * @param rowNumber the 1-based row number, as in the {@code r} attribute of the {@code row} element, of the first
+     *                  row to keep
+     * @return the input stream of the worksheet without the skipped rows
+     * @throws IOException if failed to read the worksheet part
+     */
+    InputStream skipTo(final int rowNumber) throws IOException {
+        if (!fill() || !isUtf8()) {
+            return remaining();
+        }
+        //keep everything up to the start of sheet data
+        while (true) {
+            if (!keepUntilTagStart()) {
+                return remaining();
+            }
+            readTag(true);
+            if (isTag(SHEET_DATA, false)) {
+                break;
+            }
+            kept.write(tag, 0, tagLength);
+            tagLength = 0;
+        }
+        positioned = true;
+        if (tag[tagLength - 2] == '/') {
+            //empty <sheetData/>
+            return remaining();
+        }
+        kept.write(tag, 0, tagLength);
+        tagLength = 0;
+
+        //skip rows before the target row
+        while (skipUntilTagStart()) {
+            readTag(false);
+            if (isTag(ROW, false)) {
+                readTag(true);
+                final int r = getRowNumber();
+                if (r < 0) {
+                    positioned = false;
+                    break;
+                }
+                if (r >= rowNumber) {
+                    break;
+                }
+            } else if (isTag(SHEET_DATA, true)) {
+                break;
+            }
+            tagLength = 0;
+        }
+        return remaining();
+    }
+
+    /**
+     * Checks whether the stream returned from {@link #skipTo(int)} starts with the target row, or the end of sheet
+     * data.
+     *
+     * @return true if rows were skipped up to the target row
+     */
+    boolean isPositioned() {
+        return positioned;
+    }
+
+    private boolean fill() throws IOException {
+        position = 0;
+        limit = 0;
+        while (limit == 0) {
+            final int n = in.read(buffer);
+            if (n < 0) {
+                return false;
+            }
+            limit = n;
+        }
+        return true;
+    }
+
+    private boolean isUtf8() {
+        //a UTF-16 or UTF-32 part starts with a byte order mark or zero bytes, and is not scanned
+        return buffer[0] != (byte) 0xFE && buffer[0] != (byte) 0xFF && buffer[0] != 0 && (limit < 2 || buffer[1] != 0);
+    }
+
+    private boolean keepUntilTagStart() throws IOException {
+        while (true) {
+            for (int i = position; i < limit; i++) {
+                if (buffer[i] == '<') {
+                    kept.write(buffer, position, i - position);
+                    position = i + 1;
+                    return true;
+                }
+            }
+            kept.write(buffer, position, limit - position);
+            if (!fill()) {
+                return false;
+            }
+        }
+    }
+
+    private boolean skipUntilTagStart() throws IOException {
+        while (true) {
+            for (int i = position; i < limit; i++) {
+                if (buffer[i] == '<') {
+                    position = i + 1;
+                    return true;
+                }
+            }
+            if (!fill()) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Reads the tag after {@code <} into {@link #tag}, either the whole tag, or only the name.
+     *
+     * @param wholeTag true to read up to and including {@code >}, false to read up to the end of the tag name
+     */
+    private void readTag(final boolean wholeTag) throws IOException {
+        if (tagLength == 0) {
+            tag[tagLength++] = '<';
+        }
+        while (position < limit || fill()) {
+            final byte b = buffer[position];
+            if (!wholeTag && (b == ' ' || b == '>' || b == '/' && tagLength > 1 || b == '\t' || b == '\r' || b == '\n')) {
+                return;
+            }
+            if (tagLength == tag.length) {
+                tag = Arrays.copyOf(tag, tagLength * 2);
+            }
+            tag[tagLength++] = b;
+            position++;
+            if (b == '>') {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Checks whether the local name of the tag in {@link #tag}, ignoring any namespace prefix, is {@code name}.
+     */
+    private boolean isTag(final byte[] name, final boolean endTag) {
+        int start = 1;
+        if (endTag) {
+            if (tagLength < 2 || tag[1] != '/') {
+                return false;
+            }
+            start = 2;
+        }
+        int nameEnd = start;
+        while (nameEnd < tagLength && isNameChar(tag[nameEnd])) {
+            nameEnd++;
+        }
+        for (int i = nameEnd - 1; i >= start; i--) {
+            if (tag[i] == ':') {
+                start = i + 1;
+                break;
+            }
+        }
+        if (nameEnd - start != name.length) {
+            return false;
+        }
+        for (int i = 0; i < name.length; i++) {
+            if (tag[start + i] != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the value of the {@code r} attribute of the row tag in {@link #tag}.
+     *
+     * @return the row number, or -1 if not found
+     */
+    private int getRowNumber() {
+        for (int i = 1; i + 3 < tagLength; i++) {
+            if (tag[i] == 'r' && isSpace(tag[i - 1])) {
+                int j = i + 1;
+                while (j < tagLength && isSpace(tag[j])) {
+                    j++;
+                }
+                if (j >= tagLength || tag[j] != '=') {
+                    continue;
+                }
+                j++;
+                while (j < tagLength && isSpace(tag[j])) {
+                    j++;
+                }
+                if (j >= tagLength || tag[j] != '"' && tag[j] != '\'') {
+                    continue;
+                }
+                int value = 0;
+                int digits = 0;
+                for (j++; j < tagLength && tag[j] >= '0' && tag[j] <= '9'; j++, digits++) {
+                    value = value * 10 + (tag[j] - '0');
+                }
+                return digits > 0 && digits < 10 ? value : -1;
+            }
+        }
+        return -1;
+    }
+
+    private InputStream remaining() {
+        kept.write(tag, 0, tagLength);
+        return new SequenceInputStream(Collections.enumeration(Arrays.asList(
+                new ByteArrayInputStream(kept.toByteArray()),
+                new ByteArrayInputStream(buffer, position, limit - position),
+                in)));
+    }
+
+    private static boolean isNameChar(final byte b) {
+        return b != '>' && b != '/' && !isSpace(b);
+    }
+
+    private static boolean isSpace(final byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+    }
+}
@@ -68,6 +68,17 @@ public class XmlItemReader extends XmlItemReaderWriterBase implements ItemReader
     @BatchProperty
     protected int end;
 
+    /**
+     * The number of data items to read ahead and deserialize in a background thread. Optional property, and defaults
+     * to 0 (no read-ahead).
+     *
+     * @see CsvItemReader#readAhead
+     * @since 3.0.1
+     */
+    @Inject
+    @BatchProperty
+    protected int readAhead;
+
     /**
      * Fully-qualified name of a class implementing {@code com.fasterxml.jackson.core.io.InputDecorator}, which
      * can be used to decorate input sources. Optional property, and defaults to null.
@@ -92,6 +103,7 @@ public class XmlItemReader extends XmlItemReaderWriterBase implements ItemReader
     private FromXmlParser fromXmlParser;
     private JsonToken token;
     private int rowNumber;
+    private ReadAheadQueue readAheadQueue;
 
     @Override
     public void open(final Serializable checkpoint) throws Exception {
@@ -109,13 +121,29 @@ public class XmlItemReader extends XmlItemReaderWriterBase implements ItemReader
             xmlFactory.setInputDecorator((InputDecorator) inputDecorator.getDeclaredConstructor().newInstance());
         }
 
-        fromXmlParser = (FromXmlParser) xmlFactory.createParser(getInputStream(resource, false));
+        fromXmlParser = (FromXmlParser) xmlFactory.createParser(openInputStream(false));
         SupportLogger.LOGGER.openingResource(resource, this.getClass());
         token = fromXmlParser.nextToken();
     }
 
     @Override
     public Object readItem() throws Exception {
+        if (readAhead > 0) {
+            if (readAheadQueue == null) {
+                readAheadQueue = new ReadAheadQueue(readAhead, this::readItem0, this::checkpointInfo0,
+                        getClass().getSimpleName());
+            }
+            return readAheadQueue.next();
+        }
+        return readItem0();
+    }
+
+    @Override
+    public Serializable checkpointInfo() throws Exception {
+        return readAheadQueue == null ? checkpointInfo0() : readAheadQueue.checkpointInfo();
+    }
+
+    private Object readItem0() throws Exception {
         if (rowNumber >= end) {
             return null;
         }
@@ -145,13 +173,16 @@ public class XmlItemReader extends XmlItemReaderWriterBase implements ItemReader
         return readValue;
     }
 
-    @Override
-    public Serializable checkpointInfo() throws Exception {
+    private Serializable checkpointInfo0() throws Exception {
         return rowNumber;
     }
 
     @Override
     public void close() throws Exception {
+        if (readAheadQueue != null) {
+            readAheadQueue.close();
+            readAheadQueue = null;
+        }
         if (fromXmlParser != null) {
             SupportLogger.LOGGER.closingResource(resource, this.getClass());
             fromXmlParser.close();
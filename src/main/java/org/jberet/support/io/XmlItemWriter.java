@@ -10,7 +10,9 @@
 
 package org.jberet.support.io;
 
+import java.io.OutputStream;
 import java.io.Serializable;
+import java.nio.channels.FileChannel;
 import java.util.List;
 
 import javax.xml.stream.XMLStreamWriter;
@@ -35,6 +37,11 @@ import jakarta.inject.Named;
  * Each object is written as a sub-element of the target XML resource. The XML root element is specified with the
  * injected batch artifact properties {@link #rootElementName}, {@link #rootElementNamespaceURI}, and
  * {@link #rootElementPrefix}.
+ * <p>
+ * The checkpoint info of this writer is an {@link OffsetCheckpoint}, which contains the byte offset of data flushed
+ * to the resource at the end of each chunk. During a restart, the resource is truncated to that offset, and the
+ * remaining items are written into the same root element. If {@link #outputDecorator} is configured, no checkpoint
+ * info is saved, and the resource is written according to {@link #writeMode} during a restart.
  *
  * @see     XmlItemReader
  * @see     XmlItemReaderWriterBase
@@ -116,9 +123,24 @@ public class XmlItemWriter extends XmlItemReaderWriterBase implements ItemWriter
     protected ToXmlGenerator toXmlGenerator;
     private XMLStreamWriter staxWriter;
 
+    /**
+     * The file channel of the resource, used to get the byte offset for checkpoint info, or null if not available.
+     */
+    private FileChannel outputChannel;
+
+    /**
+     * The output stream of the resource, which may write data asynchronously.
+     */
+    private OutputStream outputStream;
+
+    /**
+     * The number of items written, including those written before the checkpoint in previous executions.
+     */
+    private int itemCount;
+
     @Override
     public void open(final Serializable checkpoint) throws Exception {
-        SupportLogger.LOGGER.tracef("Open XmlItemWriter with checkpoint %s, which is ignored for XmlItemWriter.%n", checkpoint);
+        SupportLogger.LOGGER.tracef("Open XmlItemWriter with checkpoint %s%n", checkpoint);
         super.initXmlFactory();
 
         if (outputDecorator != null) {
@@ -126,7 +148,15 @@ public class XmlItemWriter extends XmlItemReaderWriterBase implements ItemWriter
         }
         xmlMapper.configure(SerializationFeature.WRAP_ROOT_VALUE, false);
 
-        toXmlGenerator = xmlFactory.createGenerator(getOutputStream(writeMode));
+        final OffsetCheckpoint offsetCheckpoint = outputDecorator == null && checkpoint instanceof OffsetCheckpoint ?
+                (OffsetCheckpoint) checkpoint : null;
+        final OutputStream fileOutputStream = getOutputStream(writeMode, offsetCheckpoint);
+        if (outputDecorator == null) {
+            outputChannel = getFileChannel(fileOutputStream);
+        }
+        outputStream = getAsyncOutputStream(fileOutputStream);
+        final ReplayOutputStream replayOutputStream = offsetCheckpoint == null ? null : new ReplayOutputStream(outputStream);
+        toXmlGenerator = xmlFactory.createGenerator(replayOutputStream == null ? outputStream : replayOutputStream);
         SupportLogger.LOGGER.openingResource(resource, this.getClass());
 
         if (prettyPrinter == null) {
@@ -156,6 +186,17 @@ public class XmlItemWriter extends XmlItemReaderWriterBase implements ItemWriter
                 staxWriter.writeStartElement(rootElementPrefix, rootElementName, rootElementNamespaceURI);
             }
         }
+
+        if (replayOutputStream != null) {
+            //the root element has been started, and any items written, before the checkpoint. Replay them so the
+            //root start tag is closed or left open as before the checkpoint.
+            itemCount = offsetCheckpoint.getRowNumber();
+            if (itemCount > 0) {
+                staxWriter.writeCharacters(NEW_LINE);
+            }
+            toXmlGenerator.flush();
+            replayOutputStream.endReplay();
+        }
     }
 
     @Override
@@ -166,11 +207,14 @@ public class XmlItemWriter extends XmlItemReaderWriterBase implements ItemWriter
 
         }
         toXmlGenerator.flush();
+        itemCount += items.size();
     }
 
     @Override
     public Serializable checkpointInfo() throws Exception {
-        return null;
+        toXmlGenerator.flush();
+        syncOutputStream(outputStream);
+        return outputChannel == null ? null : new OffsetCheckpoint(itemCount, outputChannel.position());
     }
 
     @Override
@@ -181,6 +225,8 @@ public class XmlItemWriter extends XmlItemReaderWriterBase implements ItemWriter
             staxWriter.writeEndDocument();
             toXmlGenerator.close();
             toXmlGenerator = null;
+            outputChannel = null;
+            outputStream = null;
         }
     }
 
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.runtime.StepExecutionImpl;
+
+import jakarta.batch.operations.JobOperator;
+import jakarta.batch.runtime.BatchRuntime;
+import jakarta.batch.runtime.BatchStatus;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the {@code asyncWrite} and {@code fsync} properties of item writers. The output and checkpoint info with
+ * asynchronous writes should be the same as with synchronous writes, including when the job execution fails and is
+ * restarted. A small buffer size is used so that each chunk is written in many buffers.
+ */
+public final class AsyncWriteTest {
+    static final String jobName = "org.jberet.support.io.AsyncWriteTest";
+    private static final File resourceFile = new File(CsvItemReaderWriterTest.tmpdir, "AsyncWriteTest.jsonl");
+    private static final int count = 2000;
+    private static final String failOnTimes = "10:00";
+    private final JobOperator jobOperator = BatchRuntime.getJobOperator();
+
+    @BeforeAll
+    public static void beforeAll() throws Exception {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 1; i <= count; i++) {
+            sb.append(String.format("{\"n\": %d, \"time\": \"%02d:%02d\", \"text\": \"a, \\\"b\\\" <c> & d %d\"}%n",
+                    i, i / 60, i % 60, i));
+        }
+        Files.write(resourceFile.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void csvItemWriter() throws Exception {
+        final File expectedFile = new File(CsvItemReaderWriterTest.tmpdir, "AsyncWriteTest-csvItemWriter.expected");
+        final File writeResourceFile = new File(CsvItemReaderWriterTest.tmpdir, "AsyncWriteTest-csvItemWriter.out");
+        final Properties params = createParams("csvItemWriter", false);
+        runJob(params, expectedFile, "");
+
+        params.setProperty("asyncWrite", "true");
+        params.setProperty("fsync", "true");
+        runJob(params, writeResourceFile, "");
+        assertEquals(readString(expectedFile), readString(writeResourceFile));
+    }
+
+    @Test
+    public void jsonItemWriter() throws Exception {
+        test0("jsonItemWriter");
+    }
+
+    @Test
+    public void xmlItemWriter() throws Exception {
+        test0("xmlItemWriter");
+    }
+
+    @Test
+    public void jacksonCsvItemWriter() throws Exception {
+        test0("jacksonCsvItemWriter");
+    }
+
+    private void test0(final String writer) throws Exception {
+        final File expectedFile = new File(CsvItemReaderWriterTest.tmpdir, "AsyncWriteTest-" + writer + ".expected");
+        final Properties params = createParams(writer, false);
+        runJob(params, expectedFile, "");
+        final String expected = readString(expectedFile);
+        final Object expectedCheckpoint = testRestart0(params,
+                new File(CsvItemReaderWriterTest.tmpdir, "AsyncWriteTest-" + writer + ".expected-restart"));
+
+        params.setProperty("asyncWrite", "true");
+        final File writeResourceFile = new File(CsvItemReaderWriterTest.tmpdir, "AsyncWriteTest-" + writer + ".out");
+        runJob(params, writeResourceFile, "");
+        assertEquals(expected, readString(writeResourceFile));
+
+        params.setProperty("fsync", "true");
+        final File restartFile = new File(CsvItemReaderWriterTest.tmpdir, "AsyncWriteTest-" + writer + ".out-restart");
+        assertEquals(String.valueOf(expectedCheckpoint), String.valueOf(testRestart0(params, restartFile)));
+        assertEquals(expected, readString(restartFile));
+    }
+
+    /**
+     * Writes buffers with a given executor, as looked up with {@code asyncWriteExecutorServiceLookup}. All data should
+     * be written by the executor's thread, and closing the output stream should not shut down the executor.
+     */
+    @Test
+    public void givenExecutor() throws Exception {
+        final String threadName = "AsyncWriteTest-executor";
+        final ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, threadName));
+        try {
+            final Set<String> writerThreads = ConcurrentHashMap.newKeySet();
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream() {
+                @Override
+                public synchronized void write(final byte[] b, final int off, final int len) {
+                    writerThreads.add(Thread.currentThread().getName());
+                    super.write(b, off, len);
+                }
+            };
+            final byte[] data = Files.readAllBytes(resourceFile.toPath());
+            try (DoubleBufferedOutputStream out = new DoubleBufferedOutputStream(bytes, 256, null, executor, jobName)) {
+                out.write(data);
+                out.sync();
+                out.write(data);
+            }
+            assertEquals(data.length * 2, bytes.size());
+            assertEquals(Collections.singleton(threadName), writerThreads);
+            assertEquals(Integer.valueOf(1), executor.submit(() -> 1).get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs the job to fail at {@link #failOnTimes}, and restarts it.
+     *
+     * @return the writer checkpoint info of the failed job execution
+     */
+    private Object testRestart0(final Properties params, final File writeResourceFile) throws Exception {
+        final JobExecutionImpl failure = runJob(params, writeResourceFile, failOnTimes);
+        final Object checkpoint =
+                ((StepExecutionImpl) failure.getStepExecutions().get(0)).getWriterCheckpointInfo();
+        assertEquals(500, ((OffsetCheckpoint) checkpoint).getRowNumber());
+
+        final Properties restartParams = new Properties();
+        restartParams.setProperty("failOnTimes", "");
+        final long restartExecutionId = jobOperator.restart(failure.getExecutionId(), restartParams);
+        final JobExecutionImpl restartExecution = (JobExecutionImpl) jobOperator.getJobExecution(restartExecutionId);
+        restartExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+        assertEquals(BatchStatus.COMPLETED, restartExecution.getBatchStatus());
+        return checkpoint;
+    }
+
+    private JobExecutionImpl runJob(final Properties params, final File writeResourceFile, final String failOnTimes)
+            throws Exception {
+        params.setProperty("writeResource", writeResourceFile.getPath());
+        params.setProperty("failOnTimes", failOnTimes);
+        final long jobExecutionId = jobOperator.start(jobName, params);
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+        assertEquals(failOnTimes.isEmpty() ? BatchStatus.COMPLETED : BatchStatus.FAILED, jobExecution.getBatchStatus());
+        return jobExecution;
+    }
+
+    private static Properties createParams(final String writer, final boolean asyncWrite) {
+        final Properties params = new Properties();
+        params.setProperty("resource", resourceFile.getPath());
+        params.setProperty("writer", writer);
+        params.setProperty("asyncWrite", String.valueOf(asyncWrite));
+        params.setProperty("fsync", "false");
+        params.setProperty("bufferSize", "256");
+        return params;
+    }
+
+    private static String readString(final File file) throws Exception {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+}
@@ -18,9 +18,12 @@ import org.supercsv.cellprocessor.ParseDate;
 import org.supercsv.cellprocessor.ParseLong;
 import org.supercsv.cellprocessor.constraint.NotNull;
 import org.supercsv.cellprocessor.constraint.StrMinMax;
+import org.supercsv.cellprocessor.constraint.Unique;
 import org.supercsv.cellprocessor.ift.CellProcessor;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class CellProcessorConfigTest {
 
@@ -53,4 +56,29 @@ public class CellProcessorConfigTest {
         assertEquals(StrMinMax.class, cellProcessors[5].getClass());
         assertEquals(Optional.class, cellProcessors[6].getClass());
     }
+
+    @Test
+    public void testGetCellProcessorsCached() throws Exception {
+        final String val = "Optional, StrMinMax(1, 20);"
+                + "Unique;"
+                + "Equals('a');"
+                + "Equals;"
+                + "org.jberet.support.io.ToggleCase";
+        final CellProcessor[] cellProcessors1 = CellProcessorConfig.getCellProcessors(val);
+        final CellProcessor[] cellProcessors2 = CellProcessorConfig.getCellProcessors(val);
+        assertEquals(5, cellProcessors1.length);
+        assertNotSame(cellProcessors1, cellProcessors2);
+
+        //immutable cell processors are shared
+        assertEquals(Optional.class, cellProcessors1[0].getClass());
+        assertSame(cellProcessors1[0], cellProcessors2[0]);
+        assertSame(cellProcessors1[2], cellProcessors2[2]);
+
+        //stateful and custom cell processors are created for each use
+        assertEquals(Unique.class, cellProcessors1[1].getClass());
+        assertNotSame(cellProcessors1[1], cellProcessors2[1]);
+        assertNotSame(cellProcessors1[3], cellProcessors2[3]);
+        assertEquals(ToggleCase.class, cellProcessors1[4].getClass());
+        assertNotSame(cellProcessors1[4], cellProcessors2[4]);
+    }
 }
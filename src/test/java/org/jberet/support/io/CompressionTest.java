@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.jberet.runtime.JobExecutionImpl;
+
+import jakarta.batch.operations.JobOperator;
+import jakarta.batch.runtime.BatchRuntime;
+import jakarta.batch.runtime.BatchStatus;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests writing and reading compressed resources. Data items are written to a compressed resource, which is then
+ * read back and written to a JSON Lines file. The same is done with an uncompressed resource, and the results
+ * should be the same.
+ */
+public final class CompressionTest {
+    static final String jobName = "org.jberet.support.io.CompressionTest";
+    private static final File resourceFile = new File(CsvItemReaderWriterTest.tmpdir, "CompressionTest.jsonl");
+    private final JobOperator jobOperator = BatchRuntime.getJobOperator();
+
+    @BeforeAll
+    public static void beforeAll() throws Exception {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 1; i <= 20000; i++) {
+            sb.append(String.format("{\"n\":%d,\"time\":\"%02d:%02d\",\"text\":\"a, b %d\"}\n",
+                    i, i / 60 % 24, i % 60, i * 7919 % 10007));
+        }
+        Files.write(resourceFile.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void jsonGzip() throws Exception {
+        test0("jsonItemWriter", "jsonItemReader", "CompressionTest.json.gz", null, null);
+    }
+
+    @Test
+    public void jsonLinesParallelGzip() throws Exception {
+        test0("jsonLinesItemWriter", "jsonLinesItemReader", "CompressionTest.jsonl.gz", null, "4");
+    }
+
+    @Test
+    public void xmlBzip2() throws Exception {
+        test0("xmlItemWriter", "xmlItemReader", "CompressionTest.xml.bz2", null, null);
+    }
+
+    /**
+     * The compressed resource has no file extension, so the reader detects lz4 by its magic number.
+     */
+    @Test
+    public void csvLz4() throws Exception {
+        test0("csvItemWriter", "csvItemReader", "CompressionTest-lz4.csv", "lz4", null);
+    }
+
+    @Test
+    public void beanIOZstd() throws Exception {
+        test0("beanIOItemWriter", "beanIOItemReader", "CompressionTest.csv.zst", null, null);
+    }
+
+    /**
+     * Writes to a parallel gzip stream whose target fails after the header. The failure should surface from write or
+     * close, no block should be left running, and the given executor should still be usable by its owner.
+     */
+    @Test
+    public void parallelGzipFailure() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final OutputStream failing = new OutputStream() {
+                private int written;
+
+                @Override
+                public void write(final int b) throws IOException {
+                    write(new byte[]{(byte) b}, 0, 1);
+                }
+
+                @Override
+                public void write(final byte[] b, final int off, final int len) throws IOException {
+                    written += len;
+                    if (written > 10) {
+                        throw new IOException("disk full");
+                    }
+                }
+            };
+            final byte[] data = Files.readAllBytes(resourceFile.toPath());
+            final ParallelGzipOutputStream out = new ParallelGzipOutputStream(failing, 2, executor);
+            assertThrows(IOException.class, () -> {
+                try {
+                    for (int i = 0; i < 10; i++) {
+                        out.write(data);
+                    }
+                } finally {
+                    out.close();
+                }
+            });
+            assertThrows(IOException.class, () -> out.write(data));
+            assertEquals(Integer.valueOf(1), executor.submit(() -> 1).get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Appends to a gzip JSON Lines resource, which adds a gzip member without checking the last byte of the
+     * compressed file. The decompressed content should have no empty line between the two writes.
+     */
+    @Test
+    public void jsonLinesGzipAppend() throws Exception {
+        final File file = new File(CsvItemReaderWriterTest.tmpdir, "CompressionTest-append.jsonl.gz");
+        Files.deleteIfExists(file.toPath());
+        for (int i = 1; i <= 3; i++) {
+            final JsonLinesItemWriter writer = new JsonLinesItemWriter();
+            writer.resource = file.getPath();
+            writer.open(null);
+            writer.writeItems(Arrays.asList(Collections.singletonMap("n", i), Collections.singletonMap("n", i * 10)));
+            writer.close();
+        }
+        try (InputStream in = ItemReaderWriterBase.getInputStream(file.getPath(), false)) {
+            assertEquals("{\"n\":1}\n{\"n\":10}\n{\"n\":2}\n{\"n\":20}\n{\"n\":3}\n{\"n\":30}\n",
+                    new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private void test0(final String writer, final String reader, final String compressedResource,
+                       final String compression, final String compressionThreads) throws Exception {
+        final File compressedFile = new File(CsvItemReaderWriterTest.tmpdir, compressedResource);
+        final File uncompressedFile = new File(CsvItemReaderWriterTest.tmpdir, compressedResource + ".none");
+        final File writeResourceFile = new File(CsvItemReaderWriterTest.tmpdir, compressedResource + ".jsonl");
+        final File expectedFile = new File(CsvItemReaderWriterTest.tmpdir, compressedResource + ".none.jsonl");
+
+        runJob(writer, reader, uncompressedFile, "none", null, expectedFile);
+        runJob(writer, reader, compressedFile, compression, compressionThreads, writeResourceFile);
+
+        final byte[] uncompressed = Files.readAllBytes(uncompressedFile.toPath());
+        assertNotEquals(uncompressed.length, compressedFile.length());
+        final byte[] decompressed;
+        try (InputStream in = ItemReaderWriterBase.getInputStream(compressedFile.getPath(), false)) {
+            decompressed = in.readAllBytes();
+        }
+        assertEquals(new String(uncompressed, StandardCharsets.UTF_8), new String(decompressed, StandardCharsets.UTF_8));
+        assertEquals(new String(Files.readAllBytes(expectedFile.toPath()), StandardCharsets.UTF_8),
+                new String(Files.readAllBytes(writeResourceFile.toPath()), StandardCharsets.UTF_8));
+    }
+
+    private void runJob(final String writer, final String reader, final File compressedFile, final String compression,
+                        final String compressionThreads, final File writeResourceFile) throws Exception {
+        final Properties params = new Properties();
+        params.setProperty("resource", resourceFile.getPath());
+        params.setProperty("writer", writer);
+        params.setProperty("reader", reader);
+        params.setProperty("compressedResource", compressedFile.getPath());
+        params.setProperty("writeResource", writeResourceFile.getPath());
+        if (compression != null) {
+            params.setProperty("compression", compression);
+        }
+        if (compressionThreads != null) {
+            params.setProperty("compressionThreads", compressionThreads);
+        }
+        final long jobExecutionId = jobOperator.start(jobName, params);
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+        assertEquals(BatchStatus.COMPLETED, jobExecution.getBatchStatus());
+    }
+}
@@ -10,19 +10,40 @@
 
 package org.jberet.support.io;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Random;
 import java.util.Scanner;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
 
 import org.jberet.runtime.JobExecutionImpl;
+import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.comment.CommentStartsWith;
+import org.supercsv.exception.SuperCsvException;
+import org.supercsv.io.CsvBeanReader;
+import org.supercsv.io.ICsvBeanReader;
+import org.supercsv.io.ICsvListReader;
+import org.supercsv.prefs.CsvPreference;
 
+import jakarta.batch.operations.BatchRuntimeException;
 import jakarta.batch.operations.JobOperator;
 import jakarta.batch.runtime.BatchRuntime;
 import jakarta.batch.runtime.BatchStatus;
@@ -30,9 +51,12 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class CsvItemReaderWriterTest {
     static final String jobName = "org.jberet.support.io.CsvReaderTest";
+    static final String checkpointTestJobName = "org.jberet.support.io.CsvReaderCheckpointTest";
+    static final String partitionTestJobName = "org.jberet.support.io.CsvPartitionTest";
     static final String personResource = "fake-person.csv";
     static final String personPipeResource = "fake-person-pipe.txt";
     static final String personTabResource = "fake-person-tab.txt";
@@ -98,6 +122,11 @@ public class CsvItemReaderWriterTest {
     //content from row 6 & 10
     static final String personResourceForbid = "MarthaEValentine@dayrep.com, CindyNKeyes@jourrapide.com";
 
+    /**
+     * Holds data items written by {@code mockItemWriter} in {@link #partitionTestJobName}.
+     */
+    public static final List<Object> partitionedItems = Collections.synchronizedList(new ArrayList<>());
+
     @Test
     public void testBeanType() throws Exception {
         //override the default quote char ", which is used in feetInches cell
@@ -182,6 +211,415 @@ public class CsvItemReaderWriterTest {
         assertEquals(BatchStatus.FAILED, jobExecution.getBatchStatus());
     }
 
+    /**
+     * Reads movies-2012.csv with an item processor configured to fail on the 15th movie, and then restarts the
+     * failed job execution. The restart execution should resume from the byte offset saved in the checkpoint,
+     * right after the 10th movie committed in the previous execution.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testCheckpointRestart() throws Exception {
+        testCheckpointRestart0("testCheckpointRestart.out", false);
+    }
+
+    /**
+     * Same as {@link #testCheckpointRestart()}, but tokenizes rows with {@link CharBufferCsvListReader}.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testCheckpointRestartFastTokenizer() throws Exception {
+        testCheckpointRestart0("testCheckpointRestartFastTokenizer.out", true);
+    }
+
+    private void testCheckpointRestart0(final String writeResource, final boolean fastTokenizer) throws Exception {
+        final File writeResourceFile = new File(tmpdir, writeResource);
+        final Properties params = new Properties();
+        params.setProperty("failOnTimes", "Django Unchained");
+        params.setProperty("writeResource", writeResourceFile.getPath());
+        params.setProperty("fastTokenizer", String.valueOf(fastTokenizer));
+
+        final long jobExecutionId = jobOperator.start(checkpointTestJobName, params);
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(waitTimeoutMinutes, TimeUnit.MINUTES);
+        assertEquals(BatchStatus.FAILED, jobExecution.getBatchStatus());
+        validate(writeResourceFile, "Marvel's The Avengers, Madagascar 3", "Dr. Seuss' The Lorax, Django Unchained");
+
+        final Properties restartParams = new Properties();
+        restartParams.setProperty("failOnTimes", "");
+        final long restartExecutionId = jobOperator.restart(jobExecutionId, restartParams);
+        final JobExecutionImpl restartExecution = (JobExecutionImpl) jobOperator.getJobExecution(restartExecutionId);
+        restartExecution.awaitTermination(waitTimeoutMinutes, TimeUnit.MINUTES);
+        assertEquals(BatchStatus.COMPLETED, restartExecution.getBatchStatus());
+        validate(writeResourceFile, "Dr. Seuss' The Lorax, Django Unchained, Ice Age: Continental Drift",
+                "Marvel's The Avengers, Madagascar 3");
+
+        //header and the remaining 90 movies
+        final String content = getStreamContent(new FileInputStream(writeResourceFile));
+        assertEquals(91, content.split("\\R").length);
+    }
+
+    /**
+     * Reads CSV content with quoted values, escaped quotes, line breaks inside quotes, surrounding spaces, empty
+     * and comment lines, a long row, and mixed line terminators, with both {@link CharBufferCsvListReader} and
+     * {@link FastForwardCsvListReader}, and verifies that they return the same rows, row numbers, line numbers
+     * and byte offsets, with different CSV preferences.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testFastTokenizer() throws Exception {
+        final char[] longValue = new char[20000];
+        Arrays.fill(longValue, 'v');
+        final String content = "id, name ,\"note\"\r\n" +
+                "\r\n" +
+                "# comment, not a row\r\n" +
+                "1,  a b  , \"x, \"\"y\"\"\"  \n" +
+                "2,,\"\"\r" +
+                "3,\"multi\r\nline\n\nvalue\",  \"q\" z \r\n" +
+                "4," + new String(longValue) + ",end\n" +
+                "  \n" +
+                "5,\u00e9t\u00e9,\"a\"\"\"";
+        final CsvPreference[] preferences = {
+                CsvPreference.STANDARD_PREFERENCE,
+                new CsvPreference.Builder(CsvPreference.STANDARD_PREFERENCE)
+                        .skipComments(new CommentStartsWith("#")).build(),
+                new CsvPreference.Builder(CsvPreference.STANDARD_PREFERENCE)
+                        .surroundingSpacesNeedQuotes(true).ignoreEmptyLines(false).build(),
+                new CsvPreference.Builder(CsvPreference.STANDARD_PREFERENCE).maxLinesPerRow(2).build()
+        };
+        for (final CsvPreference preference : preferences) {
+            assertEquals(tokenize(new FastForwardCsvListReader(new StringReader(content), preference, 0), null),
+                    tokenize(new CharBufferCsvListReader(new OneCharReader(content), preference, 0), null));
+
+            final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+            final OffsetTrackingReader expected = new OffsetTrackingReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8);
+            final OffsetTrackingReader actual = new OffsetTrackingReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8);
+            assertEquals(tokenize(new FastForwardCsvListReader(expected, preference, 0), expected),
+                    tokenize(new CharBufferCsvListReader(actual, preference, 0), actual));
+        }
+
+        final String semicolonContent = content.replace(',', ';').replace('"', '\'');
+        final CsvPreference semicolonPreference = new CsvPreference.Builder('\'', ';', "\n").build();
+        assertEquals(tokenize(new FastForwardCsvListReader(new StringReader(semicolonContent), semicolonPreference, 0), null),
+                tokenize(new CharBufferCsvListReader(new StringReader(semicolonContent), semicolonPreference, 0), null));
+    }
+
+    /**
+     * Verifies that {@link CharBufferCsvListReader} parses numbers for {@code ParseInt}, {@code ParseLong} and
+     * {@code ParseDouble} to the same values as supercsv, and fails on the same invalid values.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testFastTokenizerParseNumbers() throws Exception {
+        final String content = "1,2,3\n" +
+                "-2147483648,9223372036854775807,0.1\n" +
+                "+7,-9223372036854775808,-0\n" +
+                "2147483647,0012,0.30000000000000004\n" +
+                "2147483648,1,1\n" +
+                " 8,1,1\n" +
+                "-,9223372036854775808,1\n" +
+                "0,1,1e3\n" +
+                "0,1,1.\n" +
+                "0,1,-.5\n" +
+                "0,1,9007199254740993\n" +
+                "0,1,123456.789012345678901234\n" +
+                "0,1,1.7976931348623157E308\n" +
+                "0,1, 2.5\n" +
+                "0,1,.\n" +
+                "0,1,NaN\n" +
+                "\u0661,1,1\n";
+        final CellProcessor[] processors = CellProcessorConfig.parseCellProcessors("ParseInt; ParseLong; ParseDouble");
+        final List<String> expected = readNumbers(
+                new FastForwardCsvListReader(new StringReader(content), CsvPreference.STANDARD_PREFERENCE, 0), processors);
+        final List<String> actual = readNumbers(
+                new CharBufferCsvListReader(new StringReader(content), CsvPreference.STANDARD_PREFERENCE, 0), processors);
+        assertEquals(expected, actual);
+        assertEquals("[1, 2, 3.0]", actual.get(0));
+        assertEquals("[-2147483648, 9223372036854775807, 0.1]", actual.get(1));
+        assertEquals("[7, -9223372036854775808, -0.0]", actual.get(2));
+    }
+
+    /**
+     * Reads generated stock trade rows, in the same format as IBM_unadjusted.txt, into lists with
+     * {@link FastForwardCsvListReader}, which uses supercsv tokenizer, and {@link CharBufferCsvListReader}, which
+     * parses numeric columns from its {@code char} buffer, and verifies that they return the same values.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testFastTokenizerStockTrades() throws Exception {
+        final String data = getStockTradeRows(2000);
+        final CellProcessor[] processors = CellProcessorConfig.parseCellProcessors(
+                "ParseDate('MM/dd/yyyy'); null; ParseDouble; ParseDouble; ParseDouble; ParseDouble; ParseLong");
+        final CsvPreference preference = CsvPreference.STANDARD_PREFERENCE;
+
+        final List<List<Object>> superCsvRows =
+                readLists(new FastForwardCsvListReader(new StringReader(data), preference, 0), processors);
+        final List<List<Object>> charBufferRows =
+                readLists(new CharBufferCsvListReader(new StringReader(data), preference, 0), processors);
+        assertEquals(2000, superCsvRows.size());
+        assertEquals(superCsvRows, charBufferRows);
+    }
+
+    /**
+     * Generates stock trade rows in the same format as IBM_unadjusted.txt, e.g.,
+     * {@code 01/02/1998,09:30,100.00,100.50,99.50,100.10,67040}.
+     *
+     * @param rowCount the number of rows to generate
+     * @return the generated rows, each ending with a line feed
+     */
+    static String getStockTradeRows(final int rowCount) {
+        final StringBuilder sb = new StringBuilder();
+        final Random random = new Random(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            final int day = i / 390;
+            final int minute = 9 * 60 + 30 + i % 390;
+            final int open = 5000 + random.nextInt(20000);
+            sb.append(String.format(Locale.ROOT, "%02d/%02d/%d,%02d:%02d,%d.%02d,%d.%02d,%d.%02d,%d.%02d,%d\n",
+                    day / 28 % 12 + 1, day % 28 + 1, 1998 + day / 336, minute / 60, minute % 60,
+                    open / 100, open % 100, (open + 50) / 100, (open + 50) % 100,
+                    (open - 50) / 100, (open - 50) % 100, (open + 10) / 100, (open + 10) % 100,
+                    random.nextInt(100000)));
+        }
+        return sb.toString();
+    }
+
+    private static List<List<Object>> readLists(final ICsvListReader reader, final CellProcessor[] processors)
+            throws Exception {
+        final List<List<Object>> rows = new ArrayList<>();
+        try {
+            List<Object> row;
+            while ((row = reader.read(processors)) != null) {
+                rows.add(row);
+            }
+        } finally {
+            reader.close();
+        }
+        return rows;
+    }
+
+    /**
+     * Reads {@link Person} beans from the data rows of fake-person.csv with supercsv {@code CsvBeanReader} and
+     * {@link FastForwardCsvBeanReader}, and verifies that they populate the same bean properties.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testFastForwardCsvBeanReader() throws Exception {
+        final String data = getPersonDataRows();
+        final String[] columns = nameMapping.split(",\\s*");
+        final CellProcessor[] processors = CellProcessorConfig.parseCellProcessors(
+                "ParseLong; null; null; null; ParseChar; null; null; null; null; null; null; null; null; null; " +
+                "null; null; null; ParseDate('MM/dd/yyyy'); null; null; null; null; null; null; null; null; " +
+                "null; null; null; null; ParseBigDecimal('en_us'); ParseBigDecimal; null; ParseInt; null; " +
+                "ParseDouble; ParseDouble");
+        final CsvPreference preference = new CsvPreference.Builder('|', ',', "\n").build();
+
+        final List<String> expected = readBeans(new CsvBeanReader(new StringReader(data), preference), columns, processors);
+        final FastForwardCsvBeanReader reader = new FastForwardCsvBeanReader(new StringReader(data), preference, 0);
+        reader.compile(Person.class, columns);
+        final List<String> actual = readBeans(reader, columns, processors);
+        assertEquals(expected, actual);
+        assertEquals(data.split("\n").length, actual.size());
+    }
+
+    /**
+     * Gets the data rows of fake-person.csv, without the header and comment lines.
+     */
+    static String getPersonDataRows() throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        try (InputStream in = CsvItemReaderWriterTest.class.getClassLoader().getResourceAsStream(personResource)) {
+            boolean started = false;
+            for (final String line : getStreamContent(in).split("\\R")) {
+                started = started || line.startsWith("1,");
+                if (started && !line.startsWith("#")) {
+                    sb.append(line).append('\n');
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    private static List<String> readBeans(final ICsvBeanReader reader, final String[] columns,
+                                          final CellProcessor[] processors) throws Exception {
+        final List<String> beans = new ArrayList<>();
+        try {
+            Person bean;
+            while ((bean = reader.read(Person.class, columns, processors)) != null) {
+                beans.add(bean.toString());
+            }
+        } finally {
+            reader.close();
+        }
+        return beans;
+    }
+
+    private static List<String> tokenize(final ICsvListReader reader, final OffsetTrackingReader offsetTrackingReader)
+            throws Exception {
+        final List<String> rows = new ArrayList<>();
+        try {
+            for (int i = 0; i < 100; i++) {
+                final List<String> row;
+                try {
+                    row = reader.read();
+                } catch (final SuperCsvException e) {
+                    rows.add(e.getMessage());
+                    continue;
+                }
+                if (row == null) {
+                    break;
+                }
+                rows.add(String.format("row %s, line %s, position %s, length %s: %s%n%s", reader.getRowNumber(),
+                        reader.getLineNumber(), offsetTrackingReader == null ? null : offsetTrackingReader.getPosition(),
+                        reader.length(), row, reader.getUntokenizedRow()));
+            }
+        } finally {
+            reader.close();
+        }
+        return rows;
+    }
+
+    private static List<String> readNumbers(final ICsvListReader reader, final CellProcessor[] processors)
+            throws Exception {
+        final List<String> rows = new ArrayList<>();
+        try {
+            while (true) {
+                final List<Object> row;
+                try {
+                    row = reader.read(processors);
+                } catch (final SuperCsvException e) {
+                    rows.add(e.getMessage() + " " + e.getCsvContext());
+                    continue;
+                }
+                if (row == null) {
+                    break;
+                }
+                rows.add(row.toString());
+            }
+        } finally {
+            reader.close();
+        }
+        return rows;
+    }
+
+    /**
+     * A reader that returns 1 character at a time.
+     */
+    private static final class OneCharReader extends StringReader {
+        private OneCharReader(final String s) {
+            super(s);
+        }
+
+        @Override
+        public int read(final char[] cbuf, final int off, final int len) throws IOException {
+            return super.read(cbuf, off, Math.min(len, 1));
+        }
+    }
+
+    /**
+     * Reads movies-2012.csv in 4 partitions, each of which reads its own byte range split by
+     * {@link FilePartitionMapper}.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testFilePartition() throws Exception {
+        testFilePartition0(MovieTest.moviesCsv, 4, false, "rank", 100);
+        for (final Object e : partitionedItems) {
+            final Map item = (Map) e;
+            if ("15".equals(item.get("rank"))) {
+                assertEquals("Django Unchained", item.get("tit"));
+            }
+        }
+    }
+
+    /**
+     * Reads a CSV file with CRLF line breaks, and quoted values containing line breaks, in 5 partitions, with
+     * the default {@code multilineRecords} of {@link FilePartitionMapper}.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testFilePartitionMultilineRecords() throws Exception {
+        final File file = new File(tmpdir, "testFilePartitionMultilineRecords.csv");
+        final int rowCount = 200;
+        final StringBuilder sb = new StringBuilder("id,note\r\n");
+        for (int i = 1; i <= rowCount; i++) {
+            sb.append(i).append(",\"note ").append(i).append("\r\nline 2, \"\"quoted\"\"\n\"\r\n");
+        }
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(sb.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        testFilePartition0(file.getPath(), 5, null, "id", rowCount);
+        for (final Object e : partitionedItems) {
+            final Map item = (Map) e;
+            //line breaks inside quoted values are normalized by supercsv
+            assertEquals("note " + item.get("id") + "\nline 2, \"quoted\"\n", item.get("note"));
+        }
+    }
+
+    /**
+     * A gzip compressed CSV file without .gz file extension cannot be split into byte ranges, so both
+     * {@link FilePartitionMapper} and {@link CsvItemReader} with {@code startOffset} should reject it.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testFilePartitionCompressed() throws Exception {
+        final File file = new File(tmpdir, "testFilePartitionCompressed.csv");
+        final StringBuilder sb = new StringBuilder("id,note\n");
+        for (int i = 1; i <= 100; i++) {
+            sb.append(i).append(",note ").append(i).append('\n');
+        }
+        try (OutputStream out = new GZIPOutputStream(new FileOutputStream(file))) {
+            out.write(sb.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        final Properties params = new Properties();
+        params.setProperty(CsvProperties.RESOURCE_KEY, file.getPath());
+        params.setProperty("partitionCount", "2");
+        final long jobExecutionId = jobOperator.start(partitionTestJobName, params);
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(waitTimeoutMinutes, TimeUnit.MINUTES);
+        assertEquals(BatchStatus.FAILED, jobExecution.getBatchStatus());
+
+        final CsvItemReader reader = new CsvItemReader();
+        reader.resource = file.getPath();
+        reader.beanType = Map.class;
+        reader.startOffset = 8;
+        assertThrows(BatchRuntimeException.class, () -> reader.open(null));
+    }
+
+    private void testFilePartition0(final String resource, final int partitionCount,
+                                    final Boolean multilineRecords, final String idKey, final int rowCount)
+            throws Exception {
+        partitionedItems.clear();
+        final Properties params = new Properties();
+        params.setProperty(CsvProperties.RESOURCE_KEY, resource);
+        params.setProperty("partitionCount", String.valueOf(partitionCount));
+        if (multilineRecords != null) {
+            params.setProperty("multilineRecords", String.valueOf(multilineRecords));
+        }
+
+        final long jobExecutionId = jobOperator.start(partitionTestJobName, params);
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(waitTimeoutMinutes, TimeUnit.MINUTES);
+        assertEquals(BatchStatus.COMPLETED, jobExecution.getBatchStatus());
+
+        //every row should be read by exactly one partition
+        assertEquals(rowCount, partitionedItems.size());
+        final Set<Object> ids = new HashSet<>();
+        for (final Object e : partitionedItems) {
+            final Map item = (Map) e;
+            ids.add(item.get(idKey));
+        }
+        assertEquals(rowCount, ids.size());
+    }
+
     @Test @Disabled("restore it if needed")
     public void testStringsToInts() throws Exception {
         final String[] ss = {"1", "2", "3", "4"};
@@ -58,6 +58,14 @@ public final class CsvReadersPerformanceTest {
         testReadWrite0(superCsvjobName, params);
     }
 
+    @Test
+    public void superCsvListTypeFastTokenizer() throws Exception {
+        final Properties params = new Properties();
+        params.setProperty("beanType", java.util.List.class.getName());
+        params.setProperty("fastTokenizer", "true");
+        testReadWrite0(superCsvjobName, params);
+    }
+
     ///////////////////////////////////////////////////////
 
     @Test
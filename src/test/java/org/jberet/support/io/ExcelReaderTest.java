@@ -11,11 +11,24 @@
 package org.jberet.support.io;
 
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
 
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.jberet.runtime.JobExecutionImpl;
 
 import jakarta.batch.operations.JobOperator;
@@ -24,6 +37,9 @@ import jakarta.batch.runtime.BatchStatus;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public final class ExcelReaderTest {
     private final JobOperator jobOperator = BatchRuntime.getJobOperator();
@@ -58,6 +74,13 @@ public final class ExcelReaderTest {
     static final String ibmStockTradeBinaryFullExpected = "10810, 13310, 16810, 4800, 23310, 2600, 2800, 11110,    " +
             "30860, 156100, 25000, 18180, 8200, 26490, 35780, 35080, 27180, 22630, 16800";
 
+    static final String excelPartitionTestJobName = "org.jberet.support.io.ExcelPartitionTest";
+
+    /**
+     * Holds data items written by {@code mockItemWriter} in {@link #excelPartitionTestJobName}.
+     */
+    public static final List<Object> partitionedItems = Collections.synchronizedList(new ArrayList<>());
+
     static final String ibmStockTradeExpected65520_65525 = "26780, 11860, 14530, 31620, 32710, 16800";
     static final String ibmStockTradeForbid65520_65525 = "35480, 41610, 28960,   22630, 27180, 35080,     30860";
 
@@ -307,6 +330,219 @@ public final class ExcelReaderTest {
     }
 
 
+    /**
+     * Reads a workbook of 3 sheets, plus a hidden one, in partitions created by {@link ExcelPartitionMapper}, first
+     * one partition per sheet, and then 4 row ranges per sheet.
+     */
+    @Test
+    public void testSheetPartitionStreaming() throws Exception {
+        final String[] sheetNames = {"Jan", "Feb", "Mar"};
+        final int rowCount = 35;
+        final File file = new File(CsvItemReaderWriterTest.tmpdir, "sheet-partitions.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); FileOutputStream out = new FileOutputStream(file)) {
+            for (final String sheetName : sheetNames) {
+                final Sheet sheet = workbook.createSheet(sheetName);
+                final Row headerRow = sheet.createRow(0);
+                headerRow.createCell(0).setCellValue("id");
+                headerRow.createCell(1).setCellValue("amount");
+                for (int i = 1; i <= rowCount; i++) {
+                    final Row row = sheet.createRow(i);
+                    row.createCell(0).setCellValue(sheetName + "-" + i);
+                    row.createCell(1).setCellValue(i);
+                }
+            }
+            workbook.createSheet("Notes").createRow(0).createCell(0).setCellValue("id");
+            workbook.setSheetHidden(workbook.getSheetIndex("Notes"), true);
+            workbook.write(out);
+        }
+
+        final ExcelPartitionMapper mapper = new ExcelPartitionMapper();
+        mapper.resource = file.getPath();
+        mapper.rowsPerPartition = 10;
+        assertEquals(12, mapper.mapPartitions().getPartitions());
+
+        for (final String rowsPerPartition : new String[]{"0", "10"}) {
+            partitionedItems.clear();
+            final Properties params = new Properties();
+            params.setProperty("resource", file.getPath());
+            params.setProperty("rowsPerPartition", rowsPerPartition);
+            final long jobExecutionId = jobOperator.start(excelPartitionTestJobName, params);
+            final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+            jobExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+            assertEquals(BatchStatus.COMPLETED, jobExecution.getBatchStatus());
+
+            //every row should be read by exactly one partition
+            final Set<Object> ids = new HashSet<Object>();
+            for (final Object e : partitionedItems) {
+                ids.add(((Map<?, ?>) e).get("id"));
+            }
+            assertEquals(sheetNames.length * rowCount, partitionedItems.size());
+            assertEquals(sheetNames.length * rowCount, ids.size());
+            for (final String sheetName : sheetNames) {
+                assertTrue(ids.contains(sheetName + "-1"));
+                assertTrue(ids.contains(sheetName + "-" + rowCount));
+            }
+        }
+    }
+
+    @Test
+    public void testCapeEventCloseStopsProducer() throws Exception {
+        final ExcelEventItemReader reader = new ExcelEventItemReader();
+        reader.resource = capeResource;
+        reader.beanType = List.class;
+        reader.sheetName = capeSheetName;
+        reader.header = capeHeader.split(",\\s*");
+        reader.start = 8;
+        reader.queueCapacity = 2;
+        reader.queueBatchSize = 2;
+        reader.open(null);
+        try {
+            for (int i = 0; i < 3; i++) {
+                assertEquals(capeHeader.split(",").length, ((List<?>) reader.readItem()).size());
+            }
+            assertEquals(10, reader.checkpointInfo());
+        } finally {
+            reader.close();
+        }
+
+        //the producer thread is blocked on the full queue until the reader is closed
+        final String threadName = ExcelEventItemReader.class.getSimpleName() + "-" + capeResource;
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (isThreadAlive(threadName) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(isThreadAlive(threadName));
+    }
+
+    private static boolean isThreadAlive(final String name) {
+        for (final Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().equals(name) && thread.isAlive()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Test
+    public void testTypedCellValuesStreaming() throws Exception {
+        final File file = new File(CsvItemReaderWriterTest.tmpdir, "typed-cell-values.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); FileOutputStream out = new FileOutputStream(file)) {
+            final CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd hh:mm"));
+            final Sheet sheet = workbook.createSheet();
+            final Row headerRow = sheet.createRow(0);
+            final String[] header = {"name", "count", "price", "blank", "active", "date"};
+            for (int i = 0; i < header.length; i++) {
+                headerRow.createCell(i).setCellValue(header[i]);
+            }
+            final Row row = sheet.createRow(1);
+            row.createCell(0).setCellValue("IBM");
+            row.createCell(1).setCellValue(3);
+            row.createCell(2).setCellValue(2.5);
+            row.createCell(4).setCellValue(true);
+            row.createCell(5).setCellValue(LocalDateTime.of(2014, 6, 30, 9, 30));
+            row.getCell(5).setCellStyle(dateStyle);
+            workbook.write(out);
+        }
+
+        final List<?> typedValues = (List<?>) readFirstItemStreaming(file, List.class, true);
+        assertEquals("IBM", typedValues.get(0));
+        assertEquals(3L, typedValues.get(1));
+        assertEquals(2.5, typedValues.get(2));
+        assertNull(typedValues.get(3));
+        assertEquals(Boolean.TRUE, typedValues.get(4));
+        assertEquals(LocalDateTime.of(2014, 6, 30, 9, 30), typedValues.get(5));
+
+        final Map<?, ?> stringValues = (Map<?, ?>) readFirstItemStreaming(file, Map.class, false);
+        assertEquals("3.0", stringValues.get("count"));
+        assertEquals("2.5", stringValues.get("price"));
+        assertEquals("1", stringValues.get("active"));
+        assertEquals(5, stringValues.size());
+    }
+
+    @Test
+    public void testStartRowAndSharedStringsOnDiskStreaming() throws Exception {
+        final File file = new File(CsvItemReaderWriterTest.tmpdir, "start-row-shared-strings.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); FileOutputStream out = new FileOutputStream(file)) {
+            final Sheet sheet = workbook.createSheet();
+            final Row headerRow = sheet.createRow(0);
+            headerRow.createCell(0).setCellValue("name");
+            headerRow.createCell(1).setCellValue("number");
+            for (int i = 1; i <= 100; i++) {
+                final Row row = sheet.createRow(i);
+                row.createCell(0).setCellValue("name-" + i);
+                row.createCell(1).setCellValue(i);
+            }
+            workbook.write(out);
+        }
+
+        final ExcelStreamingItemReader reader = new ExcelStreamingItemReader();
+        reader.resource = file.getPath();
+        reader.beanType = List.class;
+        reader.headerRow = 0;
+        reader.start = 50;
+        reader.sharedStringsMemoryLimit = 10;
+        reader.open(null);
+        try {
+            for (int i = 50; i <= 100; i++) {
+                assertEquals(Arrays.asList("name-" + i, i + ".0"), reader.readItem());
+            }
+            assertNull(reader.readItem());
+        } finally {
+            reader.close();
+        }
+
+        //restart from a checkpoint, with header specified instead of read from the sheet
+        final ExcelStreamingItemReader restartReader = new ExcelStreamingItemReader();
+        restartReader.resource = file.getPath();
+        restartReader.beanType = Map.class;
+        restartReader.header = new String[]{"name", "number"};
+        restartReader.sharedStringsMemoryLimit = 0;
+        restartReader.open(97);
+        try {
+            assertEquals("name-97", ((Map<?, ?>) restartReader.readItem()).get("name"));
+            assertEquals(97, restartReader.checkpointInfo());
+        } finally {
+            restartReader.close();
+        }
+    }
+
+    /**
+     * A gzip compressed workbook in a local file is read from the decompressed input stream, instead of being opened
+     * as a zip file, by both {@link ExcelPartitionMapper} and {@link ExcelStreamingItemReader}.
+     */
+    @Test
+    public void testCompressedWorkbookStreaming() throws Exception {
+        final File file = new File(CsvItemReaderWriterTest.tmpdir, "compressed-workbook.xlsx.gz");
+        try (XSSFWorkbook workbook = new XSSFWorkbook();
+             OutputStream out = new GZIPOutputStream(new FileOutputStream(file))) {
+            final Sheet sheet = workbook.createSheet("Jan");
+            sheet.createRow(0).createCell(0).setCellValue("id");
+            sheet.createRow(1).createCell(0).setCellValue("Jan-1");
+            workbook.write(out);
+        }
+
+        final ExcelPartitionMapper mapper = new ExcelPartitionMapper();
+        mapper.resource = file.getPath();
+        assertEquals(1, mapper.mapPartitions().getPartitions());
+        assertEquals("Jan-1", ((Map<?, ?>) readFirstItemStreaming(file, Map.class, false)).get("id"));
+    }
+
+    private static Object readFirstItemStreaming(final File file, final Class<?> beanType,
+                                                 final boolean typedCellValues) throws Exception {
+        final ExcelStreamingItemReader reader = new ExcelStreamingItemReader();
+        reader.resource = file.getPath();
+        reader.beanType = beanType;
+        reader.headerRow = 0;
+        reader.typedCellValues = typedCellValues;
+        reader.open(null);
+        try {
+            return reader.readItem();
+        } finally {
+            reader.close();
+        }
+    }
+
     private void testReadWrite0(final String jobName, final String reader,
                                 final String resource, final String writeResource,
                                 final String start, final String end, final String header,
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.jberet.runtime.JobExecutionImpl;
+
+import jakarta.batch.operations.JobOperator;
+import jakarta.batch.runtime.BatchRuntime;
+import jakarta.batch.runtime.BatchStatus;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests reading and writing local files with different {@link ItemReaderWriterBase#fileAccessMode} and
+ * {@link ItemReaderWriterBase#bufferSize}. Data items are read from a JSON Lines file, written to a Json file,
+ * and then read and written back to a JSON Lines file, which should be the same as the original one.
+ */
+public final class FileAccessModeTest {
+    static final String jobName = "org.jberet.support.io.FileAccessModeTest";
+    private static final File resourceFile = new File(CsvItemReaderWriterTest.tmpdir, "FileAccessModeTest.jsonl");
+    private static String expected;
+    private final JobOperator jobOperator = BatchRuntime.getJobOperator();
+
+    @BeforeAll
+    public static void beforeAll() throws Exception {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 1; i <= 500; i++) {
+            sb.append(String.format("{\"n\":%d,\"time\":\"%02d:%02d\",\"text\":\"à b 中 %d\"}\n",
+                    i, i / 60, i % 60, i));
+        }
+        expected = sb.toString();
+        Files.write(resourceFile.toPath(), expected.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void defaultMode() throws Exception {
+        test0(null, "0", null);
+    }
+
+    @Test
+    public void stream() throws Exception {
+        test0("stream", "0", null);
+    }
+
+    @Test
+    public void channel() throws Exception {
+        test0("channel", "0", null);
+    }
+
+    @Test
+    public void channelSmallBuffer() throws Exception {
+        test0("channel", "7", null);
+    }
+
+    @Test
+    public void mmap() throws Exception {
+        test0("mmap", "0", null);
+    }
+
+    /**
+     * Reads a file with memory-mapped access, seeks out of the mapped region and back, and reads again after the
+     * stream is closed, which should fail instead of accessing an unmapped region.
+     */
+    @Test
+    public void mmapSeekAndClose() throws Exception {
+        final byte[] expectedBytes = expected.getBytes(StandardCharsets.UTF_8);
+        final FileChannelInputStream in = new FileChannelInputStream(
+                FileChannel.open(resourceFile.toPath(), StandardOpenOption.READ), 0, true);
+        final byte[] bytes = new byte[expectedBytes.length];
+        assertEquals(bytes.length, in.readNBytes(bytes, 0, bytes.length));
+        assertArrayEquals(expectedBytes, bytes);
+        in.seek(expectedBytes.length + 100);
+        assertEquals(-1, in.read());
+        in.seek(1);
+        assertEquals(expectedBytes[1], (byte) in.read());
+        in.close();
+        assertThrows(IOException.class, in::read);
+    }
+
+    @Test
+    public void channelRestart() throws Exception {
+        test0("channel", "7", "02:17");
+    }
+
+    @Test
+    public void mmapRestart() throws Exception {
+        test0("mmap", "0", "02:17");
+    }
+
+    private void test0(final String fileAccessMode, final String bufferSize, final String failOnTimes)
+            throws Exception {
+        final String name = "FileAccessModeTest-" + (fileAccessMode == null ? "default" : fileAccessMode) + bufferSize + (failOnTimes == null ? "" : "-restart");
+        final File jsonResourceFile = new File(CsvItemReaderWriterTest.tmpdir, name + ".json");
+        final File writeResourceFile = new File(CsvItemReaderWriterTest.tmpdir, name + ".jsonl");
+        final Properties params = new Properties();
+        params.setProperty("resource", resourceFile.getPath());
+        params.setProperty("jsonResource", jsonResourceFile.getPath());
+        params.setProperty("writeResource", writeResourceFile.getPath());
+        if (fileAccessMode != null) {
+            params.setProperty("fileAccessMode", fileAccessMode);
+        }
+        params.setProperty("bufferSize", bufferSize);
+        params.setProperty("failOnTimes", failOnTimes == null ? "" : failOnTimes);
+
+        long jobExecutionId = jobOperator.start(jobName, params);
+        JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+        if (failOnTimes != null) {
+            assertEquals(BatchStatus.FAILED, jobExecution.getBatchStatus());
+            final Properties restartParams = new Properties();
+            restartParams.setProperty("failOnTimes", "");
+            jobExecutionId = jobOperator.restart(jobExecutionId, restartParams);
+            jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+            jobExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+        }
+        assertEquals(BatchStatus.COMPLETED, jobExecution.getBatchStatus());
+        assertEquals(expected, new String(Files.readAllBytes(writeResourceFile.toPath()), StandardCharsets.UTF_8));
+    }
+}
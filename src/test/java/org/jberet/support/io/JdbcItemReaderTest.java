@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests reading rows into beans with {@link JdbcItemReader}, either by setting bean properties directly from the
+ * {@code ResultSet}, or by converting each row via {@code java.util.Map} with the object mapper.
+ */
+@SuppressWarnings("SpellCheckingInspection")
+public class JdbcItemReaderTest {
+    private static final String url = "jdbc:h2:mem:JdbcItemReaderTest;DB_CLOSE_DELAY=-1";
+    private static final String selectSql = "select SYMBOL, VOLUME, PRICE, EXCHANGE from TRADE order by SYMBOL";
+
+    /**
+     * A bean without the {@code EXCHANGE} property, which is populated directly from the {@code ResultSet} when
+     * unknown properties are ignored.
+     */
+    public static class Trade {
+        @JsonProperty("SYMBOL")
+        public String symbol;
+
+        @JsonProperty("VOLUME")
+        public long volume;
+
+        @JsonProperty("PRICE")
+        public BigDecimal price;
+
+        @Override
+        public String toString() {
+            return symbol + "|" + volume + "|" + price;
+        }
+    }
+
+    /**
+     * A bean that collects unknown columns with a {@code @JsonAnySetter} method, which is populated via
+     * {@code java.util.Map}.
+     */
+    public static class TradeWithOthers extends Trade {
+        public final Map<String, Object> others = new HashMap<String, Object>();
+
+        @JsonAnySetter
+        public void setOther(final String name, final Object value) {
+            others.put(name, value);
+        }
+
+        @Override
+        public String toString() {
+            return super.toString() + "|" + others;
+        }
+    }
+
+    /**
+     * A bean with primitive properties, which are set to their default values for NULL columns.
+     */
+    public static class Primitives {
+        @JsonProperty("S")
+        public short s;
+
+        @JsonProperty("B")
+        public byte b;
+
+        @JsonProperty("I")
+        public int i;
+
+        @JsonProperty("L")
+        public long l;
+
+        @JsonProperty("F")
+        public float f;
+
+        @JsonProperty("C")
+        public char c;
+
+        @Override
+        public String toString() {
+            return s + "|" + b + "|" + i + "|" + l + "|" + f + "|" + (int) c;
+        }
+    }
+
+    @BeforeAll
+    public static void beforeAll() throws Exception {
+        try (Connection connection = DriverManager.getConnection(url);
+             Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists TRADE");
+            statement.execute("create table TRADE (SYMBOL VARCHAR(10), VOLUME BIGINT, PRICE DECIMAL(10, 2), EXCHANGE VARCHAR(10))");
+            statement.execute("insert into TRADE values ('AAA', 100, 1.50, 'NYSE'), ('BBB', 200, 2.50, null)");
+            statement.execute("drop table if exists PRIMITIVES");
+            statement.execute("create table PRIMITIVES (ID INT, S SMALLINT, B TINYINT, I DECIMAL(10), L NUMERIC(18), F REAL, C CHAR(1))");
+            statement.execute("insert into PRIMITIVES values (1, 1, 2, 3, 4, 5.5, 'A'), (2, null, null, null, null, null, null)");
+        }
+    }
+
+    /**
+     * Reads into a bean without a property for each column, with unknown properties ignored.
+     */
+    @Test
+    public void readBeansIgnoreUnknown() throws Exception {
+        assertEquals(Arrays.asList("AAA|100|1.50", "BBB|200|2.50"), read(Trade.class));
+    }
+
+    /**
+     * Reads into a bean with a {@code @JsonAnySetter} method, with unknown properties ignored. The column without
+     * a property should still go to the any-setter.
+     */
+    @Test
+    public void readBeansAnySetter() throws Exception {
+        assertEquals(Arrays.asList("AAA|100|1.50|{EXCHANGE=NYSE}", "BBB|200|2.50|{EXCHANGE=null}"),
+                read(TradeWithOthers.class));
+    }
+
+    /**
+     * Reads NULL columns into primitive properties, without and with {@code columnTypes}.
+     */
+    @Test
+    public void readNullPrimitives() throws Exception {
+        final String sql = "select S, B, I, L, F, C from PRIMITIVES order by ID";
+        final List<String> expected = Arrays.asList("1|2|3|4|5.5|65", "0|0|0|0|0.0|0");
+        assertEquals(expected, read(Primitives.class, sql, null));
+        assertEquals(expected, read(Primitives.class, sql,
+                new String[]{"Short", "Byte", "Int", "Long", "Float", "String"}));
+    }
+
+    private static List<String> read(final Class<?> beanType) throws Exception {
+        return read(beanType, selectSql, null);
+    }
+
+    private static List<String> read(final Class<?> beanType, final String sql, final String[] columnTypes)
+            throws Exception {
+        final JdbcItemReader reader = new JdbcItemReader();
+        reader.url = url;
+        reader.sql = sql;
+        reader.beanType = beanType;
+        reader.columnTypes = columnTypes;
+        reader.deserializationFeatures = "FAIL_ON_UNKNOWN_PROPERTIES=false";
+        final List<String> rows = new ArrayList<String>();
+        reader.open(null);
+        try {
+            Object item;
+            while ((item = reader.readItem()) != null) {
+                assertEquals(beanType, item.getClass());
+                rows.add(item.toString());
+            }
+        } finally {
+            reader.close();
+        }
+        return rows;
+    }
+}
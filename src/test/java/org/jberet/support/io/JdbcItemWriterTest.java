@@ -12,13 +12,181 @@ package org.jberet.support.io;
 
 import static org.jberet.support.io.JdbcItemWriter.determineParameterNames;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.batch.operations.BatchRuntimeException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 @SuppressWarnings("SpellCheckingInspection")
 public class JdbcItemWriterTest {
+    private static final String url = "jdbc:h2:mem:JdbcItemWriterTest;DB_CLOSE_DELAY=-1";
+    private static final String insertSql = "insert into TRADE (SYMBOL, VOLUME, PRICE, TRADEDATE) values (?, ?, ?, ?)";
+    private static final String parameterTypes = "String, Long, Double, Date";
+    private static final Date tradeDate = new Date(1_700_000_000_000L);
+
+    /**
+     * A bean whose properties are read by {@code jdbcItemWriter} with compiled accessors.
+     */
+    public static class Trade {
+        private String symbol;
+        private long volume;
+
+        @JsonProperty("PRICE")
+        public double price;
+
+        private Date tradeDate;
+
+        public Trade() {
+        }
+
+        Trade(final String symbol, final long volume, final double price, final Date tradeDate) {
+            this.symbol = symbol;
+            this.volume = volume;
+            this.price = price;
+            this.tradeDate = tradeDate;
+        }
+
+        @JsonProperty("SYMBOL")
+        public String getSymbol() {
+            return symbol;
+        }
+
+        @JsonProperty("VOLUME")
+        public long getVolume() {
+            return volume;
+        }
+
+        @JsonProperty("TRADEDATE")
+        public Date getTradeDate() {
+            return tradeDate;
+        }
+    }
+
+    /**
+     * A bean with a custom date format, which {@code jdbcItemWriter} converts to {@code java.util.Map} with its
+     * object mapper.
+     */
+    public static class FormattedTrade extends Trade {
+        public FormattedTrade() {
+        }
+
+        FormattedTrade(final String symbol, final long volume, final double price, final Date tradeDate) {
+            super(symbol, volume, price, tradeDate);
+        }
+
+        @Override
+        @JsonProperty("TRADEDATE")
+        @JsonFormat(shape = JsonFormat.Shape.NUMBER)
+        public Date getTradeDate() {
+            return super.getTradeDate();
+        }
+    }
+
+    @BeforeEach
+    public void before() throws Exception {
+        try (Connection connection = DriverManager.getConnection(url);
+             Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists TRADE");
+            statement.execute("create table TRADE (SYMBOL VARCHAR(10), VOLUME BIGINT, PRICE DOUBLE, TRADEDATE DATE)");
+        }
+    }
+
+    @Test
+    public void writeList() throws Exception {
+        final List<Object> items = new ArrayList<Object>();
+        items.add(Arrays.asList("AAA", 100L, 1.5, tradeDate));
+        //the item may contain more elements than the sql parameters
+        items.add(Arrays.asList("BBB", "200", "2.5", tradeDate.getTime(), "extra"));
+        write(List.class, insertSql, parameterTypes, items);
+        assertEquals(Arrays.asList("AAA|100|1.5|" + new java.sql.Date(tradeDate.getTime()),
+                "BBB|200|2.5|" + new java.sql.Date(tradeDate.getTime())), readRows());
+    }
+
+    /**
+     * Writes {@code java.util.List} items with an insert statement without any parameter. No item values should be
+     * bound.
+     */
+    @Test
+    public void writeListNoParameters() throws Exception {
+        final List<Object> items = new ArrayList<Object>();
+        items.add(Arrays.asList("AAA", 100L));
+        write(List.class, "insert into TRADE (SYMBOL, VOLUME) values ('CCC', 1)", null, items);
+        assertEquals(Arrays.asList("CCC|1|null|null"), readRows());
+    }
+
+    @Test
+    public void writeMap() throws Exception {
+        final Map<String, Object> item = new HashMap<String, Object>();
+        item.put("SYMBOL", "AAA");
+        item.put("VOLUME", 100);
+        item.put("PRICE", "1.5");
+        item.put("TRADEDATE", tradeDate);
+        write(Map.class, insertSql, parameterTypes, new ArrayList<Object>(Arrays.asList(item)));
+        assertEquals(Arrays.asList("AAA|100|1.5|" + new java.sql.Date(tradeDate.getTime())), readRows());
+    }
+
+    /**
+     * Writes beans with compiled property accessors, and beans that require the object mapper, and both should
+     * produce the same rows.
+     */
+    @Test
+    public void writeBeans() throws Exception {
+        write(Trade.class, insertSql, parameterTypes, new ArrayList<Object>(Arrays.asList(
+                new Trade("AAA", 100, 1.5, tradeDate), new Trade("BBB", 200, 2.5, null))));
+        final List<String> rows = readRows();
+        assertEquals(Arrays.asList("AAA|100|1.5|" + new java.sql.Date(tradeDate.getTime()), "BBB|200|2.5|null"), rows);
+
+        before();
+        write(FormattedTrade.class, insertSql, parameterTypes, new ArrayList<Object>(Arrays.asList(
+                new FormattedTrade("AAA", 100, 1.5, tradeDate), new FormattedTrade("BBB", 200, 2.5, null))));
+        assertEquals(rows, readRows());
+    }
+
+    private static void write(final Class<?> beanType, final String sql, final String parameterTypes,
+                              final List<Object> items) throws Exception {
+        final JdbcItemWriter writer = new JdbcItemWriter();
+        writer.url = url;
+        writer.sql = sql;
+        writer.beanType = beanType;
+        if (parameterTypes != null) {
+            writer.parameterTypes = parameterTypes.split(", ");
+        }
+        writer.open(null);
+        try {
+            writer.writeItems(items);
+        } finally {
+            writer.close();
+        }
+    }
+
+    private static List<String> readRows() throws Exception {
+        final List<String> rows = new ArrayList<String>();
+        try (Connection connection = DriverManager.getConnection(url);
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "select SYMBOL, VOLUME, PRICE, TRADEDATE from TRADE order by SYMBOL")) {
+            while (resultSet.next()) {
+                rows.add(resultSet.getString(1) + "|" + resultSet.getObject(2) + "|" + resultSet.getObject(3) + "|"
+                        + resultSet.getDate(4));
+            }
+        }
+        return rows;
+    }
 
     @Test
     public void normal() throws Exception {
@@ -18,9 +18,13 @@ import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import org.jberet.runtime.JobExecutionImpl;
@@ -40,6 +44,7 @@ public class JdbcReaderWriterTest {
     static final String writerTestJobName = "org.jberet.support.io.JdbcWriterTest";
     static final String readerTestJobName = "org.jberet.support.io.JdbcReaderTest";
     static final String readerCheckpointTestJobName = "org.jberet.support.io.JdbcReaderCheckpointTest";
+    static final String partitionTestJobName = "org.jberet.support.io.JdbcPartitionTest";
 
     static final File dbDir = new File(CsvItemReaderWriterTest.tmpdir, "JdbcReaderWriterTest");
     static final String url = "jdbc:h2:" + dbDir.getPath();
@@ -73,6 +78,11 @@ public class JdbcReaderWriterTest {
     static final String resultSetProperties =
     "fetchSize=1000, resultSetConcurrency=CONCUR_UPDATABLE, fetchDirection=FETCH_REVERSE, resultSetType=TYPE_SCROLL_SENSITIVE, resultSetHoldability=HOLD_CURSORS_OVER_COMMIT";
 
+    /**
+     * Holds data items written by {@code mockItemWriter} in {@link #partitionTestJobName}.
+     */
+    public static final List<Object> partitionedItems = Collections.synchronizedList(new ArrayList<>());
+
     @BeforeAll
     public static void beforeClass() throws Exception {
         initTable();
@@ -110,6 +120,27 @@ public class JdbcReaderWriterTest {
                 "09:30, 67040", "09:31");
     }
 
+    /**
+     * Same as {@link #readIBMStockTradeCsvWriteJdbcListTypeAllRows()}, except that {@code jdbcItemWriter}
+     * is configured to reuse the same connection and statement for all chunks.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void readIBMStockTradeCsvWriteJdbcReuseConnection() throws Exception {
+        final Properties writerParams = new Properties();
+        writerParams.setProperty("reuseConnection", "true");
+        testWrite0(writerTestJobName, List.class, List.class, ExcelWriterTest.ibmStockTradeHeader,
+                "0", "1000",
+                writerInsertSql, ExcelWriterTest.ibmStockTradeHeader, parameterTypes, writerParams);
+
+        testRead0(readerTestJobName, List.class, List.class, "readIBMStockTradeCsvWriteJdbcReuseConnection.out",
+                null, null,
+                null, ExcelWriterTest.ibmStockTradeHeader,
+                readerQuery, null, parameterTypes, null,
+                "09:31, 10810,  09:32, 09:33,  09:34, 4800", null);
+    }
+
     @Test
     public void readIBMStockTradeCsvWriteJdbcMapType() throws Exception {
         testWrite0(writerTestJobName, Map.class, Map.class, ExcelWriterTest.ibmStockTradeHeader,
@@ -236,6 +267,24 @@ public class JdbcReaderWriterTest {
 
     @Test
     public void jdbcItemReaderCheckpointTest() throws Exception {
+        jdbcItemReaderCheckpoint0("jdbcItemReaderCheckpointTest", readerQuery, null);
+    }
+
+    /**
+     * Same as {@link #jdbcItemReaderCheckpointTest()}, except that {@code jdbcItemReader} is configured with
+     * {@code keyColumns}, so the restart execution is positioned with keyset predicate instead of
+     * {@code ResultSet.absolute(int)}.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void jdbcItemReaderKeysetCheckpointTest() throws Exception {
+        jdbcItemReaderCheckpoint0("jdbcItemReaderKeysetCheckpointTest",
+                readerQuery + " order by TRADEDATE, TRADETIME", "TRADEDATE, TRADETIME");
+    }
+
+    private void jdbcItemReaderCheckpoint0(final String testName, final String sql, final String keyColumns)
+            throws Exception {
         //first populate the table
         testWrite0(writerTestJobName, List.class, List.class, ExcelWriterTest.ibmStockTradeHeader,
                 "0", "19",
@@ -244,12 +293,15 @@ public class JdbcReaderWriterTest {
         //then read from the above table with jdbcItemReader.
         //this job execution will fail, since the item processor is configured to fail when
         //encountering certain value (failOnTimes).
-        final File writeResourceFile = new File(CsvItemReaderWriterTest.tmpdir, "jdbcItemReaderCheckpointTest");
+        final File writeResourceFile = new File(CsvItemReaderWriterTest.tmpdir, testName);
         final Properties params = new Properties();
         params.setProperty("url", url);
         params.setProperty("user", dbUser == null ? "" : dbUser);
         params.setProperty("password", dbPassword == null ? "" : dbPassword);
-        params.setProperty("sql", readerQuery);
+        params.setProperty("sql", sql);
+        if (keyColumns != null) {
+            params.setProperty("keyColumns", keyColumns);
+        }
         params.setProperty("start", "0");
         params.setProperty("end", "14");
         params.setProperty("failOnTimes", "09:41");
@@ -281,12 +333,63 @@ public class JdbcReaderWriterTest {
         CsvItemReaderWriterTest.validate(writeResourceFile, expect, forbid);
     }
 
+    @Test
+    public void jdbcPartitionMapperDoubleColumn() throws Exception {
+        jdbcPartitionMapper0("VOLUMN", 4);
+    }
+
+    @Test
+    public void jdbcPartitionMapperTimestampColumn() throws Exception {
+        jdbcPartitionMapper0("TRADEDATE", 5);
+    }
+
+    private void jdbcPartitionMapper0(final String splitColumn, final int partitionCount) throws Exception {
+        final int rowCount = 1000;
+        testWrite0(writerTestJobName, List.class, List.class, ExcelWriterTest.ibmStockTradeHeader,
+                "1", String.valueOf(rowCount),
+                writerInsertSql, ExcelWriterTest.ibmStockTradeHeader, parameterTypes);
+        partitionedItems.clear();
+
+        final Properties params = new Properties();
+        params.setProperty("url", url);
+        params.setProperty("user", dbUser == null ? "" : dbUser);
+        params.setProperty("password", dbPassword == null ? "" : dbPassword);
+        params.setProperty("sql", readerQuery);
+        params.setProperty("splitColumn", splitColumn);
+        params.setProperty("partitionCount", String.valueOf(partitionCount));
+
+        final long jobExecutionId = jobOperator.start(partitionTestJobName, params);
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+        assertEquals(BatchStatus.COMPLETED, jobExecution.getBatchStatus());
+
+        //every row should be read by exactly one partition
+        assertEquals(rowCount, partitionedItems.size());
+        final Set<String> keys = new HashSet<>();
+        for (final Object e : partitionedItems) {
+            final Map item = (Map) e;
+            keys.add(item.get("TRADEDATE") + " " + item.get("TRADETIME"));
+        }
+        assertEquals(rowCount, keys.size());
+    }
+
     void testWrite0(final String jobName, final Class<?> readerBeanType, final Class<?> writerBeanType, final String csvNameMapping,
                     final String start, final String end,
                     final String sql, final String parameterNames, final String parameterTypes) throws Exception {
+        testWrite0(jobName, readerBeanType, writerBeanType, csvNameMapping, start, end,
+                sql, parameterNames, parameterTypes, null);
+    }
+
+    void testWrite0(final String jobName, final Class<?> readerBeanType, final Class<?> writerBeanType, final String csvNameMapping,
+                    final String start, final String end,
+                    final String sql, final String parameterNames, final String parameterTypes,
+                    final Properties writerParams) throws Exception {
         // jdbc reader or writer may use org.jberet.support.io.StockTradeWithJoda to test custom module
         // jackson-datatype-joda, so use separate readerBeanType and writerBeanType
         final Properties params = new Properties();
+        if (writerParams != null) {
+            params.putAll(writerParams);
+        }
         params.setProperty("readerBeanType", readerBeanType.getName());
         params.setProperty("writerBeanType", writerBeanType.getName());
 
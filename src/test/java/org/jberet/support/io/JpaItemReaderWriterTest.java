@@ -13,8 +13,10 @@ package org.jberet.support.io;
 import static org.jberet.support.io.JpaResourceProducer.em;
 import static org.jberet.support.io.JpaResourceProducer.emf;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
@@ -37,6 +39,11 @@ public final class JpaItemReaderWriterTest {
     private static final String jpaItemReaderJob = "org.jberet.support.io.jpaItemReaderTest";
     static final String persistenceUnitName = "JpaItemWriterTest";
 
+    /**
+     * Items written by {@code mockItemWriter}.
+     */
+    public static final List<Object> items = new ArrayList<Object>();
+
     @BeforeAll
     public static void beforeClass() {
         emf = Persistence.createEntityManagerFactory(persistenceUnitName);
@@ -55,25 +62,94 @@ public final class JpaItemReaderWriterTest {
 
     @Test
     public void nativeQuery() throws Exception {
-        final String testName = "nativeQuery";
-        long jobExecutionId = jobOperator.start(jpaItemWriterJob, null);
+        testReadWrite0("nativeQuery", null);
+    }
+
+    @Test
+    public void nativeQueryStream() throws Exception {
+        final Properties readerParams = new Properties();
+        readerParams.setProperty("stream", "true");
+        readerParams.setProperty("clearInterval", "10");
+        testReadWrite0("nativeQueryStream", readerParams);
+    }
+
+    /**
+     * Reads with a JPQL query in streaming mode with {@code firstResult} and {@code clearInterval}, fails in the
+     * middle, and restarts. The restarted job execution should re-execute the query from the checkpointed position,
+     * and write the same items as a job execution without failure.
+     */
+    @Test
+    public void jpqlQueryStreamRestart() throws Exception {
+        runWriterJob();
+        final Properties jobParams = new Properties();
+        jobParams.setProperty("jpqlQuery", "select m from MovieEntity m order by m.rank, m.id");
+        jobParams.setProperty("stream", "true");
+        jobParams.setProperty("clearInterval", "7");
+        jobParams.setProperty("firstResult", "5");
+        jobParams.setProperty("writer", "mockItemWriter");
+        items.clear();
+        long jobExecutionId = jobOperator.start(jpaItemReaderJob, jobParams);
         JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
         jobExecution.awaitTermination(5, TimeUnit.MINUTES);
+        assertEquals(BatchStatus.COMPLETED, jobExecution.getBatchStatus());
+        final List<Long> expected = getItemIds();
+        final long count = em.createQuery("select count(m) from MovieEntity m", Long.class).getSingleResult();
+        assertEquals(count - 5, expected.size());
+
+        items.clear();
+        jobParams.setProperty("failOnRank", "47");
+        jobExecutionId = jobOperator.start(jpaItemReaderJob, jobParams);
+        jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(5, TimeUnit.MINUTES);
+        assertEquals(BatchStatus.FAILED, jobExecution.getBatchStatus());
+        final Integer checkpoint = (Integer)
+                ((StepExecutionImpl) jobExecution.getStepExecutions().get(0)).getReaderCheckpointInfo();
+        assertTrue(checkpoint > 0, String.valueOf(checkpoint));
+        assertEquals(checkpoint.intValue(), items.size());
+
+        final Properties restartParams = new Properties();
+        restartParams.setProperty("failOnRank", "0");
+        jobExecutionId = jobOperator.restart(jobExecutionId, restartParams);
+        jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(5, TimeUnit.MINUTES);
+        assertEquals(BatchStatus.COMPLETED, jobExecution.getBatchStatus());
+        assertEquals(expected, getItemIds());
+    }
+
+    private static List<Long> getItemIds() {
+        final List<Long> ids = new ArrayList<Long>();
+        for (final Object e : items) {
+            ids.add(((MovieEntity) e).getId());
+        }
+        return ids;
+    }
+
+    private void runWriterJob() throws Exception {
+        final long jobExecutionId = jobOperator.start(jpaItemWriterJob, null);
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(5, TimeUnit.MINUTES);
 
-        List<StepExecution> stepExecutions = jobExecution.getStepExecutions();
-        StepExecutionImpl step1 = (StepExecutionImpl) stepExecutions.get(0);
+        final List<StepExecution> stepExecutions = jobExecution.getStepExecutions();
+        final StepExecutionImpl step1 = (StepExecutionImpl) stepExecutions.get(0);
         System.out.printf("%s, %s, %s%n", step1.getStepName(), step1.getBatchStatus(), step1.getException());
         assertEquals(BatchStatus.COMPLETED, jobExecution.getBatchStatus());
+    }
+
+    private void testReadWrite0(final String testName, final Properties readerParams) throws Exception {
+        runWriterJob();
 
         final Properties jobParams = new Properties();
+        if (readerParams != null) {
+            jobParams.putAll(readerParams);
+        }
         jobParams.setProperty("resource",
                 (new File(CsvItemReaderWriterTest.tmpdir, testName + ".txt")).getPath());
-        jobExecutionId = jobOperator.start(jpaItemReaderJob, jobParams);
-        jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        final long jobExecutionId = jobOperator.start(jpaItemReaderJob, jobParams);
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
         jobExecution.awaitTermination(5, TimeUnit.MINUTES);
 
-        stepExecutions = jobExecution.getStepExecutions();
-        step1 = (StepExecutionImpl) stepExecutions.get(0);
+        final List<StepExecution> stepExecutions = jobExecution.getStepExecutions();
+        final StepExecutionImpl step1 = (StepExecutionImpl) stepExecutions.get(0);
         System.out.printf("%s, %s, %s%n", step1.getStepName(), step1.getBatchStatus(), step1.getException());
         assertEquals(BatchStatus.COMPLETED, jobExecution.getBatchStatus());
 
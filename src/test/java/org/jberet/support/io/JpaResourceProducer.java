@@ -10,12 +10,14 @@
 
 package org.jberet.support.io;
 
+import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Produces;
 import jakarta.inject.Named;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 
 @Named
+@ApplicationScoped
 public class JpaResourceProducer {
     static EntityManagerFactory emf;
     static EntityManager em;
@@ -18,11 +18,16 @@ import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 
 import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.runtime.StepExecutionImpl;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
@@ -33,6 +38,7 @@ import com.fasterxml.jackson.core.io.OutputDecorator;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.deser.DeserializationProblemHandler;
 
@@ -42,12 +48,14 @@ import jakarta.batch.runtime.BatchStatus;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * A test class that reads json resource into java object and write out to json format.
  */
 public final class JsonItemReaderTest {
     static final String jobName =  "org.jberet.support.io.JsonItemReaderTest";
+    static final String checkpointTestJobName = "org.jberet.support.io.JsonReaderCheckpointTest";
     private final JobOperator jobOperator = BatchRuntime.getJobOperator();
     static final String movieJson = "movies-2012.json";
     static final String movieJsonUnknownProperty = "movies-2012-unknown-properties.json";
@@ -185,6 +193,102 @@ public final class JsonItemReaderTest {
         this.deserializationProblemHandlers=null;
     }
 
+    /**
+     * Fails the job in the 3rd chunk, and restarts it from the byte offset saved in the checkpoint info of
+     * {@link JsonItemReader}. The restarted job execution should read each of the remaining data items exactly once.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testCheckpointRestart() throws Exception {
+        final File resourceFile = new File(CsvItemReaderWriterTest.tmpdir, "testCheckpointRestart.json");
+        final StringBuilder sb = new StringBuilder("[\n");
+        for (int i = 1; i <= 23; i++) {
+            sb.append(String.format("  {\"n\": %d, \"time\": \"09:%02d\", \"nested\": {\"a\": [1, 2]}}", i, i));
+            sb.append(i < 23 ? " ,\n" : "\n");
+        }
+        sb.append("]\n");
+        Files.write(resourceFile.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+
+        final File writeResourceFile = new File(CsvItemReaderWriterTest.tmpdir, "testCheckpointRestart.out.json");
+        final Properties params = new Properties();
+        params.setProperty("resource", resourceFile.getPath());
+        params.setProperty("writeResource", writeResourceFile.getPath());
+        params.setProperty("failOnTimes", "09:13");
+
+        final long jobExecutionId = jobOperator.start(checkpointTestJobName, params);
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+        assertEquals(BatchStatus.FAILED, jobExecution.getBatchStatus());
+        final StepExecutionImpl stepExecution = (StepExecutionImpl) jobExecution.getStepExecutions().get(0);
+        final OffsetCheckpoint checkpoint = (OffsetCheckpoint) stepExecution.getReaderCheckpointInfo();
+        assertEquals(10, checkpoint.getRowNumber());
+        assertTrue(sb.substring((int) checkpoint.getOffset()).startsWith(" ,\n  {\"n\": 11,"), checkpoint.toString());
+
+        final Properties restartParams = new Properties();
+        restartParams.setProperty("failOnTimes", "");
+        final long restartExecutionId = jobOperator.restart(jobExecutionId, restartParams);
+        final JobExecutionImpl restartExecution = (JobExecutionImpl) jobOperator.getJobExecution(restartExecutionId);
+        restartExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+        assertEquals(BatchStatus.COMPLETED, restartExecution.getBatchStatus());
+
+        //JsonItemWriter continues the Json array from its own checkpoint
+        final List<?> items = new ObjectMapper().readValue(writeResourceFile, List.class);
+        assertEquals(23, items.size());
+        for (int i = 0; i < items.size(); i++) {
+            assertEquals(i + 1, ((Map) items.get(i)).get("n"));
+        }
+    }
+
+    /**
+     * Opens {@link JsonItemReader} with offset checkpoints and a configured {@code start} after the checkpoint row,
+     * both by seeking to the checkpoint offset, and by skipping data items when an input decorator is configured.
+     * The reader should start at the configured {@code start}, including with a checkpoint at offset 0 taken before
+     * any data item was read, and with a checkpoint after the last element of one of several root-level arrays.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testOpenAtOffsetCheckpoint() throws Exception {
+        final File resourceFile = new File(CsvItemReaderWriterTest.tmpdir, "testOpenAtOffsetCheckpoint.json");
+        final String content = "[{\"n\": 1}, {\"n\": 2}, {\"n\": 3}]\n[{\"n\": 4}, {\"n\": 5}, {\"n\": 6}]\n";
+        Files.write(resourceFile.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        final OffsetCheckpoint[] checkpoints = {
+                new OffsetCheckpoint(0, 0),
+                new OffsetCheckpoint(1, content.indexOf("}") + 1),
+                new OffsetCheckpoint(3, content.indexOf("}]") + 1)
+        };
+        for (final Class<?> inputDecorator : new Class<?>[]{null, NoopInputDecorator.class}) {
+            for (final OffsetCheckpoint checkpoint : checkpoints) {
+                final String message = checkpoint + ", inputDecorator " + inputDecorator;
+                assertEquals("[5, 6]", readNumbers(resourceFile, 5, inputDecorator, checkpoint), message);
+                assertEquals(checkpoint.getRowNumber() == 3 ? "[4, 5, 6]" : "[2, 3, 4, 5, 6]",
+                        readNumbers(resourceFile, 2, inputDecorator, checkpoint), message);
+            }
+        }
+    }
+
+    private static String readNumbers(final File resourceFile, final int start, final Class<?> inputDecorator,
+                                      final OffsetCheckpoint checkpoint) throws Exception {
+        final JsonItemReader reader = new JsonItemReader();
+        reader.resource = resourceFile.getPath();
+        reader.beanType = Map.class;
+        reader.start = start;
+        reader.inputDecorator = inputDecorator;
+        reader.skipBeanValidation = true;
+        final List<Object> numbers = new ArrayList<>();
+        reader.open(checkpoint);
+        try {
+            Object item;
+            while ((item = reader.readItem()) != null) {
+                numbers.add(((Map<?, ?>) item).get("n"));
+            }
+        } finally {
+            reader.close();
+        }
+        return numbers.toString();
+    }
+
     private void testReadWrite0(final String resource, final String writeResource,
                                 final String start, final String end, final Class<?> beanType,
                                 final String expect, final String forbid, final BatchStatus jobStatus) throws Exception {
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.runtime.StepExecutionImpl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.batch.operations.JobOperator;
+import jakarta.batch.runtime.BatchRuntime;
+import jakarta.batch.runtime.BatchStatus;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link JsonLinesItemReader} and {@link JsonLinesItemWriter}.
+ */
+public final class JsonLinesItemReaderWriterTest {
+    static final String jobName = "org.jberet.support.io.JsonLinesItemReaderWriterTest";
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final File moviesJsonLines = new File(CsvItemReaderWriterTest.tmpdir, "movies-2012.jsonl");
+    private final JobOperator jobOperator = BatchRuntime.getJobOperator();
+
+    /**
+     * Converts movies-2012.json to JSON Lines, with mixed line terminators and a blank line.
+     *
+     * @throws Exception upon errors
+     */
+    @BeforeAll
+    public static void beforeAll() throws Exception {
+        final List<?> movies = objectMapper.readValue(
+                JsonLinesItemReaderWriterTest.class.getClassLoader().getResource(JsonItemReaderTest.movieJson), List.class);
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < movies.size(); i++) {
+            sb.append(objectMapper.writeValueAsString(movies.get(i))).append(i % 2 == 0 ? "\n" : "\r\n");
+            if (i == 50) {
+                sb.append("  \n");
+            }
+        }
+        Files.write(moviesJsonLines.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testMoviesParallel() throws Exception {
+        final List<Map<?, ?>> items = testReadWrite0("testMoviesParallel.jsonl", null, null, "4", "7");
+        assertEquals(100, items.size());
+        for (int i = 0; i < items.size(); i++) {
+            assertEquals(i + 1, items.get(i).get("rank"));
+        }
+    }
+
+    @Test
+    public void testMoviesSingleThread3_12() throws Exception {
+        final List<Map<?, ?>> items = testReadWrite0("testMoviesSingleThread3_12.jsonl", "3", "12", "1", null);
+        assertEquals(10, items.size());
+        for (int i = 0; i < items.size(); i++) {
+            assertEquals(i + 3, items.get(i).get("rank"));
+        }
+    }
+
+    /**
+     * Fails the job in the 3rd chunk, and restarts it from the byte offset saved in the checkpoint info of
+     * {@link JsonLinesItemReader}. The output is appended to, and should contain each data item exactly once.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testCheckpointRestart() throws Exception {
+        final File resourceFile = new File(CsvItemReaderWriterTest.tmpdir, "testCheckpointRestart.jsonl");
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 1; i <= 23; i++) {
+            sb.append(String.format("{\"n\": %d, \"time\": \"09:%02d\"}%n", i, i));
+        }
+        Files.write(resourceFile.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+
+        final File writeResourceFile = new File(CsvItemReaderWriterTest.tmpdir, "testCheckpointRestart.out.jsonl");
+        writeResourceFile.delete();
+        final Properties params = new Properties();
+        params.setProperty("resource", resourceFile.getPath());
+        params.setProperty("writeResource", writeResourceFile.getPath());
+        params.setProperty("writeMode", "append");
+        params.setProperty("itemCount", "5");
+        params.setProperty("threads", "3");
+        params.setProperty("batchSize", "8");
+        params.setProperty("failOnTimes", "09:13");
+
+        final long jobExecutionId = jobOperator.start(jobName, params);
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+        assertEquals(BatchStatus.FAILED, jobExecution.getBatchStatus());
+        final StepExecutionImpl stepExecution = (StepExecutionImpl) jobExecution.getStepExecutions().get(0);
+        final OffsetCheckpoint checkpoint = (OffsetCheckpoint) stepExecution.getReaderCheckpointInfo();
+        assertEquals(10, checkpoint.getRowNumber());
+        assertTrue(sb.substring((int) checkpoint.getOffset()).startsWith("{\"n\": 11,"), checkpoint.toString());
+
+        final Properties restartParams = new Properties();
+        restartParams.setProperty("failOnTimes", "");
+        final long restartExecutionId = jobOperator.restart(jobExecutionId, restartParams);
+        final JobExecutionImpl restartExecution = (JobExecutionImpl) jobOperator.getJobExecution(restartExecutionId);
+        restartExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+        assertEquals(BatchStatus.COMPLETED, restartExecution.getBatchStatus());
+
+        final List<Map<?, ?>> items = readJsonLines(writeResourceFile);
+        assertEquals(23, items.size());
+        for (int i = 0; i < items.size(); i++) {
+            assertEquals(i + 1, items.get(i).get("n"));
+        }
+    }
+
+    private List<Map<?, ?>> testReadWrite0(final String writeResource, final String start, final String end,
+                                           final String threads, final String batchSize) throws Exception {
+        final File writeResourceFile = new File(CsvItemReaderWriterTest.tmpdir, writeResource);
+        final Properties params = new Properties();
+        params.setProperty("resource", moviesJsonLines.getPath());
+        params.setProperty("writeResource", writeResourceFile.getPath());
+        params.setProperty("writeMode", "overwrite");
+        params.setProperty("itemCount", "10");
+        if (start != null) {
+            params.setProperty("start", start);
+        }
+        if (end != null) {
+            params.setProperty("end", end);
+        }
+        if (threads != null) {
+            params.setProperty("threads", threads);
+        }
+        if (batchSize != null) {
+            params.setProperty("batchSize", batchSize);
+        }
+
+        final long jobExecutionId = jobOperator.start(jobName, params);
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+        assertEquals(BatchStatus.COMPLETED, jobExecution.getBatchStatus());
+        return readJsonLines(writeResourceFile);
+    }
+
+    /**
+     * Reads the JSON Lines file written by {@link JsonLinesItemWriter}, and verifies that each line is a compact
+     * Json object.
+     */
+    private static List<Map<?, ?>> readJsonLines(final File file) throws Exception {
+        final List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        final List<Map<?, ?>> items = new ArrayList<Map<?, ?>>();
+        for (final String line : lines) {
+            assertTrue(line.startsWith("{\"") && line.endsWith("}") && !line.contains("\" : "), line);
+            items.add(objectMapper.readValue(line, Map.class));
+        }
+        return items;
+    }
+}
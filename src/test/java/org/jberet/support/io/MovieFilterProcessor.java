@@ -23,8 +23,18 @@ public final class MovieFilterProcessor implements ItemProcessor {
     @BatchProperty
     private boolean filtering;
 
+    /**
+     * If set, an {@code ArithmeticException} is thrown when processing a movie of this rank.
+     */
+    @Inject
+    @BatchProperty
+    private Integer failOnRank;
+
     @Override
     public Object processItem(final Object item) throws Exception {
+        if (failOnRank != null && ((MovieBase) item).getRank() == failOnRank) {
+            throw new ArithmeticException("Movie rank matches configured failOnRank value: " + failOnRank);
+        }
         if (!filtering) {
             return item;
         }
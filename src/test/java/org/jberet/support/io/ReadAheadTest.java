@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.runtime.StepExecutionImpl;
+
+import jakarta.batch.operations.JobOperator;
+import jakarta.batch.runtime.BatchRuntime;
+import jakarta.batch.runtime.BatchStatus;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests the {@code readAhead} property of item readers. The output and checkpoint info with read-ahead should be the
+ * same as without read-ahead, including when invalid data items are skipped, and when the job execution fails and
+ * is restarted.
+ */
+public final class ReadAheadTest {
+    static final String jobName = "org.jberet.support.io.ReadAheadTest";
+    private static final int count = 100;
+    private static final String failOnTimes = "00:47";
+    private final JobOperator jobOperator = BatchRuntime.getJobOperator();
+
+    @BeforeAll
+    public static void beforeAll() throws Exception {
+        final StringBuilder csv = new StringBuilder("n,time,text\n");
+        final StringBuilder beanIO = new StringBuilder();
+        final StringBuilder json = new StringBuilder("[\n");
+        final StringBuilder xml = new StringBuilder("<times>\n");
+        for (int i = 1; i <= count; i++) {
+            final String time = String.format("%02d:%02d", i / 60, i % 60);
+            csv.append(i).append(',').append(time).append(",a b ").append(i).append('\n');
+            beanIO.append(i).append(',').append(time).append(",a b ").append(i).append('\n');
+            json.append(i == 1 ? "" : ",\n").append(String.format(
+                    "{\"n\": %d, \"time\": \"%s\", \"text\": \"a b %d\"}", i, time, i));
+            xml.append(String.format("<item><n>%d</n><time>%s</time><text>a b %d</text></item>%n", i, time, i));
+            if (i % 30 == 0) {
+                csv.append("invalid row\n");
+                beanIO.append("x,invalid,row\n");
+            }
+        }
+        json.append("\n]\n");
+        xml.append("</times>\n");
+        write("ReadAheadTest.csv", csv);
+        write("ReadAheadTest-beanio.csv", beanIO);
+        write("ReadAheadTest.json", json);
+        write("ReadAheadTest.xml", xml);
+    }
+
+    @Test
+    public void csvItemReader() throws Exception {
+        test0("csvItemReader", "ReadAheadTest.csv");
+    }
+
+    @Test
+    public void jsonItemReader() throws Exception {
+        test0("jsonItemReader", "ReadAheadTest.json");
+    }
+
+    @Test
+    public void xmlItemReader() throws Exception {
+        test0("xmlItemReader", "ReadAheadTest.xml");
+    }
+
+    @Test
+    public void beanIOItemReader() throws Exception {
+        test0("beanIOItemReader", "ReadAheadTest-beanio.csv");
+    }
+
+    /**
+     * An {@code Error} from the reader should be thrown from {@code next()}, instead of leaving it waiting for data
+     * items, and thrown again if {@code next()} is called after it.
+     */
+    @Test
+    public void readerError() throws Exception {
+        final AtomicInteger n = new AtomicInteger();
+        final ReadAheadQueue queue = new ReadAheadQueue(3, () -> {
+            if (n.incrementAndGet() > 2) {
+                throw new AssertionError("reader error");
+            }
+            return n.get();
+        }, n::get, "readerError");
+        try {
+            assertEquals(1, queue.next());
+            assertEquals(2, queue.next());
+            final Error error = assertThrows(AssertionError.class, queue::next);
+            assertEquals(2, queue.checkpointInfo());
+            assertSame(error, assertThrows(AssertionError.class, queue::next));
+        } finally {
+            queue.close();
+        }
+    }
+
+    private void test0(final String reader, final String resource) throws Exception {
+        final Properties params = new Properties();
+        params.setProperty("reader", reader);
+        params.setProperty("resource", new File(CsvItemReaderWriterTest.tmpdir, resource).getPath());
+
+        params.setProperty("readAhead", "0");
+        final File expectedFile = new File(CsvItemReaderWriterTest.tmpdir, "ReadAheadTest-" + reader + ".expected");
+        runJob(params, expectedFile, "");
+        final String expected = new String(Files.readAllBytes(expectedFile.toPath()), StandardCharsets.UTF_8);
+        assertEquals(count, expected.split("\n").length);
+        final File expectedRestartFile =
+                new File(CsvItemReaderWriterTest.tmpdir, "ReadAheadTest-" + reader + ".expected-restart");
+        final Object expectedCheckpoint = testRestart0(params, expectedRestartFile);
+
+        params.setProperty("readAhead", "7");
+        final File writeResourceFile = new File(CsvItemReaderWriterTest.tmpdir, "ReadAheadTest-" + reader + ".out");
+        runJob(params, writeResourceFile, "");
+        assertEquals(expected, new String(Files.readAllBytes(writeResourceFile.toPath()), StandardCharsets.UTF_8));
+        final File restartFile = new File(CsvItemReaderWriterTest.tmpdir, "ReadAheadTest-" + reader + ".out-restart");
+        assertEquals(String.valueOf(expectedCheckpoint), String.valueOf(testRestart0(params, restartFile)));
+        assertEquals(new String(Files.readAllBytes(expectedRestartFile.toPath()), StandardCharsets.UTF_8),
+                new String(Files.readAllBytes(restartFile.toPath()), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Runs the job to fail at {@link #failOnTimes}, and restarts it.
+     *
+     * @return the reader checkpoint info of the failed job execution
+     */
+    private Object testRestart0(final Properties params, final File writeResourceFile) throws Exception {
+        final JobExecutionImpl failure = runJob(params, writeResourceFile, failOnTimes);
+        final Object checkpoint =
+                ((StepExecutionImpl) failure.getStepExecutions().get(0)).getReaderCheckpointInfo();
+
+        final Properties restartParams = new Properties();
+        restartParams.setProperty("failOnTimes", "");
+        final long restartExecutionId = jobOperator.restart(failure.getExecutionId(), restartParams);
+        final JobExecutionImpl restartExecution = (JobExecutionImpl) jobOperator.getJobExecution(restartExecutionId);
+        restartExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+        assertEquals(BatchStatus.COMPLETED, restartExecution.getBatchStatus());
+        return checkpoint;
+    }
+
+    private JobExecutionImpl runJob(final Properties params, final File writeResourceFile, final String failOnTimes)
+            throws Exception {
+        params.setProperty("writeResource", writeResourceFile.getPath());
+        params.setProperty("failOnTimes", failOnTimes);
+        final long jobExecutionId = jobOperator.start(jobName, params);
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+        assertEquals(failOnTimes.isEmpty() ? BatchStatus.COMPLETED : BatchStatus.FAILED, jobExecution.getBatchStatus());
+        return jobExecution;
+    }
+
+    private static void write(final String resource, final CharSequence content) throws Exception {
+        Files.write(new File(CsvItemReaderWriterTest.tmpdir, resource).toPath(),
+                content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
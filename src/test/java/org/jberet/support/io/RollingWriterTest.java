@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.runtime.StepExecutionImpl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.batch.operations.JobOperator;
+import jakarta.batch.runtime.BatchRuntime;
+import jakarta.batch.runtime.BatchStatus;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests rolling over to new files in item writers, with the {@code rollRecords}, {@code rollBytes} and
+ * {@code partitionId} properties.
+ */
+public final class RollingWriterTest {
+    static final String jobName = "org.jberet.support.io.RollingWriterTest";
+    private static final File resourceFile = new File(CsvItemReaderWriterTest.tmpdir, "RollingWriterTest.jsonl");
+    private static final int count = 100;
+    private static final String header = "n,time,text";
+    private final JobOperator jobOperator = BatchRuntime.getJobOperator();
+
+    @BeforeAll
+    public static void beforeAll() throws Exception {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 1; i <= count; i++) {
+            sb.append(String.format("{\"n\": %d, \"time\": \"%02d:%02d\", \"text\": \"a b %d\"}%n",
+                    i, i / 60, i % 60, i));
+        }
+        Files.write(resourceFile.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Rolls over by number of records, with the default name template and manifest.
+     */
+    @Test
+    public void csvItemWriterRollRecords() throws Exception {
+        final File dir = newDir("csvItemWriterRollRecords");
+        final Properties params = createParams("csvItemWriter", new File(dir, "out.csv"));
+        params.setProperty("rollRecords", "30");
+        runJob(params, "");
+
+        final List<String> files = readManifest(new File(dir, "_MANIFEST"));
+        assertEquals(4, files.size());
+        int n = 0;
+        for (int i = 0; i < files.size(); i++) {
+            assertEquals(new File(dir, String.format("out-%05d.csv", i)).getPath(), files.get(i));
+            final List<String> lines = Files.readAllLines(new File(files.get(i)).toPath());
+            assertEquals(header, lines.get(0));
+            assertEquals(i < 3 ? 30 : 10, lines.size() - 1);
+            for (final String line : lines.subList(1, lines.size())) {
+                assertTrue(line.startsWith(++n + ","), line);
+            }
+        }
+        assertEquals(count, n);
+    }
+
+    /**
+     * Rolls over by number of bytes, with a name template containing the partition id and sequence number.
+     */
+    @Test
+    public void jsonItemWriterRollBytes() throws Exception {
+        final File dir = newDir("jsonItemWriterRollBytes");
+        final Properties params = createParams("jsonItemWriter", new File(dir, "part-{partition}-{sequence}.json"));
+        params.setProperty("rollBytes", "1000");
+        params.setProperty("partitionId", "3");
+        runJob(params, "");
+
+        final List<String> files = readManifest(new File(dir, "_MANIFEST-3"));
+        assertTrue(files.size() > 2, files.toString());
+        final ObjectMapper objectMapper = new ObjectMapper();
+        int n = 0;
+        for (int i = 0; i < files.size(); i++) {
+            final File file = new File(files.get(i));
+            assertEquals(String.format("part-3-%05d.json", i), file.getName());
+            if (i < files.size() - 1) {
+                assertTrue(file.length() >= 1000, file + " " + file.length());
+                assertTrue(file.length() < 1200, file + " " + file.length());
+            }
+            for (final Object item : objectMapper.readValue(file, List.class)) {
+                assertEquals(++n, ((Map<?, ?>) item).get("n"));
+            }
+        }
+        assertEquals(count, n);
+    }
+
+    /**
+     * Fails in the second file, and restarts. Any files written after the checkpoint should be deleted, and the
+     * files should be the same as without failure.
+     */
+    @Test
+    public void jacksonCsvItemWriterRestart() throws Exception {
+        final File expectedDir = newDir("jacksonCsvItemWriterRestart-expected");
+        final Properties params = createParams("jacksonCsvItemWriter", new File(expectedDir, "out.csv"));
+        params.setProperty("rollRecords", "30");
+        runJob(params, "");
+        final List<String> expectedFiles = readManifest(new File(expectedDir, "_MANIFEST"));
+        assertEquals(4, expectedFiles.size());
+
+        final File dir = newDir("jacksonCsvItemWriterRestart");
+        params.setProperty("writeResource", new File(dir, "out.csv").getPath());
+        final JobExecutionImpl failure = runJob(params, "00:47");
+        final RollingCheckpoint checkpoint = (RollingCheckpoint)
+                ((StepExecutionImpl) failure.getStepExecutions().get(0)).getWriterCheckpointInfo();
+        assertEquals(1, checkpoint.getSequence());
+        assertEquals(10, checkpoint.getFileCheckpoint().getRowNumber());
+        assertEquals(2, readManifest(new File(dir, "_MANIFEST")).size());
+
+        //simulate a file written after the last checkpoint
+        final File uncommitted = new File(dir, "out-00002.csv");
+        Files.write(uncommitted.toPath(), "uncommitted".getBytes(StandardCharsets.UTF_8));
+
+        final Properties restartParams = new Properties();
+        restartParams.setProperty("failOnTimes", "");
+        final long restartExecutionId = jobOperator.restart(failure.getExecutionId(), restartParams);
+        final JobExecutionImpl restartExecution = (JobExecutionImpl) jobOperator.getJobExecution(restartExecutionId);
+        restartExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+        assertEquals(BatchStatus.COMPLETED, restartExecution.getBatchStatus());
+
+        final List<String> files = readManifest(new File(dir, "_MANIFEST"));
+        assertEquals(expectedFiles.size(), files.size());
+        for (int i = 0; i < files.size(); i++) {
+            final List<String> lines = Files.readAllLines(new File(files.get(i)).toPath());
+            assertEquals(Files.readAllLines(new File(expectedFiles.get(i)).toPath()), lines);
+            assertEquals(header, lines.get(0));
+            assertFalse(lines.contains("uncommitted"));
+        }
+    }
+
+    /**
+     * Rolling over a compressed resource is rejected, since the writer cannot continue a compressed file from its
+     * checkpoint info during a restart.
+     */
+    @Test
+    public void jsonItemWriterRollCompressed() throws Exception {
+        final File dir = newDir("jsonItemWriterRollCompressed");
+        final Properties params = createParams("jsonItemWriter", new File(dir, "out.json.gz"));
+        params.setProperty("rollRecords", "30");
+        params.setProperty("failOnTimes", "");
+        final long jobExecutionId = jobOperator.start(jobName, params);
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+        assertEquals(BatchStatus.FAILED, jobExecution.getBatchStatus());
+        assertEquals(0, dir.list().length);
+    }
+
+    private JobExecutionImpl runJob(final Properties params, final String failOnTimes) throws Exception {
+        params.setProperty("failOnTimes", failOnTimes);
+        final long jobExecutionId = jobOperator.start(jobName, params);
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+        assertEquals(failOnTimes.isEmpty() ? BatchStatus.COMPLETED : BatchStatus.FAILED, jobExecution.getBatchStatus());
+        return jobExecution;
+    }
+
+    private static Properties createParams(final String writer, final File writeResource) {
+        final Properties params = new Properties();
+        params.setProperty("resource", resourceFile.getPath());
+        params.setProperty("writer", writer);
+        params.setProperty("writeResource", writeResource.getPath());
+        return params;
+    }
+
+    private static File newDir(final String name) throws Exception {
+        final File dir = new File(CsvItemReaderWriterTest.tmpdir, "RollingWriterTest-" + name);
+        if (dir.exists()) {
+            for (final File file : dir.listFiles()) {
+                Files.delete(file.toPath());
+            }
+        }
+        return Files.createDirectories(dir.toPath()).toFile();
+    }
+
+    private static List<String> readManifest(final File manifest) throws Exception {
+        return new ArrayList<String>(Files.readAllLines(manifest.toPath(), StandardCharsets.UTF_8));
+    }
+}
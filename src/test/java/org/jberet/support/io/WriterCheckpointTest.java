@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.runtime.StepExecutionImpl;
+
+import jakarta.batch.operations.JobOperator;
+import jakarta.batch.runtime.BatchRuntime;
+import jakarta.batch.runtime.BatchStatus;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests restarting file-based item writers from {@link OffsetCheckpoint}. For each writer, the output of a failed
+ * and restarted job execution should be the same as the output of a job execution without failure.
+ */
+public final class WriterCheckpointTest {
+    static final String jobName = "org.jberet.support.io.WriterCheckpointTest";
+    private static final File resourceFile = new File(CsvItemReaderWriterTest.tmpdir, "WriterCheckpointTest.jsonl");
+    private final JobOperator jobOperator = BatchRuntime.getJobOperator();
+
+    @BeforeAll
+    public static void beforeAll() throws Exception {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 1; i <= 23; i++) {
+            sb.append(String.format("{\"n\": %d, \"time\": \"09:%02d\", \"text\": \"a, \\\"b\\\" <c> & d\"}%n", i, i));
+        }
+        Files.write(resourceFile.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void jsonItemWriter() throws Exception {
+        testRestart0("jsonItemWriter", "overwrite");
+    }
+
+    @Test
+    public void jsonItemWriterAppend() throws Exception {
+        testRestart0("jsonItemWriter", "append");
+    }
+
+    @Test
+    public void jsonLinesItemWriter() throws Exception {
+        testRestart0("jsonLinesItemWriter", "append");
+    }
+
+    @Test
+    public void xmlItemWriter() throws Exception {
+        testRestart0("xmlItemWriter", "overwrite");
+    }
+
+    @Test
+    public void jacksonCsvItemWriter() throws Exception {
+        testRestart0("jacksonCsvItemWriter", "overwrite");
+    }
+
+    @Test
+    public void beanIOItemWriter() throws Exception {
+        testRestart0("beanIOItemWriter", "overwrite");
+    }
+
+    private void testRestart0(final String writer, final String writeMode) throws Exception {
+        final File expectedFile = new File(CsvItemReaderWriterTest.tmpdir, "WriterCheckpointTest-" + writer + ".expected");
+        final File writeResourceFile = new File(CsvItemReaderWriterTest.tmpdir, "WriterCheckpointTest-" + writer + ".out");
+        final byte[] existingContent = "existing content\n".getBytes(StandardCharsets.UTF_8);
+        Files.write(expectedFile.toPath(), existingContent);
+        Files.write(writeResourceFile.toPath(), existingContent);
+
+        final Properties params = new Properties();
+        params.setProperty("resource", resourceFile.getPath());
+        params.setProperty("writer", writer);
+        params.setProperty("writeMode", writeMode);
+        params.setProperty("writeResource", expectedFile.getPath());
+        params.setProperty("failOnTimes", "");
+        long jobExecutionId = jobOperator.start(jobName, params);
+        JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+        assertEquals(BatchStatus.COMPLETED, jobExecution.getBatchStatus());
+
+        params.setProperty("writeResource", writeResourceFile.getPath());
+        params.setProperty("failOnTimes", "09:13");
+        jobExecutionId = jobOperator.start(jobName, params);
+        jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+        assertEquals(BatchStatus.FAILED, jobExecution.getBatchStatus());
+        final StepExecutionImpl stepExecution = (StepExecutionImpl) jobExecution.getStepExecutions().get(0);
+        assertEquals(10, ((OffsetCheckpoint) stepExecution.getWriterCheckpointInfo()).getRowNumber());
+
+        //simulate partial output written after the last checkpoint
+        Files.write(writeResourceFile.toPath(), "partial".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        final Properties restartParams = new Properties();
+        restartParams.setProperty("failOnTimes", "");
+        final long restartExecutionId = jobOperator.restart(jobExecutionId, restartParams);
+        final JobExecutionImpl restartExecution = (JobExecutionImpl) jobOperator.getJobExecution(restartExecutionId);
+        restartExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+        assertEquals(BatchStatus.COMPLETED, restartExecution.getBatchStatus());
+
+        assertEquals(new String(Files.readAllBytes(expectedFile.toPath()), StandardCharsets.UTF_8),
+                new String(Files.readAllBytes(writeResourceFile.toPath()), StandardCharsets.UTF_8));
+    }
+}